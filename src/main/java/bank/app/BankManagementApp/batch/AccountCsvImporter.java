@@ -0,0 +1,220 @@
+package bank.app.BankManagementApp.batch;
+
+import bank.app.BankManagementApp.config.ShardRoutingDataSource;
+import bank.app.BankManagementApp.service.AccountNumberGenerator;
+import bank.app.BankManagementApp.service.AccountsImportedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Bulk import of accounts from CSV with columns {@code accountHolderName,accountBalance}
+ * (a header row with those names is optional).
+ *
+ * The input is parsed line by line and valid rows are inserted with JDBC batch statements, one
+ * transaction per {@code bank.import.chunk-size} rows, bypassing Hibernate entity handling. Invalid
+ * rows are skipped and reported with their line number. A chunk that fails to insert is rolled back on its
+ * own and its rows are reported as rejected; earlier and later chunks are unaffected. With sharding, chunks
+ * are spread round-robin across the shards and numbered by the shard they are inserted on.
+ * Imported accounts do not publish individual {@code AccountEvent}s; one {@link AccountsImportedEvent}
+ * is published per import instead.
+ */
+@Component
+public class AccountCsvImporter {
+
+    private static final String INSERT_SQL =
+            "insert into account (account_number, account_holder_name, account_balance) values (?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private AccountNumberGenerator accountNumberGenerator;
+
+    @Autowired
+    private ObjectProvider<ShardRoutingDataSource> shardRouting;
+
+    @Value("${bank.import.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${bank.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public AccountImportReport importCsv(Reader input) throws IOException {
+        return importCsv(input, chunkSize);
+    }
+
+    public AccountImportReport importCsv(Reader input, int chunkSize) throws IOException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        long started = System.currentTimeMillis();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        BufferedReader reader = input instanceof BufferedReader buffered ? buffered : new BufferedReader(input, 65536);
+
+        List<Object[]> batch = new ArrayList<>(chunkSize);
+        List<AccountImportReport.RowError> errors = new ArrayList<>();
+        long lineNumber = 0;
+        long rowsRead = 0;
+        long imported = 0;
+        int chunks = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || lineNumber == 1 && isHeader(line)) {
+                continue;
+            }
+            rowsRead++;
+            try {
+                Object[] row = parseRow(line);
+                batch.add(new Object[]{row[0], row[1], lineNumber});
+            } catch (IllegalArgumentException e) {
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(new AccountImportReport.RowError(lineNumber, e.getMessage()));
+                }
+                continue;
+            }
+            if (batch.size() >= chunkSize) {
+                imported += flush(tx, batch, chunks++ % shardCount(), errors);
+            }
+        }
+        imported += flush(tx, batch, chunks % shardCount(), errors);
+        if (imported > 0) {
+            eventPublisher.publishEvent(new AccountsImportedEvent(imported));
+        }
+
+        long elapsed = System.currentTimeMillis() - started;
+        return new AccountImportReport(rowsRead, imported, rowsRead - imported, errors, elapsed,
+                elapsed == 0 ? imported : imported * 1000.0 / elapsed);
+    }
+
+    // Inserts the chunk on the given shard; on failure its rows are reported as rejected and 0 is returned
+    private int flush(TransactionTemplate tx, List<Object[]> batch, int shard,
+                      List<AccountImportReport.RowError> errors) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        BatchPreparedStatementSetter rows = new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Object[] row = batch.get(i);
+                ps.setLong(1, accountNumberGenerator.next());
+                ps.setString(2, (String) row[0]);
+                ps.setDouble(3, (Double) row[1]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        };
+        try {
+            onShard(shard, () -> tx.execute(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows)));
+        } catch (DataAccessException | TransactionException e) {
+            String message = "Chunk not imported: " + e.getMostSpecificCause().getMessage();
+            for (Object[] row : batch) {
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(new AccountImportReport.RowError((Long) row[2], message));
+                }
+            }
+            batch.clear();
+            return 0;
+        }
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private int shardCount() {
+        ShardRoutingDataSource shards = shardRouting.getIfAvailable();
+        return shards == null ? 1 : shards.getShardCount();
+    }
+
+    private <T> T onShard(int shard, Supplier<T> work) {
+        return shardRouting.getIfAvailable() == null ? work.get() : ShardRoutingDataSource.callOnShard(shard, work);
+    }
+
+    private static boolean isHeader(String line) {
+        return line.replace("\"", "").replace(" ", "").equalsIgnoreCase("accountHolderName,accountBalance");
+    }
+
+    static Object[] parseRow(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != 2) {
+            throw new IllegalArgumentException("Expected 2 columns but found " + fields.size());
+        }
+        String name = fields.get(0).strip();
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Account holder name is required");
+        }
+        if (name.length() > 255) {
+            throw new IllegalArgumentException("Account holder name is longer than 255 characters");
+        }
+        double balance;
+        try {
+            balance = Double.parseDouble(fields.get(1).strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid balance: " + fields.get(1).strip());
+        }
+        if (!Double.isFinite(balance) || balance < 0) {
+            throw new IllegalArgumentException("Invalid balance: " + fields.get(1).strip());
+        }
+        return new Object[]{name, balance};
+    }
+
+    // RFC 4180 fields on a single line: optional double quotes, "" escapes a quote inside a quoted field
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(2);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,14 @@
+package bank.app.BankManagementApp.batch;
+
+import java.util.List;
+
+/**
+ * Outcome of a CSV account import. {@code errors} holds at most {@code bank.import.max-reported-errors}
+ * entries; {@code rowsRejected} is always the full count.
+ */
+public record AccountImportReport(long rowsRead, long rowsImported, long rowsRejected, List<RowError> errors,
+                                  long elapsedMillis, double rowsPerSecond) {
+
+    public record RowError(long line, String message) {
+    }
+}
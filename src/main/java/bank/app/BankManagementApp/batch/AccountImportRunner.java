@@ -0,0 +1,51 @@
+package bank.app.BankManagementApp.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line import: {@code java -jar app.jar --import-accounts=accounts.csv --spring.main.web-application-type=none}.
+ * Imports the file, logs the report and exits with status 0, or 1 when any row was rejected.
+ */
+@Component
+public class AccountImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountImportRunner.class);
+
+    static final String OPTION = "import-accounts";
+
+    @Autowired
+    private AccountCsvImporter importer;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+        Path file = Path.of(args.getOptionValues(OPTION).get(0));
+        AccountImportReport report;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            report = importer.importCsv(reader);
+        }
+        log.info("Imported {} of {} rows from {} in {} ms ({} rows/s), {} rejected", report.rowsImported(),
+                report.rowsRead(), file, report.elapsedMillis(), Math.round(report.rowsPerSecond()),
+                report.rowsRejected());
+        report.errors().forEach(error -> log.warn("Line {}: {}", error.line(), error.message()));
+        int exitCode = report.rowsRejected() == 0 ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
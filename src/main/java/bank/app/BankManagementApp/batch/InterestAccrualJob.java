@@ -0,0 +1,206 @@
+package bank.app.BankManagementApp.batch;
+
+import bank.app.BankManagementApp.config.ShardRoutingDataSource;
+import bank.app.BankManagementApp.entity.InterestCheckpoint;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import bank.app.BankManagementApp.repository.InterestCheckpointRepository;
+import bank.app.BankManagementApp.service.AccountNearCache;
+import bank.app.BankManagementApp.service.InterestAccruedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.Supplier;
+
+/**
+ * Monthly interest accrual as chunked, set-based UPDATEs over account number ranges.
+ *
+ * Each chunk is a single {@code UPDATE ... WHERE account_number BETWEEN ? AND ?} committed together
+ * with its {@link InterestCheckpoint}, so a rerun for the same period resumes where it stopped. The
+ * schedule fires on every instance; the checkpoint's primary key lets only one of them credit a chunk.
+ * Chunks are aligned to multiples of their span rather than to the current lowest account, so a rerun
+ * finds the same chunks even after accounts have been closed. With sharding enabled every shard is
+ * accrued, each keeping its own checkpoints. A small worker pool and a pause between chunks keep the
+ * job from starving online traffic.
+ */
+@Component
+public class InterestAccrualJob {
+
+    private static final Logger log = LoggerFactory.getLogger(InterestAccrualJob.class);
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private InterestCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectProvider<AccountNearCache> nearCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectProvider<ShardRoutingDataSource> shardRouting;
+
+    @Value("${bank.interest.annual-rate:0.02}")
+    private double annualRate;
+
+    @Value("${bank.interest.chunk-size:10000}")
+    private long chunkSize;
+
+    @Value("${bank.interest.worker-threads:2}")
+    private int workerThreads;
+
+    @Value("${bank.interest.pause-between-chunks-ms:50}")
+    private long pauseBetweenChunksMillis;
+
+    @Scheduled(cron = "${bank.interest.cron:0 0 2 1 * *}")
+    public void accrueForPreviousMonth() {
+        InterestAccrualReport report = run(YearMonth.now().minusMonths(1), false);
+        log.info("Interest accrual finished: {}", report);
+    }
+
+    public InterestAccrualReport run(YearMonth period, boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("An interest accrual run is already in progress");
+        }
+        long updated = 0;
+        try {
+            InterestAccrualReport report = execute(period.toString(), dryRun);
+            updated = report.accountsUpdated();
+            return report;
+        } finally {
+            // Set-based UPDATEs publish no per-account events; also after a failed run, whose chunks may have committed
+            if (!dryRun) {
+                nearCache.ifAvailable(AccountNearCache::invalidateEverywhere);
+                eventPublisher.publishEvent(new InterestAccruedEvent(period.toString(), updated));
+            }
+            running.set(false);
+        }
+    }
+
+    private InterestAccrualReport execute(String period, boolean dryRun) {
+        long started = System.currentTimeMillis();
+        double monthlyRate = annualRate / 12;
+        BlockingQueue<Chunk> pending = new LinkedBlockingQueue<>();
+        AtomicInteger skipped = new AtomicInteger();
+        // Numbers end in a check digit, so a range of chunkSize accounts spans ten times as many numbers
+        long span = chunkSize * 10;
+        for (int shard = 0; shard < shardCount(); shard++) {
+            Long min = onShard(shard, accountRepository::findMinAccountNumber);
+            Long max = onShard(shard, accountRepository::findMaxAccountNumber);
+            if (min == null) {
+                continue;
+            }
+            Set<Long> completed = dryRun ? Set.of()
+                    : new HashSet<>(onShard(shard, () -> checkpointRepository.findCompletedChunkStarts(period)));
+            for (long start = Math.floorDiv(min, span) * span; start <= max; start += span) {
+                if (completed.contains(start)) {
+                    skipped.incrementAndGet();
+                } else {
+                    pending.add(new Chunk(shard, start, Math.min(start + span - 1, max)));
+                }
+            }
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(dryRun);
+        AtomicInteger processed = new AtomicInteger();
+        AtomicLong accounts = new AtomicLong();
+        DoubleAdder accrued = new DoubleAdder();
+
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, workerThreads));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < Math.max(1, workerThreads); i++) {
+                futures.add(workers.submit(() -> {
+                    Chunk chunk;
+                    while ((chunk = pending.poll()) != null) {
+                        long start = chunk.start();
+                        long end = chunk.end();
+                        try {
+                            onShard(chunk.shard(), () -> tx.execute(status -> {
+                                // The checkpoint goes in first: a chunk another node is running or has run
+                                // fails here, before its accounts are touched
+                                InterestCheckpoint checkpoint = dryRun ? null : checkpointRepository.saveAndFlush(
+                                        new InterestCheckpoint(period, start, end, 0, 0.0, Instant.now()));
+                                double interest = accountRepository.sumInterestInRange(start, end, monthlyRate);
+                                int updated = 0;
+                                if (!dryRun) {
+                                    updated = accountRepository.applyInterestInRange(start, end, monthlyRate);
+                                    checkpoint.completed(updated, interest, Instant.now());
+                                }
+                                accounts.addAndGet(updated);
+                                accrued.add(interest);
+                                return null;
+                            }));
+                            processed.incrementAndGet();
+                        } catch (DataIntegrityViolationException e) {
+                            log.info("Interest chunk {}:{} already checkpointed elsewhere, skipping", period, start);
+                            skipped.incrementAndGet();
+                        }
+                        pause();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interest accrual interrupted", e);
+        } catch (ExecutionException e) {
+            // Completed chunks are checkpointed; rerunning the period resumes from the failed chunk
+            throw new IllegalStateException("Interest accrual failed for " + period, e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+
+        return new InterestAccrualReport(period, dryRun, monthlyRate, processed.get(), skipped.get(), accounts.get(),
+                Math.round(accrued.sum() * 100) / 100.0, System.currentTimeMillis() - started);
+    }
+
+    private int shardCount() {
+        ShardRoutingDataSource shards = shardRouting.getIfAvailable();
+        return shards == null ? 1 : shards.getShardCount();
+    }
+
+    private <T> T onShard(int shard, Supplier<T> work) {
+        return shardRouting.getIfAvailable() == null ? work.get() : ShardRoutingDataSource.callOnShard(shard, work);
+    }
+
+    private record Chunk(int shard, long start, long end) {
+    }
+
+    private void pause() throws InterruptedException {
+        if (pauseBetweenChunksMillis > 0) {
+            Thread.sleep(pauseBetweenChunksMillis);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package bank.app.BankManagementApp.batch;
+
+/**
+ * Outcome of one interest accrual run. {@code totalAccrued} covers the chunks processed by this run;
+ * chunks already checkpointed by an earlier attempt are only counted in {@code chunksSkipped}.
+ */
+public record InterestAccrualReport(String period, boolean dryRun, double monthlyRate, int chunksProcessed,
+                                    int chunksSkipped, long accountsUpdated, double totalAccrued, long elapsedMillis) {
+}
@@ -0,0 +1,85 @@
+package bank.app.BankManagementApp.batch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends pre-compressed chunks to {@code statements-<period>-NNNNN.txt.gz} files through a
+ * {@link FileChannel}, starting a new file once the current one reaches {@code maxFileBytes}.
+ *
+ * Every chunk is a complete gzip member, and concatenated members form a valid gzip file, so chunks
+ * can be compressed in parallel and written as-is. Files are written as {@code .part} and renamed
+ * when they roll, so readers never see a half-written file under its final name.
+ */
+class RollingStatementWriter implements AutoCloseable {
+
+    private final Path directory;
+    private final String prefix;
+    private final long maxFileBytes;
+    private final StatementProgress progress;
+
+    private FileChannel channel;
+    private Path partFile;
+    private long currentFileBytes;
+    private int fileIndex;
+
+    RollingStatementWriter(Path directory, String prefix, long maxFileBytes, StatementProgress progress) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.maxFileBytes = maxFileBytes;
+        this.progress = progress;
+    }
+
+    void write(byte[] compressedChunk, int statements) throws IOException {
+        if (channel != null && currentFileBytes >= maxFileBytes) {
+            roll();
+        }
+        if (channel == null) {
+            open();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(compressedChunk);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        currentFileBytes += compressedChunk.length;
+        progress.chunkWritten(statements, compressedChunk.length);
+    }
+
+    private void open() throws IOException {
+        fileIndex++;
+        partFile = directory.resolve(String.format("%s-%05d.txt.gz.part", prefix, fileIndex));
+        channel = FileChannel.open(partFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        currentFileBytes = 0;
+    }
+
+    private void roll() throws IOException {
+        channel.force(false);
+        channel.close();
+        channel = null;
+        String name = partFile.getFileName().toString();
+        Files.move(partFile, partFile.resolveSibling(name.substring(0, name.length() - ".part".length())),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        progress.fileCompleted();
+    }
+
+    // Leaves the current file as .part after a failed run
+    void abort() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            roll();
+        }
+    }
+}
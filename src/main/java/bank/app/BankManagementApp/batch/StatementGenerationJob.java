@@ -0,0 +1,253 @@
+package bank.app.BankManagementApp.batch;
+
+import bank.app.BankManagementApp.config.ShardRoutingDataSource;
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.entity.WithdrawalRecord;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import bank.app.BankManagementApp.repository.WithdrawalRecordRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * End-of-period statement generation.
+ *
+ * Accounts are read in primary-key chunks (keyset pagination, one short read-only transaction per
+ * chunk), each chunk is rendered and gzip-compressed as a task on a {@link ForkJoinPool}, and the
+ * compressed chunks are appended in account order to rolling output files by
+ * {@link RollingStatementWriter}. At most {@code max-chunks-in-flight} chunks are held in memory at
+ * once, so memory stays bounded regardless of the number of accounts. With sharding enabled the
+ * shards are read one after another, so statements are in account order within each shard.
+ */
+@Component
+public class StatementGenerationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementGenerationJob.class);
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "statement-generation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicReference<StatementProgress> current = new AtomicReference<>();
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private WithdrawalRecordRepository withdrawalRecordRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectProvider<ShardRoutingDataSource> shardRouting;
+
+    @Value("${bank.statements.output-dir:statements}")
+    private Path outputDir;
+
+    @Value("${bank.statements.chunk-size:1000}")
+    private int chunkSize;
+
+    // 0 uses one render thread per available processor
+    @Value("${bank.statements.render-parallelism:0}")
+    private int renderParallelism;
+
+    @Value("${bank.statements.max-chunks-in-flight:8}")
+    private int maxChunksInFlight;
+
+    @Value("${bank.statements.max-file-bytes:67108864}")
+    private long maxFileBytes;
+
+    // Starts a run in the background and returns its progress; only one run at a time
+    public StatementProgress start(YearMonth period) {
+        StatementProgress progress = begin(period);
+        runner.submit(() -> generate(period, progress));
+        return progress;
+    }
+
+    public StatementProgress run(YearMonth period) {
+        StatementProgress progress = begin(period);
+        generate(period, progress);
+        return progress;
+    }
+
+    public StatementProgress getProgress() {
+        return current.get();
+    }
+
+    private StatementProgress begin(YearMonth period) {
+        long totalAccounts = 0;
+        for (int shard = 0; shard < shardCount(); shard++) {
+            totalAccounts += onShard(shard, accountRepository::count);
+        }
+        StatementProgress progress = new StatementProgress(period.toString(), totalAccounts);
+        StatementProgress previous = current.get();
+        if (previous != null && previous.getState() == StatementProgress.State.RUNNING
+                || !current.compareAndSet(previous, progress)) {
+            throw new IllegalStateException("A statement generation run is already in progress");
+        }
+        return progress;
+    }
+
+    private void generate(YearMonth period, StatementProgress progress) {
+        Instant from = period.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant to = period.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        int parallelism = renderParallelism > 0 ? renderParallelism : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool renderPool = new ForkJoinPool(parallelism);
+        TransactionTemplate readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+
+        RollingStatementWriter writer = null;
+        try {
+            Path directory = Files.createDirectories(outputDir.resolve(period.toString()));
+            deletePreviousOutput(directory);
+            writer = new RollingStatementWriter(directory, "statements-" + period, maxFileBytes, progress);
+
+            Deque<CompletableFuture<RenderedChunk>> inFlight = new ArrayDeque<>();
+            for (int shard = 0; shard < shardCount(); shard++) {
+                long after = 0;
+                while (true) {
+                    long afterAccount = after;
+                    Chunk chunk = onShard(shard, () -> readTx.execute(status -> readChunk(afterAccount, from, to)));
+                    if (chunk.accounts().isEmpty()) {
+                        break;
+                    }
+                    after = chunk.accounts().get(chunk.accounts().size() - 1).getAccountNumber();
+
+                    if (inFlight.size() >= Math.max(1, maxChunksInFlight)) {
+                        RenderedChunk rendered = inFlight.removeFirst().join();
+                        writer.write(rendered.compressed(), rendered.statements());
+                    }
+                    inFlight.addLast(CompletableFuture.supplyAsync(
+                            () -> render(period, chunk), renderPool));
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                RenderedChunk rendered = inFlight.removeFirst().join();
+                writer.write(rendered.compressed(), rendered.statements());
+            }
+            writer.close();
+            progress.completed();
+            log.info("Generated {} statements for {} in {} ms ({} files)", progress.getStatementsWritten(),
+                    period, progress.getElapsedMillis(), progress.getFilesWritten());
+        } catch (RuntimeException | IOException e) {
+            progress.failed(e);
+            log.error("Statement generation for {} failed", period, e);
+            if (writer != null) {
+                try {
+                    writer.abort();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+        } finally {
+            renderPool.shutdownNow();
+        }
+    }
+
+    private Chunk readChunk(long afterAccount, Instant from, Instant to) {
+        List<Account> accounts = accountRepository.findChunkAfter(afterAccount, PageRequest.ofSize(chunkSize));
+        if (accounts.isEmpty()) {
+            return new Chunk(accounts, Map.of());
+        }
+        Map<Long, List<WithdrawalRecord>> withdrawals = withdrawalRecordRepository
+                .findForAccountsInPeriod(accounts.get(0).getAccountNumber(),
+                        accounts.get(accounts.size() - 1).getAccountNumber(), from, to)
+                .stream()
+                .collect(Collectors.groupingBy(WithdrawalRecord::getAccountNumber));
+        return new Chunk(accounts, withdrawals);
+    }
+
+    private static RenderedChunk render(YearMonth period, Chunk chunk) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(chunk.accounts().size() * 128);
+        try (Writer out = new OutputStreamWriter(new GZIPOutputStream(bytes, 8192), StandardCharsets.UTF_8)) {
+            for (Account account : chunk.accounts()) {
+                renderStatement(out, period, account,
+                        chunk.withdrawals().getOrDefault(account.getAccountNumber(), List.of()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new RenderedChunk(bytes.toByteArray(), chunk.accounts().size());
+    }
+
+    // The closing balance is the balance at generation time, so runs are expected right after period end
+    private static void renderStatement(Writer out, YearMonth period, Account account, List<WithdrawalRecord> withdrawals)
+            throws IOException {
+        out.write("STATEMENT " + period + "\n");
+        out.write("Account: " + account.getAccountNumber() + "\n");
+        out.write("Holder: " + account.getAccountHolderName() + "\n");
+        double withdrawn = 0;
+        for (WithdrawalRecord withdrawal : withdrawals) {
+            out.write(String.format(Locale.ROOT, "  %s  withdrawal  %.2f\n", withdrawal.getCreatedAt(),
+                    withdrawal.getAmount()));
+            withdrawn += withdrawal.getAmount();
+        }
+        out.write(String.format(Locale.ROOT, "Total withdrawn: %.2f\n", withdrawn));
+        out.write(String.format(Locale.ROOT, "Closing balance: %.2f\n", account.getAccountBalance()));
+        out.write("----\n");
+    }
+
+    private static void deletePreviousOutput(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "statements-*")) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private int shardCount() {
+        ShardRoutingDataSource shards = shardRouting.getIfAvailable();
+        return shards == null ? 1 : shards.getShardCount();
+    }
+
+    private <T> T onShard(int shard, Supplier<T> work) {
+        return shardRouting.getIfAvailable() == null ? work.get() : ShardRoutingDataSource.callOnShard(shard, work);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+    }
+
+    private record Chunk(List<Account> accounts, Map<Long, List<WithdrawalRecord>> withdrawals) {
+    }
+
+    private record RenderedChunk(byte[] compressed, int statements) {
+    }
+}
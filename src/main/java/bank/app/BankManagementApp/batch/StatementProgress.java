@@ -0,0 +1,89 @@
+package bank.app.BankManagementApp.batch;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live progress of one statement generation run. Counters are updated by the pipeline as each
+ * chunk is written and can be read at any time, e.g. through {@code GET /batch/statements/progress}.
+ */
+public class StatementProgress {
+
+    public enum State { RUNNING, COMPLETED, FAILED }
+
+    private final String period;
+    private final long totalAccounts;
+    private final long startedAt = System.currentTimeMillis();
+    private final AtomicLong statementsWritten = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong filesWritten = new AtomicLong();
+    private volatile State state = State.RUNNING;
+    private volatile long finishedAt;
+    private volatile String error;
+
+    StatementProgress(String period, long totalAccounts) {
+        this.period = period;
+        this.totalAccounts = totalAccounts;
+    }
+
+    void chunkWritten(int statements, long bytes) {
+        statementsWritten.addAndGet(statements);
+        bytesWritten.addAndGet(bytes);
+    }
+
+    void fileCompleted() {
+        filesWritten.incrementAndGet();
+    }
+
+    void completed() {
+        finishedAt = System.currentTimeMillis();
+        state = State.COMPLETED;
+    }
+
+    void failed(Throwable cause) {
+        finishedAt = System.currentTimeMillis();
+        error = cause.getMessage();
+        state = State.FAILED;
+    }
+
+    public String getPeriod() {
+        return period;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public long getTotalAccounts() {
+        return totalAccounts;
+    }
+
+    public long getStatementsWritten() {
+        return statementsWritten.get();
+    }
+
+    // Compressed bytes written to the output files
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    public long getFilesWritten() {
+        return filesWritten.get();
+    }
+
+    public long getElapsedMillis() {
+        return (finishedAt == 0 ? System.currentTimeMillis() : finishedAt) - startedAt;
+    }
+
+    public double getStatementsPerSecond() {
+        long elapsed = getElapsedMillis();
+        return elapsed == 0 ? 0 : statementsWritten.get() * 1000.0 / elapsed;
+    }
+
+    public double getPercentComplete() {
+        return totalAccounts == 0 ? 100 : Math.min(100, statementsWritten.get() * 100.0 / totalAccounts);
+    }
+}
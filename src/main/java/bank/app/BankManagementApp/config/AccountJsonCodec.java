@@ -0,0 +1,122 @@
+package bank.app.BankManagementApp.config;
+
+import bank.app.BankManagementApp.entity.Account;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Hand-written JSON codec for {@link Account}. Produces exactly the bytes of Jackson's default
+ * bean serializer, but writes the three fields directly instead of going through reflective
+ * property accessors and per-value serializer lookups for the boxed {@code Long}/{@code Double}.
+ */
+@JsonComponent
+public class AccountJsonCodec {
+
+    static final String ACCOUNT_NUMBER = "accountNumber";
+    static final String ACCOUNT_HOLDER_NAME = "accountHolderName";
+    static final String ACCOUNT_BALANCE = "accountBalance";
+
+    // Pre-encoded names let the generator copy the quoted bytes instead of escaping on every write
+    private static final SerializableString ACCOUNT_NUMBER_NAME = new SerializedString(ACCOUNT_NUMBER);
+    private static final SerializableString ACCOUNT_HOLDER_NAME_NAME = new SerializedString(ACCOUNT_HOLDER_NAME);
+    private static final SerializableString ACCOUNT_BALANCE_NAME = new SerializedString(ACCOUNT_BALANCE);
+
+    public static class Serializer extends JsonSerializer<Account> {
+
+        @Override
+        public void serialize(Account account, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject(account);
+
+            gen.writeFieldName(ACCOUNT_NUMBER_NAME);
+            Long accountNumber = account.getAccountNumber();
+            if (accountNumber == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(accountNumber.longValue());
+            }
+
+            gen.writeFieldName(ACCOUNT_HOLDER_NAME_NAME);
+            gen.writeString(account.getAccountHolderName());
+
+            gen.writeFieldName(ACCOUNT_BALANCE_NAME);
+            Double accountBalance = account.getAccountBalance();
+            if (accountBalance == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(accountBalance.doubleValue());
+            }
+
+            gen.writeEndObject();
+        }
+
+        @Override
+        public Class<Account> handledType() {
+            return Account.class;
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Account> {
+
+        @Override
+        public Account deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return (Account) ctxt.handleUnexpectedToken(Account.class, p);
+            }
+
+            Account account = new Account();
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String name = p.currentName();
+                JsonToken value = p.nextToken();
+                switch (name) {
+                    case ACCOUNT_NUMBER -> account.setAccountNumber(readLong(p, ctxt, value));
+                    case ACCOUNT_HOLDER_NAME -> account.setAccountHolderName(
+                            value == JsonToken.VALUE_STRING ? p.getText() : readFallback(p, ctxt, value, String.class));
+                    case ACCOUNT_BALANCE -> account.setAccountBalance(readDouble(p, ctxt, value));
+                    default -> ctxt.handleUnknownProperty(p, this, Account.class, name);
+                }
+            }
+            return account;
+        }
+
+        private static Long readLong(JsonParser p, DeserializationContext ctxt, JsonToken value) throws IOException {
+            if (value == JsonToken.VALUE_NUMBER_INT && p.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                return p.getLongValue();
+            }
+            return readFallback(p, ctxt, value, Long.class);
+        }
+
+        private static Double readDouble(JsonParser p, DeserializationContext ctxt, JsonToken value) throws IOException {
+            if (value == JsonToken.VALUE_NUMBER_FLOAT || value == JsonToken.VALUE_NUMBER_INT) {
+                return p.getDoubleValue();
+            }
+            return readFallback(p, ctxt, value, Double.class);
+        }
+
+        // Nulls, quoted numbers and other coercions keep the standard databind semantics
+        private static <T> T readFallback(JsonParser p, DeserializationContext ctxt, JsonToken value, Class<T> type)
+                throws IOException {
+            if (value == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            return ctxt.readValue(p, type);
+        }
+
+        @Override
+        public Class<?> handledType() {
+            return Account.class;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package bank.app.BankManagementApp.config;
+
+import bank.app.BankManagementApp.service.BulkCloseResult;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends single-account mutations to the account's owner in the {@link ClusterMembership} ring.
+ *
+ * A forwarded request carries {@link #FORWARDED_BY} and is always handled by the receiver, so instances whose
+ * ring views briefly disagree cannot bounce a request around. If the owner refuses the connection the request
+ * is handled locally: the database row lock still serialises it, only the single-writer property is lost. If the
+ * owner accepted it but did not answer, the outcome is unknown and the caller gets {@code 504}. A bulk close is
+ * split by owner and each part is sent to its owner the same way.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bank.cluster", name = "enabled", havingValue = "true")
+public class AccountOwnership {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountOwnership.class);
+
+    public static final String FORWARDED_BY = "X-Bank-Forwarded-By";
+    public static final String HANDLED_BY = "X-Bank-Handled-By";
+
+    private final ClusterMembership membership;
+    private final RestClient restClient;
+    private final LongAdder forwarded = new LongAdder();
+
+    public AccountOwnership(ClusterMembership membership,
+                            @Value("${bank.cluster.forward-timeout-ms:2000}") long forwardTimeoutMillis) {
+        this.membership = membership;
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(forwardTimeoutMillis))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(forwardTimeoutMillis));
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    /** The owner's response if {@code accountNumber} belongs to another instance, otherwise empty. */
+    public Optional<ResponseEntity<byte[]>> forwardIfNotOwned(Long accountNumber, HttpServletRequest request) {
+        if (request.getHeader(FORWARDED_BY) != null) {
+            return Optional.empty();
+        }
+        ClusterMembership.Member owner = membership.ownerOf(accountNumber);
+        if (owner.nodeId().equals(membership.getNodeId())) {
+            return Optional.empty();
+        }
+        String query = request.getQueryString();
+        URI uri = URI.create(owner.baseUrl() + request.getRequestURI() + (query != null ? "?" + query : ""));
+        try {
+            ResponseEntity<byte[]> response = restClient.method(HttpMethod.valueOf(request.getMethod()))
+                    .uri(uri)
+                    .headers(headers -> {
+                        copyHeader(request, headers, HttpHeaders.ACCEPT);
+                        headers.set(FORWARDED_BY, membership.getNodeId());
+                    })
+                    .retrieve()
+                    // Relay the owner's errors as they are
+                    .onStatus(status -> true, (req, res) -> { })
+                    .toEntity(byte[].class);
+            forwarded.increment();
+            HttpHeaders headers = new HttpHeaders();
+            if (response.getHeaders().getContentType() != null) {
+                headers.setContentType(response.getHeaders().getContentType());
+            }
+            // The owner's limiter rejects with 503 and a back-off hint
+            if (response.getHeaders().containsKey(HttpHeaders.RETRY_AFTER)) {
+                headers.put(HttpHeaders.RETRY_AFTER, response.getHeaders().get(HttpHeaders.RETRY_AFTER));
+            }
+            headers.set(HANDLED_BY, owner.nodeId());
+            return Optional.of(new ResponseEntity<>(response.getBody(), headers, response.getStatusCode()));
+        } catch (ResourceAccessException e) {
+            if (!neverSent(e)) {
+                // The owner may have applied it; handling it here too could apply a deposit twice
+                throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Account owner did not respond", e);
+            }
+            log.warn("Owner {} of account {} is unreachable, handling the request locally", owner, accountNumber, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Closes each owner's share of {@code accountNumbers} on that owner and this instance's share (plus that of
+     * unreachable owners) with {@code closeLocally}, and merges the results.
+     */
+    public BulkCloseResult closeOnOwners(List<Long> accountNumbers, HttpServletRequest request,
+                                         Function<List<Long>, BulkCloseResult> closeLocally) {
+        if (request.getHeader(FORWARDED_BY) != null) {
+            return closeLocally.apply(accountNumbers);
+        }
+        Map<ClusterMembership.Member, List<Long>> byOwner = new LinkedHashMap<>();
+        for (Long accountNumber : accountNumbers) {
+            byOwner.computeIfAbsent(membership.ownerOf(accountNumber), k -> new ArrayList<>()).add(accountNumber);
+        }
+        List<Long> local = new ArrayList<>();
+        List<BulkCloseResult> results = new ArrayList<>();
+        for (Map.Entry<ClusterMembership.Member, List<Long>> part : byOwner.entrySet()) {
+            ClusterMembership.Member owner = part.getKey();
+            if (owner.nodeId().equals(membership.getNodeId())) {
+                local.addAll(part.getValue());
+            } else {
+                closeOnOwner(owner, part.getValue(), request).ifPresentOrElse(results::add,
+                        () -> local.addAll(part.getValue()));
+            }
+        }
+        if (!local.isEmpty() || results.isEmpty()) {
+            results.add(closeLocally.apply(local));
+        }
+        int requested = 0;
+        int closed = 0;
+        List<Long> notFound = new ArrayList<>();
+        for (BulkCloseResult result : results) {
+            requested += result.requested();
+            closed += result.closed();
+            notFound.addAll(result.notFound());
+        }
+        return new BulkCloseResult(requested, closed, notFound);
+    }
+
+    // Empty if the owner refused the connection, so the caller closes the accounts itself
+    private Optional<BulkCloseResult> closeOnOwner(ClusterMembership.Member owner, List<Long> accountNumbers,
+                                                   HttpServletRequest request) {
+        try {
+            BulkCloseResult result = restClient.post()
+                    .uri(URI.create(owner.baseUrl() + request.getRequestURI()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .header(FORWARDED_BY, membership.getNodeId())
+                    .body(accountNumbers)
+                    .retrieve()
+                    .body(BulkCloseResult.class);
+            forwarded.increment();
+            return Optional.ofNullable(result);
+        } catch (RestClientResponseException e) {
+            throw new ResponseStatusException(e.getStatusCode(), "Account owner " + owner.nodeId()
+                    + " failed to close its accounts", e);
+        } catch (ResourceAccessException e) {
+            if (!neverSent(e)) {
+                throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Account owner did not respond", e);
+            }
+            log.warn("Owner {} is unreachable, closing its {} accounts locally", owner, accountNumbers.size(), e);
+            return Optional.empty();
+        }
+    }
+
+    public long getForwardedCount() {
+        return forwarded.sum();
+    }
+
+    private static boolean neverSent(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void copyHeader(HttpServletRequest request, HttpHeaders headers, String name) {
+        String value = request.getHeader(name);
+        if (value != null) {
+            headers.set(name, value);
+        }
+    }
+}
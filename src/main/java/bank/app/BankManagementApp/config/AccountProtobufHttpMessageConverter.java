@@ -0,0 +1,122 @@
+package bank.app.BankManagementApp.config;
+
+import bank.app.BankManagementApp.entity.Account;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Serves {@link Account} and {@code List<Account>} as protobuf using the schema in
+ * {@code proto/account.proto}, so callers can generate matching stubs from that file.
+ */
+public class AccountProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_X_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final String SCHEMA_LOCATION = "proto/account.proto";
+
+    private final ProtobufMapper mapper = new ProtobufMapper();
+    private final ProtobufSchema accountSchema;
+    private final ProtobufSchema accountListSchema;
+
+    public AccountProtobufHttpMessageConverter() {
+        super(APPLICATION_X_PROTOBUF);
+        try (InputStream in = new ClassPathResource(SCHEMA_LOCATION).getInputStream()) {
+            NativeProtobufSchema schema = ProtobufSchemaLoader.std.loadNative(in, true);
+            this.accountSchema = schema.forType("Account");
+            this.accountListSchema = schema.forType("AccountList");
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not load " + SCHEMA_LOCATION, ex);
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Account.class.isAssignableFrom(clazz) || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return isAccountType(type) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return isAccountType(type != null ? type : clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(ResolvableType.forType(type).resolve(), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try (InputStream body = inputMessage.getBody()) {
+            if (Account.class.isAssignableFrom(clazz)) {
+                return mapper.readerFor(Account.class).with(accountSchema).readValue(body);
+            }
+            AccountList list = mapper.readerFor(AccountList.class).with(accountListSchema).readValue(body);
+            return list.accounts() != null ? list.accounts() : List.of();
+        } catch (IOException ex) {
+            throw new HttpMessageNotReadableException("Invalid protobuf payload: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        byte[] payload;
+        try {
+            payload = toBytes(value);
+        } catch (IOException ex) {
+            throw new HttpMessageNotWritableException("Could not write protobuf: " + ex.getMessage(), ex);
+        }
+        outputMessage.getBody().write(payload);
+    }
+
+    public byte[] toBytes(Object value) throws IOException {
+        if (value instanceof Account account) {
+            return mapper.writer(accountSchema).writeValueAsBytes(account);
+        }
+        return mapper.writer(accountListSchema).writeValueAsBytes(new AccountList(castList(value)));
+    }
+
+    private static boolean isAccountType(Type type) {
+        if (type == null) {
+            return false;
+        }
+        ResolvableType resolved = ResolvableType.forType(type);
+        Class<?> raw = resolved.resolve();
+        if (raw == null) {
+            return false;
+        }
+        if (Account.class.isAssignableFrom(raw)) {
+            return true;
+        }
+        return List.class.isAssignableFrom(raw) && Account.class.equals(resolved.asCollection().resolveGeneric(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Account> castList(Object value) {
+        return (List<Account>) value;
+    }
+
+    // Mirrors the AccountList message in account.proto
+    record AccountList(List<Account> accounts) {
+    }
+}
@@ -0,0 +1,131 @@
+package bank.app.BankManagementApp.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Gradient-based concurrency limit (in the spirit of Netflix's Gradient2).
+ *
+ * Request latencies are averaged over short windows and compared with a slowly moving baseline.
+ * While latency stays within {@code tolerance} of the baseline and the limit is actually being used,
+ * the limit grows by a fifth of {@code sqrt(limit)} per window; when latency rises beyond it, the limit
+ * is multiplied by the latency gradient right away (at most halving per window). Requests over the limit are rejected
+ * immediately instead of queueing.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double TOLERANCE = 1.5;
+    private static final double BASELINE_DECAY = 0.01;
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    // Window state, guarded by this
+    private double estimatedLimit;
+    private double baselineRttNanos;
+    private long windowStartNanos;
+    private long windowRttSumNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        this(name, initialLimit, minLimit, maxLimit, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid limits for " + name + ": min " + minLimit + ", max " + maxLimit);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.nanoClock = nanoClock;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+        this.windowStartNanos = nanoClock.getAsLong();
+    }
+
+    /** Takes a slot, or returns false if the request must be rejected. */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** Returns the slot taken by {@link #tryAcquire} with the request's latency. */
+    public void release(long rttNanos) {
+        int concurrency = inFlight.getAndDecrement();
+        onSample(rttNanos, concurrency, nanoClock.getAsLong());
+    }
+
+    /** Returns the slot taken by {@link #tryAcquire} without feeding the request's latency into the limit. */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void onSample(long rttNanos, int concurrency, long now) {
+        windowRttSumNanos += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, concurrency);
+        if (windowSamples < MIN_WINDOW_SAMPLES || now - windowStartNanos < WINDOW_NANOS) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSumNanos / windowSamples;
+        if (baselineRttNanos == 0 || shortRtt < baselineRttNanos) {
+            // Follow improvements quickly so a slow start does not leave a high baseline behind
+            baselineRttNanos = baselineRttNanos == 0 ? shortRtt : baselineRttNanos * 0.8 + shortRtt * 0.2;
+        } else {
+            baselineRttNanos = baselineRttNanos * (1 - BASELINE_DECAY) + shortRtt * BASELINE_DECAY;
+        }
+
+        // Only adjust when demand actually reached the limit; an idle service says nothing about capacity
+        if (windowMaxInFlight >= estimatedLimit / 2) {
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * baselineRttNanos / shortRtt));
+            // Growth is smoothed; a shrink applies in full so an overload is shed within a few windows
+            double next = gradient < 1.0
+                    ? estimatedLimit * gradient
+                    : estimatedLimit * (1 - SMOOTHING) + (estimatedLimit + Math.sqrt(estimatedLimit)) * SMOOTHING;
+            estimatedLimit = Math.max(minLimit, Math.min(maxLimit, next));
+            limit = (int) estimatedLimit;
+        }
+
+        windowStartNanos = now;
+        windowRttSumNanos = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,132 @@
+package bank.app.BankManagementApp.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cluster membership on the shared database: each instance upserts its row in {@code cluster_member} every
+ * {@code heartbeat-interval-ms} and reads the live members back. Members silent for longer than
+ * {@code member-timeout-ms} are removed, and a stopping instance removes itself.
+ *
+ * Whenever the member set changes the {@link ConsistentHashRing} is rebuilt, which moves ownership of the
+ * affected accounts to their new owners. Until this instance has registered, it owns every account.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bank.cluster", name = "enabled", havingValue = "true")
+public class ClusterMembership {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterMembership.class);
+
+    public record Member(String nodeId, String baseUrl) {}
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "cluster-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile String baseUrl;
+    private volatile Map<String, Member> members = Map.of();
+    private volatile ConsistentHashRing ring = new ConsistentHashRing(List.of(), 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // e.g. http://10.0.0.5:8080; defaults to http://localhost:<port>
+    @Value("${bank.cluster.advertised-url:}")
+    private String advertisedUrl;
+
+    @Value("${bank.cluster.virtual-nodes:128}")
+    private int virtualNodes;
+
+    @Value("${bank.cluster.heartbeat-interval-ms:1000}")
+    private long heartbeatIntervalMillis;
+
+    @Value("${bank.cluster.member-timeout-ms:5000}")
+    private long memberTimeoutMillis;
+
+    @EventListener
+    public void onWebServerStarted(WebServerInitializedEvent event) {
+        baseUrl = advertisedUrl.isBlank() ? "http://localhost:" + event.getWebServer().getPort() : advertisedUrl;
+        heartbeat();
+        heartbeats.scheduleWithFixedDelay(() -> {
+            try {
+                heartbeat();
+            } catch (RuntimeException e) {
+                log.warn("Cluster heartbeat failed", e);
+            }
+        }, heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /** The member that applies mutations for {@code accountNumber}. */
+    public Member ownerOf(long accountNumber) {
+        Member owner = members.get(ring.ownerOf(accountNumber));
+        return owner != null ? owner : new Member(nodeId, baseUrl);
+    }
+
+    public boolean isOwner(long accountNumber) {
+        return ownerOf(accountNumber).nodeId().equals(nodeId);
+    }
+
+    public Map<String, Member> getMembers() {
+        return members;
+    }
+
+    synchronized void heartbeat() {
+        Timestamp now = jdbcTemplate.queryForObject("select current_timestamp", Timestamp.class);
+        if (jdbcTemplate.update("update cluster_member set base_url = ?, heartbeat_at = ? where node_id = ?",
+                baseUrl, now, nodeId) == 0) {
+            jdbcTemplate.update("insert into cluster_member (node_id, base_url, heartbeat_at) values (?, ?, ?)",
+                    nodeId, baseUrl, now);
+        }
+        Timestamp cutoff = new Timestamp(now.getTime() - memberTimeoutMillis);
+        int expired = jdbcTemplate.update("delete from cluster_member where heartbeat_at < ?", cutoff);
+        if (expired > 0) {
+            log.info("Removed {} cluster members whose heartbeat is older than {} ms", expired, memberTimeoutMillis);
+        }
+
+        Map<String, Member> live = new TreeMap<>();
+        jdbcTemplate.query("select node_id, base_url from cluster_member", rs -> {
+            live.put(rs.getString(1), new Member(rs.getString(1), rs.getString(2)));
+        });
+        if (!live.equals(members)) {
+            ring = new ConsistentHashRing(live.keySet(), virtualNodes);
+            members = Map.copyOf(live);
+            log.info("Cluster membership changed, rebalanced account ownership over {} members: {}",
+                    live.size(), live.values());
+        }
+    }
+
+    @PreDestroy
+    void leave() {
+        heartbeats.shutdownNow();
+        if (baseUrl != null) {
+            try {
+                jdbcTemplate.update("delete from cluster_member where node_id = ?", nodeId);
+            } catch (RuntimeException e) {
+                log.warn("Could not leave the cluster; the other members will time this instance out", e);
+            }
+        }
+    }
+}
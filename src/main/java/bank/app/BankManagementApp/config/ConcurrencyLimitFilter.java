@@ -0,0 +1,106 @@
+package bank.app.BankManagementApp.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sheds load on {@code /account/**} before it reaches a Tomcat worker's database call. Mutations
+ * (any method other than GET/HEAD, except the {@code POST /account/batch} multi-get) and reads each have
+ * their own {@link AdaptiveConcurrencyLimiter}, so a write backlog cannot starve reads. Rejected requests get 503 with {@code Retry-After}.
+ *
+ * Bulk requests ({@code POST /account/delete/bulk} and the multi-get) hold a slot but do not sample latency: one
+ * bulk close over thousands of accounts takes seconds, which would read as an overload and cut the limit for
+ * single-account requests.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final AdaptiveConcurrencyLimiter mutations;
+    private final AdaptiveConcurrencyLimiter reads;
+
+    @Autowired
+    public ConcurrencyLimitFilter(@Value("${bank.concurrency-limit.enabled:true}") boolean enabled,
+                                  @Value("${bank.concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds,
+                                  @Value("${bank.concurrency-limit.mutations.initial:50}") int mutationsInitial,
+                                  @Value("${bank.concurrency-limit.mutations.min:20}") int mutationsMin,
+                                  @Value("${bank.concurrency-limit.mutations.max:400}") int mutationsMax,
+                                  @Value("${bank.concurrency-limit.reads.initial:100}") int readsInitial,
+                                  @Value("${bank.concurrency-limit.reads.min:20}") int readsMin,
+                                  @Value("${bank.concurrency-limit.reads.max:1000}") int readsMax) {
+        this(enabled, retryAfterSeconds,
+                new AdaptiveConcurrencyLimiter("mutations", mutationsInitial, mutationsMin, mutationsMax),
+                new AdaptiveConcurrencyLimiter("reads", readsInitial, readsMin, readsMax));
+    }
+
+    ConcurrencyLimitFilter(boolean enabled, long retryAfterSeconds, AdaptiveConcurrencyLimiter mutations,
+                           AdaptiveConcurrencyLimiter reads) {
+        this.enabled = enabled;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.mutations = mutations;
+        this.reads = reads;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(request.getContextPath() + "/account/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = isRead(request) ? reads : mutations;
+        if (!limiter.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType("text/plain");
+            response.getWriter().write("Server busy, retry later");
+            return;
+        }
+        if (isBulk(request)) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                limiter.release();
+            }
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - started);
+        }
+    }
+
+    private static boolean isBulk(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return (contextPath + "/account/delete/bulk").equals(uri) || (contextPath + "/account/batch").equals(uri);
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())
+                || (request.getContextPath() + "/account/batch").equals(request.getRequestURI());
+    }
+
+    public AdaptiveConcurrencyLimiter getMutationLimiter() {
+        return mutations;
+    }
+
+    public AdaptiveConcurrencyLimiter getReadLimiter() {
+        return reads;
+    }
+}
@@ -0,0 +1,60 @@
+package bank.app.BankManagementApp.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable consistent-hash ring mapping account numbers to node ids. Each node is placed at
+ * {@code virtualNodes} points, so load evens out and adding or removing a node moves only about
+ * {@code 1/n} of the accounts. Every instance builds the same ring from the same members.
+ */
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> points = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        for (String nodeId : nodeIds) {
+            for (int i = 0; i < virtualNodes; i++) {
+                points.put(pointOf(nodeId + "#" + i), nodeId);
+            }
+        }
+    }
+
+    /** The owning node id, or null if the ring is empty. */
+    public String ownerOf(long accountNumber) {
+        if (points.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = points.ceilingEntry(mix(accountNumber));
+        return entry != null ? entry.getValue() : points.firstEntry().getValue();
+    }
+
+    public boolean isEmpty() {
+        return points.isEmpty();
+    }
+
+    private static long pointOf(String virtualNode) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(virtualNode.getBytes(StandardCharsets.UTF_8));
+            long point = 0;
+            for (int i = 0; i < 8; i++) {
+                point = point << 8 | (digest[i] & 0xff);
+            }
+            return point;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // SplitMix64 finalizer: sequential account numbers land far apart on the ring
+    private static long mix(long key) {
+        key = (key ^ (key >>> 30)) * 0xbf58476d1ce4e5b9L;
+        key = (key ^ (key >>> 27)) * 0x94d049bb133111ebL;
+        return key ^ (key >>> 31);
+    }
+}
@@ -0,0 +1,34 @@
+package bank.app.BankManagementApp.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Records the handler method's time, including response serialisation, in the current {@link RequestTimeline}.
+ */
+public class ControllerTimingInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED = ControllerTimingInterceptor.class.getName() + ".started";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (RequestTimeline.current() != null) {
+            request.setAttribute(STARTED, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestTimeline timeline = RequestTimeline.current();
+        if (timeline != null && request.getAttribute(STARTED) instanceof Long started) {
+            String name = handler instanceof HandlerMethod method
+                    ? method.getBeanType().getSimpleName() + "." + method.getMethod().getName()
+                    : handler.toString();
+            timeline.record(RequestTimeline.Kind.CONTROLLER, name, started);
+        }
+    }
+}
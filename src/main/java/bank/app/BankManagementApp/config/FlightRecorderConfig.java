@@ -0,0 +1,19 @@
+package bank.app.BankManagementApp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Declares the {@link LatencySloFilter} here rather than as a component so web slice tests, which pick up every
+ * filter component, do not need {@link FlightRecordings}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "bank.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FlightRecorderConfig {
+
+    @Bean
+    public LatencySloFilter latencySloFilter(FlightRecordings flightRecordings) {
+        return new LatencySloFilter(flightRecordings);
+    }
+}
@@ -0,0 +1,293 @@
+package bank.app.BankManagementApp.config;
+
+import bank.app.BankManagementApp.service.AccountOperationEvent;
+import bank.app.BankManagementApp.service.SlidingWindowCounter;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Java Flight Recorder recordings, started on demand or when request latency breaches the SLO, written to
+ * {@code bank.jfr.directory} when they stop and pruned by count, age and total size.
+ *
+ * The SLO trigger fires once {@code breach-count} requests within {@code window-ms} took longer than
+ * {@code latency-ms}, then stays quiet for {@code cooldown-ms} so a long incident yields one recording rather
+ * than a disk full of them. The recording is started off the request thread, and a start that fails, e.g. because
+ * {@code max-concurrent} recordings are running, does not begin the cooldown.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bank.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FlightRecordings {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecordings.class);
+
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9._-]+\\.jfr");
+    private static final DateTimeFormatter NAME_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
+
+    public enum Trigger { MANUAL, SLO }
+
+    public record RecordingInfo(long id, String name, Trigger trigger, String state, Instant startedAt,
+                                Duration maxDuration, String file) {}
+
+    public record RecordingFile(String name, long sizeBytes, Instant lastModified) {}
+
+    private record Tracked(Recording recording, Trigger trigger) {}
+
+    private final Map<Long, Tracked> active = new ConcurrentHashMap<>();
+    private final ExecutorService finisher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "jfr-recording-finisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final SlidingWindowCounter breaches;
+    private final AtomicLong lastSloTriggerMillis = new AtomicLong(Long.MIN_VALUE);
+    private final FlightRecorderListener listener = new FlightRecorderListener() {
+        @Override
+        public void recordingStateChanged(Recording recording) {
+            if (recording.getState() == RecordingState.STOPPED && active.containsKey(recording.getId())) {
+                finisher.execute(() -> finish(recording));
+            }
+        }
+    };
+
+    @Value("${bank.jfr.directory:${java.io.tmpdir}/bank-jfr}")
+    private Path directory;
+
+    @Value("${bank.jfr.settings:profile}")
+    private String settings;
+
+    @Value("${bank.jfr.default-duration-seconds:60}")
+    private long defaultDurationSeconds;
+
+    @Value("${bank.jfr.max-duration-seconds:900}")
+    private long maxDurationSeconds;
+
+    @Value("${bank.jfr.max-concurrent:2}")
+    private int maxConcurrent;
+
+    @Value("${bank.jfr.retention.max-files:20}")
+    private int maxFiles;
+
+    @Value("${bank.jfr.retention.max-age-hours:72}")
+    private long maxAgeHours;
+
+    @Value("${bank.jfr.retention.max-total-mb:1024}")
+    private long maxTotalMegabytes;
+
+    @Value("${bank.jfr.slo.enabled:true}")
+    private boolean sloEnabled;
+
+    private final long sloLatencyNanos;
+    private final int sloBreachCount;
+    private final long sloCooldownMillis;
+
+    @Value("${bank.jfr.slo.recording-seconds:120}")
+    private long sloRecordingSeconds;
+
+    public FlightRecordings(@Value("${bank.jfr.slo.latency-ms:2000}") long sloLatencyMillis,
+                            @Value("${bank.jfr.slo.breach-count:20}") int sloBreachCount,
+                            @Value("${bank.jfr.slo.window-ms:60000}") long sloWindowMillis,
+                            @Value("${bank.jfr.slo.cooldown-ms:1800000}") long sloCooldownMillis) {
+        this.sloLatencyNanos = sloLatencyMillis * 1_000_000;
+        this.sloBreachCount = sloBreachCount;
+        this.sloCooldownMillis = sloCooldownMillis;
+        this.breaches = new SlidingWindowCounter(sloWindowMillis, 10);
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(directory);
+        FlightRecorder.addListener(listener);
+    }
+
+    public synchronized RecordingInfo start(Trigger trigger, Long durationSeconds) {
+        if (active.size() >= maxConcurrent) {
+            throw new IllegalStateException("At most " + maxConcurrent + " recordings can run at a time");
+        }
+        long seconds = durationSeconds == null ? defaultDurationSeconds : durationSeconds;
+        if (seconds <= 0 || seconds > maxDurationSeconds) {
+            throw new IllegalArgumentException("Duration must be between 1 and " + maxDurationSeconds + " seconds");
+        }
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR settings '" + settings + "'", e);
+        }
+        String name = "bank-" + trigger.name().toLowerCase() + "-" + NAME_TIME.format(Instant.now()) + "-"
+                + recording.getId();
+        recording.setName(name);
+        recording.enable(AccountOperationEvent.class);
+        recording.setToDisk(true);
+        recording.setDuration(Duration.ofSeconds(seconds));
+        try {
+            recording.setDestination(directory.resolve(name + ".jfr"));
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException(e);
+        }
+        active.put(recording.getId(), new Tracked(recording, trigger));
+        recording.start();
+        log.info("Started {} JFR recording {} for {} s", trigger, name, seconds);
+        return info(recording, trigger);
+    }
+
+    /** Stops a running recording early; its file is written as if it had run to the end. */
+    public RecordingInfo stop(long id) {
+        Tracked tracked = active.get(id);
+        if (tracked == null) {
+            throw new RuntimeException("Recording not found");
+        }
+        if (tracked.recording().getState() == RecordingState.RUNNING) {
+            tracked.recording().stop();
+        }
+        return info(tracked.recording(), tracked.trigger());
+    }
+
+    public List<RecordingInfo> getRecordings() {
+        return active.values().stream()
+                .map(tracked -> info(tracked.recording(), tracked.trigger()))
+                .sorted(Comparator.comparingLong(RecordingInfo::id))
+                .toList();
+    }
+
+    /** Recording files on disk, newest first. */
+    public List<RecordingFile> getFiles() {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<RecordingFile> result = new ArrayList<>();
+            for (Path file : files.filter(path -> FILE_NAME.matcher(path.getFileName().toString()).matches()).toList()) {
+                result.add(new RecordingFile(file.getFileName().toString(), Files.size(file),
+                        Files.getLastModifiedTime(file).toInstant()));
+            }
+            result.sort(Comparator.comparing(RecordingFile::lastModified).reversed());
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** A finished recording file; names are checked so only files in the recording directory are served. */
+    public Path getFile(String name) {
+        Path file = directory.resolve(name);
+        if (!FILE_NAME.matcher(name).matches() || !Files.isRegularFile(file)) {
+            throw new RuntimeException("Recording file not found");
+        }
+        return file;
+    }
+
+    /** Called with the latency of every {@code /account/**} request. */
+    public void recordLatency(long nanos) {
+        if (!sloEnabled || nanos < sloLatencyNanos) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        breaches.add(now, 1);
+        long last = lastSloTriggerMillis.get();
+        if (breaches.sum(now) < sloBreachCount || (last != Long.MIN_VALUE && now - last < sloCooldownMillis)
+                || !lastSloTriggerMillis.compareAndSet(last, now)) {
+            return;
+        }
+        log.warn("{} requests slower than {} ms within the SLO window; starting a JFR recording",
+                sloBreachCount, sloLatencyNanos / 1_000_000);
+        // Loading the settings takes a while, so the slow request that tipped the count does not wait for it
+        try {
+            finisher.execute(() -> startSloRecording(last, now));
+        } catch (RejectedExecutionException e) {
+            lastSloTriggerMillis.compareAndSet(now, last);
+        }
+    }
+
+    private void startSloRecording(long previousTrigger, long trigger) {
+        try {
+            start(Trigger.SLO, sloRecordingSeconds);
+        } catch (RuntimeException e) {
+            // No recording was made, so the next breach may try again
+            lastSloTriggerMillis.compareAndSet(trigger, previousTrigger);
+            log.warn("Could not start the SLO-triggered JFR recording", e);
+        }
+    }
+
+    /**
+     * Deletes the oldest recording files beyond {@code max-files}, older than {@code max-age-hours} or past
+     * {@code max-total-mb} in total. Also runs after every recording is written.
+     */
+    @Scheduled(fixedDelayString = "${bank.jfr.retention.check-interval-ms:3600000}")
+    public synchronized void enforceRetention() {
+        Instant oldest = Instant.now().minus(Duration.ofHours(maxAgeHours));
+        long maxTotalBytes = maxTotalMegabytes * 1024 * 1024;
+        long total = 0;
+        int kept = 0;
+        for (RecordingFile file : getFiles()) {
+            total += file.sizeBytes();
+            if (kept >= maxFiles || file.lastModified().isBefore(oldest) || total > maxTotalBytes) {
+                try {
+                    Files.deleteIfExists(directory.resolve(file.name()));
+                    log.info("Deleted JFR recording {} by retention policy", file.name());
+                } catch (IOException e) {
+                    log.warn("Could not delete JFR recording {}", file.name(), e);
+                }
+            } else {
+                kept++;
+            }
+        }
+    }
+
+    private void finish(Recording recording) {
+        active.remove(recording.getId());
+        recording.close();
+        log.info("JFR recording {} written to {}", recording.getName(), recording.getDestination());
+        enforceRetention();
+    }
+
+    private static RecordingInfo info(Recording recording, Trigger trigger) {
+        return new RecordingInfo(recording.getId(), recording.getName(), trigger, recording.getState().name(),
+                recording.getStartTime(), recording.getDuration(),
+                recording.getDestination() == null ? null : recording.getDestination().getFileName().toString());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        FlightRecorder.removeListener(listener);
+        // Keep what was captured so far
+        for (Tracked tracked : active.values()) {
+            if (tracked.recording().getState() == RecordingState.RUNNING) {
+                tracked.recording().stop();
+            }
+            tracked.recording().close();
+        }
+        active.clear();
+        finisher.shutdownNow();
+    }
+}
@@ -0,0 +1,41 @@
+package bank.app.BankManagementApp.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Registered by {@link FlightRecorderConfig}. Reports the latency of every {@code /account/**} request to
+ * {@link FlightRecordings}, which starts a recording when the SLO is breached.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 90)
+public class LatencySloFilter extends OncePerRequestFilter {
+
+    private final FlightRecordings flightRecordings;
+
+    public LatencySloFilter(FlightRecordings flightRecordings) {
+        this.flightRecordings = flightRecordings;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/account/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            flightRecordings.recordLatency(System.nanoTime() - started);
+        }
+    }
+}
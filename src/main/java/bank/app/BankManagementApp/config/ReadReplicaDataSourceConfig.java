@@ -0,0 +1,64 @@
+package bank.app.BankManagementApp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting, enabled with {@code bank.datasource.routing.enabled=true}. The primary is
+ * configured through the usual {@code spring.datasource.*} properties; replicas are listed in
+ * {@code bank.datasource.replica-urls} and share the primary's driver and credentials.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "bank.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 @Value("${bank.datasource.replica-urls}") List<String> replicaUrls,
+                                 @Value("${bank.datasource.routing.validation-timeout-seconds:1}") int validationTimeoutSeconds) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                    .url(replicaUrls.get(i)).build();
+            replica.setPoolName("replica-" + i);
+            replica.setReadOnly(true);
+            // Do not fail startup on an unreachable replica; the health check routes around it
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+
+        pools.add(primary);
+        replicas.forEach(replica -> pools.add((HikariDataSource) replica));
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, validationTimeoutSeconds);
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${bank.datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicaHealth() {
+        if (routingDataSource != null) {
+            routingDataSource.checkReplicas();
+        }
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
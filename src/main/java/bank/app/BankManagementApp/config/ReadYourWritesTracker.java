@@ -0,0 +1,78 @@
+package bank.app.BankManagementApp.config;
+
+import bank.app.BankManagementApp.service.AccountEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers which accounts were changed recently so their lookups are pinned to the primary until
+ * replicas have had time to catch up. Does nothing unless read/write routing is enabled.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final Pin NOT_PINNED = () -> { };
+
+    private final boolean enabled;
+    private final long stickyWindowMillis;
+    private final ConcurrentMap<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(@Value("${bank.datasource.routing.enabled:false}") boolean enabled,
+                                 @Value("${bank.datasource.routing.sticky-window-ms:2000}") long stickyWindowMillis) {
+        this.enabled = enabled;
+        this.stickyWindowMillis = stickyWindowMillis;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountChanged(AccountEvent event) {
+        if (enabled) {
+            stickyUntil.put(event.accountNumber(), System.currentTimeMillis() + stickyWindowMillis);
+        }
+    }
+
+    /** Pins the current thread to the primary if {@code accountNumber} was written within the sticky window. */
+    public Pin pinIfRecentlyWritten(Long accountNumber) {
+        Long until = enabled ? stickyUntil.get(accountNumber) : null;
+        if (until == null || until < System.currentTimeMillis()) {
+            return NOT_PINNED;
+        }
+        return pinToPrimary();
+    }
+
+    /** Pins the current thread to the primary if any of {@code accountNumbers} was written within the sticky window. */
+    public Pin pinIfAnyRecentlyWritten(Collection<Long> accountNumbers) {
+        if (!enabled || stickyUntil.isEmpty()) {
+            return NOT_PINNED;
+        }
+        long now = System.currentTimeMillis();
+        for (Long accountNumber : accountNumbers) {
+            Long until = stickyUntil.get(accountNumber);
+            if (until != null && until >= now) {
+                return pinToPrimary();
+            }
+        }
+        return NOT_PINNED;
+    }
+
+    private static Pin pinToPrimary() {
+        Boolean previous = ReplicaRoutingDataSource.pinToPrimary();
+        return () -> ReplicaRoutingDataSource.unpin(previous);
+    }
+
+    @Scheduled(fixedDelayString = "${bank.datasource.routing.sticky-window-ms:2000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until < now);
+    }
+
+    public interface Pin extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,132 @@
+package bank.app.BankManagementApp.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions round-robin across healthy replicas and everything else to the
+ * primary. Must sit behind a {@code LazyConnectionDataSourceProxy} so the connection is only
+ * fetched after the transaction's read-only flag has been set.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final Map<String, DataSource> replicas = new HashMap<>();
+    private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final int validationTimeoutSeconds;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, int validationTimeoutSeconds) {
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            String key = "replica-" + i;
+            replicaKeys.add(key);
+            replicas.put(key, replicaDataSources.get(i));
+            healthy.put(key, Boolean.TRUE);
+            targets.put(key, replicaDataSources.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /** Forces the current thread's reads to the primary until {@link #unpin(Boolean)} restores the previous state. */
+    static Boolean pinToPrimary() {
+        Boolean previous = PINNED_TO_PRIMARY.get();
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void unpin(Boolean previous) {
+        if (previous == null) {
+            PINNED_TO_PRIMARY.remove();
+        } else {
+            PINNED_TO_PRIMARY.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PINNED_TO_PRIMARY.get() != null) {
+            return PRIMARY;
+        }
+        int size = replicaKeys.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (healthy.get(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    // A replica that fails to hand out a connection is marked down and the read falls back to the primary
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return determineTargetDataSource().getConnection();
+        }
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException ex) {
+            markDown((String) key, ex);
+            return getResolvedDefaultDataSource().getConnection();
+        }
+    }
+
+    @Override
+    protected DataSource determineTargetDataSource() {
+        Object key = determineCurrentLookupKey();
+        return PRIMARY.equals(key) ? getResolvedDefaultDataSource() : replicas.get(key);
+    }
+
+    /** Validates every replica and updates its health flag. Called periodically. */
+    public void checkReplicas() {
+        for (String key : replicaKeys) {
+            try (Connection connection = replicas.get(key).getConnection()) {
+                if (connection.isValid(validationTimeoutSeconds)) {
+                    if (!healthy.put(key, Boolean.TRUE)) {
+                        log.info("Replica {} is healthy again", key);
+                    }
+                } else {
+                    markDown(key, null);
+                }
+            } catch (SQLException ex) {
+                markDown(key, ex);
+            }
+        }
+    }
+
+    boolean isHealthy(String key) {
+        return healthy.getOrDefault(key, Boolean.FALSE);
+    }
+
+    private void markDown(String key, SQLException cause) {
+        if (healthy.put(key, Boolean.FALSE)) {
+            log.warn("Replica {} marked down, reads fall back to primary: {}", key,
+                    cause != null ? cause.getMessage() : "connection invalid");
+        }
+    }
+}
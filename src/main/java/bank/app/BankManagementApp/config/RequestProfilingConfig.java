@@ -0,0 +1,140 @@
+package bank.app.BankManagementApp.config;
+
+import bank.app.BankManagementApp.service.AccountService;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.hibernate.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.MethodMatcher;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Slow request capture: the {@link SlowRequestFilter}, plus timing of {@link AccountService} calls, each statement
+ * Hibernate executes with its SQL, and commits for the {@link RequestTimeline} of the current request (controller
+ * time comes from {@link ControllerTimingInterceptor}). SQL and commits are timed from Hibernate's and the
+ * transaction manager's own callbacks, so JDBC objects are not wrapped and other JDBC calls cost nothing extra.
+ * Outside a profiled request each hook costs one thread-local lookup.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "bank.slow-requests", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestProfilingConfig {
+
+    @Bean
+    public SlowRequestFilter slowRequestFilter(SlowRequestLog slowRequestLog,
+                                               @Value("${bank.slow-requests.threshold-ms:500}") long thresholdMillis,
+                                               @Value("${bank.slow-requests.max-spans:128}") int maxSpans) {
+        return new SlowRequestFilter(slowRequestLog, thresholdMillis, maxSpans);
+    }
+
+    // Outermost advice, so the service span includes the transaction commit
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor accountServiceTimingAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new RootClassFilter(AccountService.class), MethodMatcher.TRUE);
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, (MethodInterceptor) invocation -> {
+            RequestTimeline timeline = RequestTimeline.current();
+            if (timeline == null) {
+                return invocation.proceed();
+            }
+            long started = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                timeline.record(RequestTimeline.Kind.SERVICE, ClassUtils.getUserClass(invocation.getThis())
+                        .getSimpleName() + "." + invocation.getMethod().getName(), started);
+            }
+        });
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    // Hibernate reports when statements execute but not their SQL, so the inspector remembers the SQL prepared last
+    @Bean
+    public HibernatePropertiesCustomizer sqlTiming() {
+        return properties -> {
+            properties.put("hibernate.session_factory.statement_inspector", (StatementInspector) sql -> {
+                RequestTimeline timeline = RequestTimeline.current();
+                if (timeline != null) {
+                    timeline.preparedSql = sql;
+                }
+                return sql;
+            });
+            properties.put("hibernate.session.events.auto", SqlTiming.class.getName());
+        };
+    }
+
+    // Applied to the transaction manager by Spring Boot; only called for transactions that actually commit
+    @Bean
+    public TransactionExecutionListener commitTiming() {
+        return new TransactionExecutionListener() {
+            @Override
+            public void beforeCommit(TransactionExecution transaction) {
+                RequestTimeline timeline = RequestTimeline.current();
+                if (timeline != null) {
+                    timeline.commitStartedAt = System.nanoTime();
+                }
+            }
+
+            @Override
+            public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+                RequestTimeline timeline = RequestTimeline.current();
+                if (timeline != null && timeline.commitStartedAt != 0) {
+                    timeline.record(RequestTimeline.Kind.COMMIT, "commit", timeline.commitStartedAt);
+                    timeline.commitStartedAt = 0;
+                }
+            }
+        };
+    }
+
+    /** Created by Hibernate for each session; times statement and batch executions during profiled requests. */
+    public static final class SqlTiming implements SessionEventListener {
+
+        private long startedAt;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            start();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            end(false);
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            start();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            end(true);
+        }
+
+        private void start() {
+            startedAt = RequestTimeline.current() != null ? System.nanoTime() : 0;
+        }
+
+        private void end(boolean batch) {
+            RequestTimeline timeline = RequestTimeline.current();
+            if (timeline != null && startedAt != 0) {
+                String sql = timeline.preparedSql;
+                timeline.record(RequestTimeline.Kind.SQL, batch ? "batch: " + sql : sql, startedAt);
+            }
+            startedAt = 0;
+        }
+    }
+}
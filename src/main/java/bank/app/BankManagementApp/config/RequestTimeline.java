@@ -0,0 +1,98 @@
+package bank.app.BankManagementApp.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Timing breakdown of the request running on the current thread, filled in by {@link SlowRequestFilter} and the
+ * timing hooks in {@link RequestProfilingConfig}.
+ *
+ * One instance per thread is reused across requests and spans go into preallocated arrays, so recording a span
+ * costs a {@code nanoTime()} call and no allocation; {@link #spans()} only builds objects for slow requests.
+ */
+public final class RequestTimeline {
+
+    public enum Kind { CONTROLLER, SERVICE, SQL, COMMIT }
+
+    public record Span(Kind kind, String detail, double startMillis, double durationMillis) {}
+
+    private static final ThreadLocal<RequestTimeline> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<RequestTimeline> REUSABLE = new ThreadLocal<>();
+
+    private final Kind[] kinds;
+    private final String[] details;
+    private final long[] starts;
+    private final long[] durations;
+    private int size;
+    private int dropped;
+    private long startedAt;
+    // Kept here for hooks whose start and end are separate callbacks
+    String preparedSql;
+    long commitStartedAt;
+
+    private RequestTimeline(int maxSpans) {
+        kinds = new Kind[maxSpans];
+        details = new String[maxSpans];
+        starts = new long[maxSpans];
+        durations = new long[maxSpans];
+    }
+
+    static RequestTimeline begin(int maxSpans) {
+        RequestTimeline timeline = REUSABLE.get();
+        if (timeline == null || timeline.kinds.length != maxSpans) {
+            timeline = new RequestTimeline(maxSpans);
+            REUSABLE.set(timeline);
+        }
+        timeline.size = 0;
+        timeline.dropped = 0;
+        timeline.commitStartedAt = 0;
+        timeline.startedAt = System.nanoTime();
+        CURRENT.set(timeline);
+        return timeline;
+    }
+
+    /** The timeline of the request on this thread, or null outside a profiled request. */
+    public static RequestTimeline current() {
+        return CURRENT.get();
+    }
+
+    /** Records a span that started at {@code startNanos} ({@link System#nanoTime()}) and ends now. */
+    public void record(Kind kind, String detail, long startNanos) {
+        if (size == kinds.length) {
+            dropped++;
+            return;
+        }
+        kinds[size] = kind;
+        details[size] = detail;
+        starts[size] = startNanos - startedAt;
+        durations[size] = System.nanoTime() - startNanos;
+        size++;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    int dropped() {
+        return dropped;
+    }
+
+    /** Spans in start order; spans are recorded when they end, so nested ones come before their parent. */
+    List<Span> spans() {
+        List<Span> spans = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            spans.add(new Span(kinds[i], details[i], starts[i] / 1e6, durations[i] / 1e6));
+        }
+        spans.sort(Comparator.comparingDouble(Span::startMillis));
+        return spans;
+    }
+
+    void end() {
+        // Drop SQL strings so an idle thread does not pin them
+        Arrays.fill(details, 0, size, null);
+        preparedSql = null;
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,68 @@
+package bank.app.BankManagementApp.config;
+
+import bank.app.BankManagementApp.service.AccountNumberGenerator;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Routes connections to the shard selected with {@link #callOnShard}. Account numbers encode their
+ * shard: shard {@code i} of {@code n} issues sequence values {@code i + 1, i + 1 + n, i + 1 + 2n, ...},
+ * each followed by a check digit (see {@link AccountNumberGenerator}).
+ * Without a selected shard, shard 0 is used.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    private final int shardCount;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shardCount = shards.size();
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(0));
+        afterPropertiesSet();
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardFor(Long accountNumber) {
+        return (int) Math.floorMod(AccountNumberGenerator.valueOf(accountNumber) - 1, (long) shardCount);
+    }
+
+    /** The shard selected on this thread, or 0 when none is. */
+    public static int currentShard() {
+        Integer shard = CURRENT_SHARD.get();
+        return shard == null ? 0 : shard;
+    }
+
+    /** Runs {@code work} with every connection it opens routed to {@code shard}. */
+    public static <T> T callOnShard(int shard, Supplier<T> work) {
+        Integer previous = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_SHARD.remove();
+            } else {
+                CURRENT_SHARD.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return CURRENT_SHARD.get();
+    }
+}
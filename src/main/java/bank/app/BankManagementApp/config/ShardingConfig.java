@@ -0,0 +1,63 @@
+package bank.app.BankManagementApp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Horizontal sharding of accounts, enabled with {@code bank.sharding.enabled=true}. Each URL in
+ * {@code bank.sharding.shard-urls} is one shard sharing the {@code spring.datasource.*} driver and
+ * credentials. Shard schemas come from {@code bank.sharding.schema-script} rather than Hibernate,
+ * which would only create them on shard 0.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "bank.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public ShardRoutingDataSource dataSource(DataSourceProperties properties,
+                                             @Value("${bank.sharding.shard-urls}") List<String> shardUrls,
+                                             @Value("${bank.sharding.schema-script:classpath:db/shard-schema.sql}") Resource schemaScript) {
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < shardUrls.size(); i++) {
+            HikariDataSource shard = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                    .url(shardUrls.get(i)).build();
+            shard.setPoolName("shard-" + i);
+            pools.add(shard);
+            new ResourceDatabasePopulator(schemaScript).execute(shard);
+            shards.add(shard);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    // Hibernate would only see shard 0
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaOwnership() {
+        return properties -> properties.put("hibernate.hbm2ddl.auto", "none");
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService shardQueryExecutor(@Value("${bank.sharding.shard-urls}") List<String> shardUrls) {
+        return Executors.newFixedThreadPool(shardUrls.size());
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,11 @@
+package bank.app.BankManagementApp.config;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A request that took longer than {@code bank.slow-requests.threshold-ms}, with its timing breakdown.
+ * {@code droppedSpans} counts spans beyond {@code bank.slow-requests.max-spans}.
+ */
+public record SlowRequest(Instant startedAt, String method, String uri, int status, double durationMillis,
+                          List<RequestTimeline.Span> spans, int droppedSpans) {}
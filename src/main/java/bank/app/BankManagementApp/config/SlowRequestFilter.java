@@ -0,0 +1,54 @@
+package bank.app.BankManagementApp.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Registered by {@link RequestProfilingConfig}. Opens a {@link RequestTimeline} for every {@code /account/**} request and hands requests slower than
+ * {@code bank.slow-requests.threshold-ms} to the {@link SlowRequestLog}. Runs before the concurrency limiter,
+ * so time spent there is included.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class SlowRequestFilter extends OncePerRequestFilter {
+
+    private final SlowRequestLog slowRequestLog;
+    private final long thresholdNanos;
+    private final int maxSpans;
+
+    public SlowRequestFilter(SlowRequestLog slowRequestLog, long thresholdMillis, int maxSpans) {
+        this.slowRequestLog = slowRequestLog;
+        this.thresholdNanos = thresholdMillis * 1_000_000;
+        this.maxSpans = maxSpans;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/account/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTimeline timeline = RequestTimeline.begin(maxSpans);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long elapsed = timeline.elapsedNanos();
+            if (elapsed >= thresholdNanos) {
+                String query = request.getQueryString();
+                slowRequestLog.add(new SlowRequest(Instant.now().minusNanos(elapsed), request.getMethod(),
+                        request.getRequestURI() + (query != null ? "?" + query : ""), response.getStatus(),
+                        elapsed / 1e6, timeline.spans(), timeline.dropped()));
+            }
+            timeline.end();
+        }
+    }
+}
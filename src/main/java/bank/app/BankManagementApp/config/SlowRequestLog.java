@@ -0,0 +1,46 @@
+package bank.app.BankManagementApp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ring buffer of the last {@code bank.slow-requests.buffer-size} slow requests; older ones are overwritten.
+ */
+@Component
+public class SlowRequestLog {
+
+    private final SlowRequest[] buffer;
+    private long added;
+
+    public SlowRequestLog(@Value("${bank.slow-requests.buffer-size:200}") int capacity) {
+        this.buffer = new SlowRequest[Math.max(1, capacity)];
+    }
+
+    public synchronized void add(SlowRequest request) {
+        buffer[(int) (added++ % buffer.length)] = request;
+    }
+
+    /** Newest first. */
+    public synchronized List<SlowRequest> recent() {
+        int count = (int) Math.min(added, buffer.length);
+        List<SlowRequest> requests = new ArrayList<>(count);
+        for (long i = added - 1; i >= added - count; i--) {
+            requests.add(buffer[(int) (i % buffer.length)]);
+        }
+        return requests;
+    }
+
+    /** Slow requests seen since startup, including those no longer in the buffer. */
+    public synchronized long total() {
+        return added;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(buffer, null);
+        added = 0;
+    }
+}
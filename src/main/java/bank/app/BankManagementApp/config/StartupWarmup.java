@@ -0,0 +1,207 @@
+package bank.app.BankManagementApp.config;
+
+import bank.app.BankManagementApp.controller.AccountController;
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.service.AccountNearCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Runs the account request path (message conversion, {@link AccountController}, the service, Hibernate and
+ * JDBC) in rounds before the instance reports ready, so the first real requests do not pay for interpretation
+ * and JIT compilation.
+ *
+ * Spring Boot only switches readiness to {@code ACCEPTING_TRAFFIC} once every {@link ApplicationReadyEvent}
+ * listener has returned, so this listener runs last and simply blocks. Each iteration creates, reads, deposits
+ * to, withdraws from and closes a scratch account inside a transaction that is rolled back; no account events
+ * reach listeners, though the account numbers are used up. Rounds stop once a round adds less than
+ * {@code bank.warmup.settle-ms} of JIT compilation time {@code bank.warmup.stable-rounds} times in a row, or at
+ * {@code bank.warmup.max-duration-ms}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bank.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final byte[] CREATE_REQUEST =
+            "{\"accountHolderName\":\"Warm-up\",\"accountBalance\":1000.0}".getBytes(StandardCharsets.UTF_8);
+    private static final List<MediaType> MEDIA_TYPES =
+            List.of(MediaType.APPLICATION_JSON, AccountProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF);
+
+    private final AccountController accountController;
+    private final TransactionTemplate rolledBack;
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+    private final ObjectProvider<AccountOwnership> accountOwnership;
+    private final ObjectProvider<AccountNearCache> nearCache;
+
+    @Value("${bank.warmup.iterations-per-round:200}")
+    private int iterationsPerRound;
+
+    @Value("${bank.warmup.min-rounds:3}")
+    private int minRounds;
+
+    @Value("${bank.warmup.stable-rounds:3}")
+    private int stableRounds;
+
+    @Value("${bank.warmup.settle-ms:20}")
+    private long settleMillis;
+
+    @Value("${bank.warmup.max-duration-ms:60000}")
+    private long maxDurationMillis;
+
+    private volatile int completedIterations;
+
+    public StartupWarmup(AccountController accountController, PlatformTransactionManager transactionManager,
+                         ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter,
+                         ObjectProvider<AccountOwnership> accountOwnership,
+                         ObjectProvider<AccountNearCache> nearCache) {
+        this.accountController = accountController;
+        this.rolledBack = new TransactionTemplate(transactionManager);
+        this.handlerAdapter = handlerAdapter;
+        this.accountOwnership = accountOwnership;
+        this.nearCache = nearCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void warmUp() {
+        List<HttpMessageConverter<?>> converters = handlerAdapter.getIfAvailable() == null ? List.of()
+                : handlerAdapter.getIfAvailable().getMessageConverters();
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        boolean measurable = compilation != null && compilation.isCompilationTimeMonitoringSupported();
+        long started = System.nanoTime();
+        long deadline = started + maxDurationMillis * 1_000_000;
+        long compiledMillis = measurable ? compilation.getTotalCompilationTime() : 0;
+        int rounds = 0;
+        int stable = 0;
+        try {
+            while (System.nanoTime() < deadline && (rounds < minRounds || (measurable && stable < stableRounds))) {
+                for (int i = 0; i < iterationsPerRound; i++) {
+                    rolledBack.executeWithoutResult(status -> {
+                        iteration(converters);
+                        status.setRollbackOnly();
+                    });
+                    completedIterations++;
+                }
+                rounds++;
+                if (measurable) {
+                    long total = compilation.getTotalCompilationTime();
+                    stable = total - compiledMillis < settleMillis ? stable + 1 : 0;
+                    compiledMillis = total;
+                }
+            }
+            log.info("Warm-up ran {} iterations in {} rounds over {} ms{}", completedIterations, rounds,
+                    (System.nanoTime() - started) / 1_000_000,
+                    System.nanoTime() < deadline ? "" : ", stopped at bank.warmup.max-duration-ms");
+        } catch (RuntimeException e) {
+            // A cold instance is still better than one that never becomes ready
+            log.warn("Warm-up failed after {} iterations", completedIterations, e);
+        } finally {
+            nearCache.ifAvailable(AccountNearCache::invalidateAll);
+        }
+    }
+
+    public int getCompletedIterations() {
+        return completedIterations;
+    }
+
+    private void iteration(List<HttpMessageConverter<?>> converters) {
+        Account account = convert(converters, read(converters, CREATE_REQUEST, Account.class));
+        Long accountNumber = convert(converters, accountController.createAccount(account).getBody())
+                .getAccountNumber();
+        convert(converters, accountController.getAccountById(accountNumber));
+        convert(converters, accountController.getAccountsByIds(List.of(accountNumber)));
+        // With bank.cluster.enabled the controller could forward the scratch account to its owner
+        if (accountOwnership.getIfAvailable() == null) {
+            try {
+                convert(converters, accountController.depositAmount(accountNumber, 100.0, null, null));
+                convert(converters, accountController.withdrawAmount(accountNumber, 50.0, null, null));
+                convert(converters, accountController.deleteAccount(accountNumber, null, null).getBody());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T read(List<HttpMessageConverter<?>> converters, byte[] body, Class<T> type) {
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter.canRead(type, MediaType.APPLICATION_JSON)) {
+                try {
+                    return ((HttpMessageConverter<T>) converter).read(type, new HttpInputMessage() {
+                        @Override
+                        public InputStream getBody() {
+                            return new ByteArrayInputStream(body);
+                        }
+
+                        @Override
+                        public HttpHeaders getHeaders() {
+                            HttpHeaders headers = new HttpHeaders();
+                            headers.setContentType(MediaType.APPLICATION_JSON);
+                            return headers;
+                        }
+                    });
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        throw new IllegalStateException("No converter reads " + type.getSimpleName() + " from JSON");
+    }
+
+    // Writes the value the way a response would be written, for each media type the API serves
+    @SuppressWarnings("unchecked")
+    private static <T> T convert(List<HttpMessageConverter<?>> converters, T value) {
+        for (MediaType mediaType : MEDIA_TYPES) {
+            for (HttpMessageConverter<?> converter : converters) {
+                if (converter.canWrite(value.getClass(), mediaType)) {
+                    try {
+                        HttpHeaders headers = new HttpHeaders();
+                        ((HttpMessageConverter<Object>) converter).write(value, mediaType, new HttpOutputMessage() {
+                            @Override
+                            public OutputStream getBody() {
+                                return OutputStream.nullOutputStream();
+                            }
+
+                            @Override
+                            public HttpHeaders getHeaders() {
+                                return headers;
+                            }
+                        });
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    break;
+                }
+            }
+        }
+        return value;
+    }
+}
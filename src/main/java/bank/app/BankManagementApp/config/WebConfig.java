@@ -0,0 +1,24 @@
+package bank.app.BankManagementApp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // Appended after the JSON and CBOR converters so JSON stays the default for Accept: */*
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new AccountProtobufHttpMessageConverter());
+    }
+
+    // No-op unless SlowRequestFilter is profiling the request
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ControllerTimingInterceptor()).addPathPatterns("/account/**");
+    }
+}
@@ -0,0 +1,50 @@
+package bank.app.BankManagementApp.controller;
+
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.service.BalanceQueryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/account/balances")
+public class AccountBalanceController {
+
+    @Autowired
+    private BalanceQueryService balanceQueryService;
+
+    @GetMapping("/range")
+    public List<Account> findByBalanceRange(@RequestParam double min,
+                                            @RequestParam double max,
+                                            @RequestParam(defaultValue = "0") int page,
+                                            @RequestParam(defaultValue = "100") int size,
+                                            @RequestParam(required = false) Double afterBalance,
+                                            @RequestParam(required = false) Long afterAccountNumber) {
+        if ((afterBalance == null) != (afterAccountNumber == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "afterBalance and afterAccountNumber must be given together");
+        }
+        if (afterBalance != null) {
+            return badRequestOnInvalid(() -> balanceQueryService.findByBalanceRangeAfter(min, max, afterBalance,
+                    afterAccountNumber, size));
+        }
+        return badRequestOnInvalid(() -> balanceQueryService.findByBalanceRange(min, max, page, size));
+    }
+
+    @GetMapping("/top")
+    public List<Account> findTopBalances(@RequestParam(defaultValue = "100") int limit) {
+        return badRequestOnInvalid(() -> balanceQueryService.findTopBalances(limit));
+    }
+
+    private static List<Account> badRequestOnInvalid(Supplier<List<Account>> query) {
+        try {
+            return query.get();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
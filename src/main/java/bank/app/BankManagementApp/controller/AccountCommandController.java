@@ -0,0 +1,52 @@
+package bank.app.BankManagementApp.controller;
+
+import bank.app.BankManagementApp.entity.AccountCommand;
+import bank.app.BankManagementApp.service.AccountCommandService;
+import bank.app.BankManagementApp.service.AccountNumberGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/account/async")
+@ConditionalOnProperty(prefix = "bank.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class AccountCommandController {
+
+    @Autowired
+    private AccountCommandService accountCommandService;
+
+    @PutMapping("/deposit/{accountNumber}/{amount}")
+    public ResponseEntity<AccountCommand> depositAmount(@PathVariable Long accountNumber, @PathVariable Double amount) {
+        requireValid(accountNumber);
+        return accepted(accountCommandService.enqueue(AccountCommand.Type.DEPOSIT, accountNumber, amount));
+    }
+
+    @PutMapping("/withdraw/{accountNumber}/{amount}")
+    public ResponseEntity<AccountCommand> withdrawAmount(@PathVariable Long accountNumber, @PathVariable Double amount) {
+        requireValid(accountNumber);
+        return accepted(accountCommandService.enqueue(AccountCommand.Type.WITHDRAW, accountNumber, amount));
+    }
+
+    @GetMapping("/operations/{operationId}")
+    public ResponseEntity<AccountCommand> getOperation(@PathVariable Long operationId) {
+        return ResponseEntity.of(accountCommandService.getCommand(operationId));
+    }
+
+    // Rejected before the command is queued, since a wrong check digit can never match an account
+    private static void requireValid(Long accountNumber) {
+        if (!AccountNumberGenerator.isValid(accountNumber)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid account number");
+        }
+    }
+
+    private static ResponseEntity<AccountCommand> accepted(AccountCommand command) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/account/async/operations/" + command.getId()))
+                .body(command);
+    }
+}
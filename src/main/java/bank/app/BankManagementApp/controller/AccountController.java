@@ -1,13 +1,25 @@
 package bank.app.BankManagementApp.controller;
 
+import bank.app.BankManagementApp.config.AccountOwnership;
 import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.entity.ArchivedAccount;
+import bank.app.BankManagementApp.service.AccountBatchResult;
+import bank.app.BankManagementApp.service.AccountNumberGenerator;
 import bank.app.BankManagementApp.service.AccountService;
+import bank.app.BankManagementApp.service.BulkCloseResult;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/account")
@@ -16,6 +28,9 @@ public class AccountController {
     @Autowired
     private AccountService accountService;
 
+    @Autowired
+    private ObjectProvider<AccountOwnership> accountOwnership;
+
     @PostMapping("/create")
     public ResponseEntity<Account> createAccount(@RequestBody Account account) {
         return new ResponseEntity<>(accountService.createAccount(account), HttpStatus.CREATED);
@@ -23,27 +38,131 @@ public class AccountController {
 
     @GetMapping("/{accountNumber}")
     public Account getAccountById(@PathVariable Long accountNumber) {
+        requireValid(accountNumber);
         return accountService.getAccountDetailsByAccountNumber(accountNumber);
     }
 
+    @GetMapping("/archive/{accountNumber}")
+    public ArchivedAccount getArchivedAccount(@PathVariable Long accountNumber) {
+        requireValid(accountNumber);
+        return accountService.getArchivedAccount(accountNumber);
+    }
+
+    @GetMapping("/batch")
+    public AccountBatchResult getAccountsByIds(@RequestParam List<Long> ids) {
+        return getAccounts(ids);
+    }
+
+    @PostMapping("/batch")
+    public AccountBatchResult getAccountsByIdsInBody(@RequestBody List<Long> ids) {
+        return getAccounts(ids);
+    }
+
     @GetMapping("/all")
     public List<Account> getAllAccounts() {
         return accountService.getAllAccounts();
     }
 
     @PutMapping("/deposit/{accountNumber}/{amount}")
-    public Account depositAmount(@PathVariable Long accountNumber, @PathVariable Double amount) {
+    public Account depositAmount(@PathVariable Long accountNumber, @PathVariable Double amount,
+                                 HttpServletRequest request, HttpServletResponse response) throws IOException {
+        requireValid(accountNumber);
+        if (forwardedToOwner(accountNumber, request, response)) {
+            return null;
+        }
         return accountService.depositAmount(accountNumber, amount);
     }
 
     @PutMapping("/withdraw/{accountNumber}/{amount}")
-    public Account withdrawAmount(@PathVariable Long accountNumber, @PathVariable Double amount) {
+    public Account withdrawAmount(@PathVariable Long accountNumber, @PathVariable Double amount,
+                                  HttpServletRequest request, HttpServletResponse response) throws IOException {
+        requireValid(accountNumber);
+        if (forwardedToOwner(accountNumber, request, response)) {
+            return null;
+        }
         return accountService.withdrawAmount(accountNumber, amount);
     }
 
     @DeleteMapping("/delete/{accountNumber}")
-    public ResponseEntity<String> deleteAccount(@PathVariable Long accountNumber) {
+    public ResponseEntity<String> deleteAccount(@PathVariable Long accountNumber, HttpServletRequest request,
+                                                HttpServletResponse response) throws IOException {
+        requireValid(accountNumber);
+        if (forwardedToOwner(accountNumber, request, response)) {
+            return null;
+        }
         accountService.closeAccount(accountNumber);
         return ResponseEntity.ok("Account closed successfully");
     }
+
+    @PostMapping("/delete/bulk")
+    public BulkCloseResult deleteAccounts(@RequestBody List<Long> accountNumbers, HttpServletRequest request) {
+        List<Long> invalid = invalidAccountNumbers(accountNumbers);
+        if (invalid.isEmpty()) {
+            return closeAccounts(accountNumbers, request);
+        }
+        BulkCloseResult result = closeAccounts(validAccountNumbers(accountNumbers), request);
+        List<Long> notFound = new ArrayList<>(result.notFound());
+        notFound.addAll(invalid);
+        return new BulkCloseResult(result.requested() + invalid.size(), result.closed(), notFound);
+    }
+
+    private AccountBatchResult getAccounts(List<Long> ids) {
+        try {
+            List<Long> invalid = invalidAccountNumbers(ids);
+            if (invalid.isEmpty()) {
+                return accountService.getAccountsByAccountNumbers(ids);
+            }
+            AccountBatchResult result = accountService.getAccountsByAccountNumbers(validAccountNumbers(ids));
+            List<Long> notFound = new ArrayList<>(result.notFound());
+            notFound.addAll(invalid);
+            return new AccountBatchResult(result.accounts(), notFound);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    // With bank.cluster.enabled, each owner closes its own share of a bulk close
+    private BulkCloseResult closeAccounts(List<Long> accountNumbers, HttpServletRequest request) {
+        AccountOwnership ownership = accountOwnership.getIfAvailable();
+        return ownership == null ? accountService.closeAccounts(accountNumbers)
+                : ownership.closeOnOwners(accountNumbers, request, accountService::closeAccounts);
+    }
+
+    // With bank.cluster.enabled, single-account mutations are applied by the account's owner. Its response is
+    // written out as is, and the handler returns null so that nothing else is written.
+    private boolean forwardedToOwner(Long accountNumber, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        AccountOwnership ownership = accountOwnership.getIfAvailable();
+        Optional<ResponseEntity<byte[]>> forwarded = ownership == null ? Optional.empty()
+                : ownership.forwardIfNotOwned(accountNumber, request);
+        if (forwarded.isEmpty()) {
+            return false;
+        }
+        ResponseEntity<byte[]> owner = forwarded.get();
+        response.setStatus(owner.getStatusCode().value());
+        owner.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        if (owner.getBody() != null) {
+            response.getOutputStream().write(owner.getBody());
+        }
+        response.flushBuffer();
+        return true;
+    }
+
+    // Numbers with a wrong check digit cannot exist, so they are rejected without a lookup
+    private static void requireValid(Long accountNumber) {
+        if (!AccountNumberGenerator.isValid(accountNumber)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid account number");
+        }
+    }
+
+    private static List<Long> invalidAccountNumbers(List<Long> accountNumbers) {
+        return accountNumbers.stream()
+                .filter(accountNumber -> accountNumber != null && !AccountNumberGenerator.isValid(accountNumber))
+                .distinct()
+                .toList();
+    }
+
+    private static List<Long> validAccountNumbers(List<Long> accountNumbers) {
+        return accountNumbers.stream().filter(AccountNumberGenerator::isValid).toList();
+    }
 }
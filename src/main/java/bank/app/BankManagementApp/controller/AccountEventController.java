@@ -0,0 +1,24 @@
+package bank.app.BankManagementApp.controller;
+
+import bank.app.BankManagementApp.service.AccountEventBroadcaster;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/account")
+public class AccountEventController {
+
+    @Autowired
+    private AccountEventBroadcaster accountEventBroadcaster;
+
+    // Committed create/deposit/withdraw/close events; ?accounts=1,2 limits the feed to those accounts
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestParam(defaultValue = "") Set<Long> accounts,
+                                   @RequestParam(defaultValue = "DROP_OLDEST") AccountEventBroadcaster.OverflowPolicy policy) {
+        return accountEventBroadcaster.subscribe(accounts, policy);
+    }
+}
@@ -0,0 +1,28 @@
+package bank.app.BankManagementApp.controller;
+
+import bank.app.BankManagementApp.service.AccountSearchResult;
+import bank.app.BankManagementApp.service.AccountSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/account")
+public class AccountSearchController {
+
+    @Autowired
+    private AccountSearchService accountSearchService;
+
+    @GetMapping("/search")
+    public AccountSearchResult search(@RequestParam String name,
+                                      @RequestParam(defaultValue = "FUZZY") AccountSearchService.Mode mode,
+                                      @RequestParam(defaultValue = "0") int page,
+                                      @RequestParam(defaultValue = "20") int size) {
+        try {
+            return accountSearchService.search(name, mode, page, size);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
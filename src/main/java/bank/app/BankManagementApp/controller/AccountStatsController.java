@@ -0,0 +1,19 @@
+package bank.app.BankManagementApp.controller;
+
+import bank.app.BankManagementApp.service.AccountStatistics;
+import bank.app.BankManagementApp.service.AccountStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/account")
+public class AccountStatsController {
+
+    @Autowired
+    private AccountStatistics accountStatistics;
+
+    @GetMapping("/stats")
+    public AccountStats getStats() {
+        return accountStatistics.getStats();
+    }
+}
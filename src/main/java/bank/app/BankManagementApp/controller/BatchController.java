@@ -0,0 +1,69 @@
+package bank.app.BankManagementApp.controller;
+
+import bank.app.BankManagementApp.batch.AccountCsvImporter;
+import bank.app.BankManagementApp.batch.AccountImportReport;
+import bank.app.BankManagementApp.batch.InterestAccrualJob;
+import bank.app.BankManagementApp.batch.InterestAccrualReport;
+import bank.app.BankManagementApp.batch.StatementGenerationJob;
+import bank.app.BankManagementApp.batch.StatementProgress;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/batch")
+public class BatchController {
+
+    @Autowired
+    private InterestAccrualJob interestAccrualJob;
+
+    @Autowired
+    private StatementGenerationJob statementGenerationJob;
+
+    @Autowired
+    private AccountCsvImporter accountCsvImporter;
+
+    // Runs (or resumes) interest accrual for a period such as 2026-09; dryRun only reports the total
+    @PostMapping("/interest/{period}")
+    public InterestAccrualReport accrueInterest(@PathVariable YearMonth period,
+                                                @RequestParam(defaultValue = "false") boolean dryRun) {
+        try {
+            return interestAccrualJob.run(period, dryRun);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+    }
+
+    // Starts statement generation in the background; poll /batch/statements/progress
+    @PostMapping("/statements/{period}")
+    public ResponseEntity<StatementProgress> generateStatements(@PathVariable YearMonth period) {
+        try {
+            return ResponseEntity.accepted().body(statementGenerationJob.start(period));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+    }
+
+    @GetMapping("/statements/progress")
+    public ResponseEntity<StatementProgress> statementProgress() {
+        StatementProgress progress = statementGenerationJob.getProgress();
+        return progress == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(progress);
+    }
+
+    // Streams the request body; rows are "accountHolderName,accountBalance"
+    @PostMapping(value = "/accounts/import", consumes = {"text/csv", "text/plain"})
+    public AccountImportReport importAccounts(InputStream body,
+                                              @RequestParam(required = false) Integer chunkSize) throws IOException {
+        Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+        return chunkSize == null ? accountCsvImporter.importCsv(reader) : accountCsvImporter.importCsv(reader, chunkSize);
+    }
+}
@@ -0,0 +1,63 @@
+package bank.app.BankManagementApp.controller;
+
+import bank.app.BankManagementApp.config.FlightRecordings;
+import bank.app.BankManagementApp.config.FlightRecordings.RecordingFile;
+import bank.app.BankManagementApp.config.FlightRecordings.RecordingInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Path;
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/jfr")
+public class FlightRecordingController {
+
+    @Autowired
+    private FlightRecordings flightRecordings;
+
+    @PostMapping("/recordings")
+    public ResponseEntity<RecordingInfo> startRecording(@RequestParam(required = false) Long durationSeconds) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(flightRecordings.start(FlightRecordings.Trigger.MANUAL, durationSeconds));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+    }
+
+    @GetMapping("/recordings")
+    public List<RecordingInfo> getRecordings() {
+        return flightRecordings.getRecordings();
+    }
+
+    @PostMapping("/recordings/{id}/stop")
+    public RecordingInfo stopRecording(@PathVariable long id) {
+        return flightRecordings.stop(id);
+    }
+
+    @GetMapping("/files")
+    public List<RecordingFile> getFiles() {
+        return flightRecordings.getFiles();
+    }
+
+    @GetMapping("/files/{name}")
+    public ResponseEntity<Resource> downloadFile(@PathVariable String name) {
+        Path file = flightRecordings.getFile(name);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.getFileName().toString()).build().toString())
+                .body(new FileSystemResource(file));
+    }
+}
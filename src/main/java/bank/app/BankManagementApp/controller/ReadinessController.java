@@ -0,0 +1,27 @@
+package bank.app.BankManagementApp.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+// Readiness probe; stays OUT_OF_SERVICE until StartupWarmup has finished
+@RestController
+public class ReadinessController {
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @GetMapping("/health/readiness")
+    public ResponseEntity<Map<String, String>> getReadiness() {
+        if (applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            return ResponseEntity.ok(Map.of("status", "UP"));
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("status", "OUT_OF_SERVICE"));
+    }
+}
@@ -0,0 +1,29 @@
+package bank.app.BankManagementApp.controller;
+
+import bank.app.BankManagementApp.config.SlowRequest;
+import bank.app.BankManagementApp.config.SlowRequestLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/slow-requests")
+public class SlowRequestController {
+
+    @Autowired
+    private SlowRequestLog slowRequestLog;
+
+    @GetMapping
+    public List<SlowRequest> getSlowRequests(@RequestParam(defaultValue = "50") int limit) {
+        List<SlowRequest> recent = slowRequestLog.recent();
+        return recent.subList(0, Math.min(Math.max(limit, 0), recent.size()));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<String> clearSlowRequests() {
+        slowRequestLog.clear();
+        return ResponseEntity.ok("Slow request log cleared");
+    }
+}
@@ -3,11 +3,14 @@ package bank.app.BankManagementApp.entity;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "account")
+@Table(name = "account", indexes = {
+        @Index(name = "idx_account_holder_name", columnList = "accountHolderName"),
+        @Index(name = "idx_account_balance", columnList = "accountBalance")
+})
 public class Account {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @AccountNumberIdGenerator.Generated
     private Long accountNumber;
     
     @Column
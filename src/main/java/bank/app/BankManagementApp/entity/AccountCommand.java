@@ -0,0 +1,109 @@
+package bank.app.BankManagementApp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * A deposit or withdrawal accepted by the asynchronous command API and applied later by a worker.
+ * The row doubles as the durable queue entry and as the operation status returned to clients.
+ */
+@Entity
+@Table(name = "account_command", indexes = @Index(name = "idx_account_command_status", columnList = "status, id"))
+public class AccountCommand {
+
+    public enum Type { DEPOSIT, WITHDRAW }
+
+    public enum Status { PENDING, SUCCEEDED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_command_seq")
+    @SequenceGenerator(name = "account_command_seq", sequenceName = "account_command_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Type type;
+
+    @Column(nullable = false)
+    private Long accountNumber;
+
+    @Column(nullable = false)
+    private Double amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    // Balance after the command was applied
+    @Column
+    private Double balance;
+
+    @Column(length = 500)
+    private String error;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column
+    private Instant completedAt;
+
+    // Default constructor
+    public AccountCommand() {}
+
+    public AccountCommand(Type type, Long accountNumber, Double amount, Instant createdAt) {
+        this.type = type;
+        this.accountNumber = accountNumber;
+        this.amount = amount;
+        this.status = Status.PENDING;
+        this.createdAt = createdAt;
+    }
+
+    public void succeeded(Double balance, Instant completedAt) {
+        this.status = Status.SUCCEEDED;
+        this.balance = balance;
+        this.completedAt = completedAt;
+    }
+
+    public void failed(String error, Instant completedAt) {
+        this.status = Status.FAILED;
+        this.error = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.completedAt = completedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getAccountNumber() {
+        return accountNumber;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Double getBalance() {
+        return balance;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+}
@@ -0,0 +1,39 @@
+package bank.app.BankManagementApp.entity;
+
+import bank.app.BankManagementApp.service.AccountNumberGenerator;
+import org.hibernate.annotations.IdGeneratorType;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+
+/**
+ * Assigns {@link Account} numbers from the {@link AccountNumberGenerator} bean (resolved through Hibernate's
+ * Spring bean container), so inserts carry their key instead of waiting for a database identity.
+ */
+public class AccountNumberIdGenerator implements IdentifierGenerator {
+
+    private volatile AccountNumberGenerator generator;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        AccountNumberGenerator current = generator;
+        if (current == null) {
+            current = session.getFactory().getServiceRegistry().requireService(ManagedBeanRegistry.class)
+                    .getBean(AccountNumberGenerator.class).getBeanInstance();
+            generator = current;
+        }
+        return current.next();
+    }
+
+    @IdGeneratorType(AccountNumberIdGenerator.class)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(FIELD)
+    public @interface Generated {
+    }
+}
@@ -0,0 +1,29 @@
+package bank.app.BankManagementApp.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Next unreserved value of a number sequence. Rows are only read and advanced by
+ * {@link bank.app.BankManagementApp.service.AccountNumberGenerator}, one block at a time.
+ */
+@Entity
+@Table(name = "account_number_sequence")
+public class AccountNumberSequence {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private Long nextValue;
+
+    protected AccountNumberSequence() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Long getNextValue() {
+        return nextValue;
+    }
+}
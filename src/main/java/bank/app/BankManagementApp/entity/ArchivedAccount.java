@@ -0,0 +1,52 @@
+package bank.app.BankManagementApp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * A closed account as it was at closing. Moved here from {@code account} in the closing transaction, so the
+ * hot table and its indexes only hold active accounts.
+ */
+@Entity
+@Table(name = "account_archive")
+public class ArchivedAccount {
+
+    @Id
+    private Long accountNumber;
+
+    @Column
+    private String accountHolderName;
+
+    @Column
+    private Double accountBalance;
+
+    @Column(nullable = false)
+    private Instant closedAt;
+
+    // Default constructor
+    public ArchivedAccount() {}
+
+    public ArchivedAccount(Long accountNumber, String accountHolderName, Double accountBalance, Instant closedAt) {
+        this.accountNumber = accountNumber;
+        this.accountHolderName = accountHolderName;
+        this.accountBalance = accountBalance;
+        this.closedAt = closedAt;
+    }
+
+    public Long getAccountNumber() {
+        return accountNumber;
+    }
+
+    public String getAccountHolderName() {
+        return accountHolderName;
+    }
+
+    public Double getAccountBalance() {
+        return accountBalance;
+    }
+
+    public Instant getClosedAt() {
+        return closedAt;
+    }
+}
@@ -0,0 +1,45 @@
+package bank.app.BankManagementApp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * One near-cache invalidation, written in the transaction of the change it announces and polled by the other
+ * instances. A null account number invalidates every cached account.
+ */
+@Entity
+@Table(name = "cache_invalidation", indexes = @Index(name = "idx_cache_invalidation_created_at", columnList = "createdAt"))
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long accountNumber;
+
+    @Column(nullable = false)
+    private String originNode;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    // Default constructor
+    public CacheInvalidation() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAccountNumber() {
+        return accountNumber;
+    }
+
+    public String getOriginNode() {
+        return originNode;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,38 @@
+package bank.app.BankManagementApp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * A running instance, kept alive by its heartbeat. Rows whose heartbeat is older than the member timeout
+ * are removed by the other instances.
+ */
+@Entity
+@Table(name = "cluster_member")
+public class ClusterMember {
+
+    @Id
+    private String nodeId;
+
+    @Column(nullable = false)
+    private String baseUrl;
+
+    @Column(nullable = false)
+    private Instant heartbeatAt;
+
+    // Default constructor
+    public ClusterMember() {}
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public Instant getHeartbeatAt() {
+        return heartbeatAt;
+    }
+}
@@ -0,0 +1,102 @@
+package bank.app.BankManagementApp.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * One completed chunk of an interest accrual run. Inserted in the same transaction as the chunk's
+ * UPDATE, so a restarted run skips exactly the chunks that were already credited. New checkpoints are
+ * always persisted rather than merged: a second run of the same chunk, on this node or another, fails
+ * on the primary key and rolls back its UPDATE.
+ */
+@Entity
+@Table(name = "interest_checkpoint")
+public class InterestCheckpoint implements Persistable<String> {
+
+    // period + ":" + first account number of the chunk
+    @Id
+    private String id;
+
+    @Column(nullable = false)
+    private String period;
+
+    @Column(nullable = false)
+    private Long chunkStart;
+
+    @Column(nullable = false)
+    private Long chunkEnd;
+
+    @Column(nullable = false)
+    private Integer accountsUpdated;
+
+    @Column(nullable = false)
+    private Double interestAccrued;
+
+    @Column(nullable = false)
+    private Instant completedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    // Default constructor
+    public InterestCheckpoint() {}
+
+    public InterestCheckpoint(String period, Long chunkStart, Long chunkEnd, Integer accountsUpdated,
+                              Double interestAccrued, Instant completedAt) {
+        this.id = period + ":" + chunkStart;
+        this.period = period;
+        this.chunkStart = chunkStart;
+        this.chunkEnd = chunkEnd;
+        this.accountsUpdated = accountsUpdated;
+        this.interestAccrued = interestAccrued;
+        this.completedAt = completedAt;
+    }
+
+    public void completed(Integer accountsUpdated, Double interestAccrued, Instant completedAt) {
+        this.accountsUpdated = accountsUpdated;
+        this.interestAccrued = interestAccrued;
+        this.completedAt = completedAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public String getPeriod() {
+        return period;
+    }
+
+    public Long getChunkStart() {
+        return chunkStart;
+    }
+
+    public Long getChunkEnd() {
+        return chunkEnd;
+    }
+
+    public Integer getAccountsUpdated() {
+        return accountsUpdated;
+    }
+
+    public Double getInterestAccrued() {
+        return interestAccrued;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+}
@@ -0,0 +1,49 @@
+package bank.app.BankManagementApp.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "withdrawal_history", indexes = @Index(name = "idx_withdrawal_history_created_at", columnList = "createdAt"))
+public class WithdrawalRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "withdrawal_history_seq")
+    @SequenceGenerator(name = "withdrawal_history_seq", sequenceName = "withdrawal_history_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountNumber;
+
+    @Column(nullable = false)
+    private Double amount;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    // Default constructor
+    public WithdrawalRecord() {}
+
+    public WithdrawalRecord(Long accountNumber, Double amount, Instant createdAt) {
+        this.accountNumber = accountNumber;
+        this.amount = amount;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAccountNumber() {
+        return accountNumber;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,28 @@
+package bank.app.BankManagementApp.repository;
+
+import bank.app.BankManagementApp.entity.AccountCommand;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AccountCommandRepository extends JpaRepository<AccountCommand, Long> {
+
+    // Keyset pagination, so a dispatcher can step past commands it leaves to other instances
+    List<AccountCommand> findByStatusAndIdGreaterThanOrderByIdAsc(AccountCommand.Status status, Long afterId,
+                                                                  Pageable pageable);
+
+    long countByStatus(AccountCommand.Status status);
+
+    // Row count 0 means another dispatcher already completed the command; the UPDATE holds the row lock
+    // until the claiming transaction ends, so a concurrent claim waits and then sees the new status
+    @Modifying
+    @Query("update AccountCommand c set c.status = :outcome where c.id = :id " +
+            "and c.status = bank.app.BankManagementApp.entity.AccountCommand$Status.PENDING")
+    int claimPending(@Param("id") Long id, @Param("outcome") AccountCommand.Status outcome);
+}
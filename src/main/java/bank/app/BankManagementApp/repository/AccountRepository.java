@@ -1,9 +1,85 @@
 package bank.app.BankManagementApp.repository;
 
 import bank.app.BankManagementApp.entity.Account;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
+
+    // SELECT ... FOR UPDATE, so concurrent balance changes on one account serialize instead of losing updates
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.accountNumber = :accountNumber")
+    Optional<Account> findByIdForUpdate(@Param("accountNumber") Long accountNumber);
+
+    // Single DELETE; the affected-row count tells whether the account existed
+    @Modifying
+    @Query("delete from Account a where a.accountNumber = :accountNumber")
+    int deleteAccount(@Param("accountNumber") Long accountNumber);
+
+    @Modifying
+    @Query("delete from Account a where a.accountNumber in :accountNumbers")
+    int deleteAccounts(@Param("accountNumbers") Collection<Long> accountNumbers);
+
+    // Locks the rows a bulk close is about to archive, so a concurrent close of the same account waits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.accountNumber in :accountNumbers")
+    List<Account> lockAccounts(@Param("accountNumbers") Collection<Long> accountNumbers);
+
+    // Copies accounts into account_archive with one INSERT ... SELECT; the caller deletes them afterwards
+    @Modifying
+    @Query(value = "insert into account_archive (account_number, account_holder_name, account_balance, closed_at) " +
+            "select account_number, account_holder_name, account_balance, current_timestamp from account " +
+            "where account_number in (:accountNumbers)", nativeQuery = true)
+    int archiveAccounts(@Param("accountNumbers") Collection<Long> accountNumbers);
+
+    // Served by idx_account_holder_name; case-sensitive so the index can be used
+    List<Account> findByAccountHolderNameStartingWithOrderByAccountHolderNameAscAccountNumberAsc(String prefix,
+                                                                                               Pageable pageable);
+
+    // Served by idx_account_balance; account number breaks ties so pages are stable
+    List<Account> findByAccountBalanceBetweenOrderByAccountBalanceAscAccountNumberAsc(Double min, Double max,
+                                                                                      Pageable pageable);
+
+    List<Account> findByAccountBalanceNotNullOrderByAccountBalanceDescAccountNumberAsc(Pageable pageable);
+
+    // Keyset pagination over a balance range: the accounts ordered after (afterBalance, afterAccount)
+    @Query("select a from Account a where a.accountBalance between :min and :max " +
+            "and (a.accountBalance > :afterBalance or (a.accountBalance = :afterBalance and a.accountNumber > :afterAccount)) " +
+            "order by a.accountBalance, a.accountNumber")
+    List<Account> findBalanceRangeAfter(@Param("min") Double min, @Param("max") Double max,
+                                        @Param("afterBalance") Double afterBalance,
+                                        @Param("afterAccount") Long afterAccount, Pageable pageable);
+
+    // Keyset pagination: the next chunk after the last account number seen, without OFFSET scans
+    @Query("select a from Account a where a.accountNumber > :afterAccount order by a.accountNumber")
+    List<Account> findChunkAfter(@Param("afterAccount") Long afterAccount, Pageable pageable);
+
+    @Query("select min(a.accountNumber) from Account a")
+    Long findMinAccountNumber();
+
+    @Query("select max(a.accountNumber) from Account a")
+    Long findMaxAccountNumber();
+
+    // Interest is credited in whole cents on positive balances only
+    @Query(value = "select coalesce(sum(round(account_balance * :rate, 2)), 0) from account " +
+            "where account_number between :fromAccount and :toAccount and account_balance > 0", nativeQuery = true)
+    double sumInterestInRange(@Param("fromAccount") Long fromAccount, @Param("toAccount") Long toAccount,
+                              @Param("rate") double rate);
+
+    @Modifying
+    @Query(value = "update account set account_balance = account_balance + round(account_balance * :rate, 2) " +
+            "where account_number between :fromAccount and :toAccount and account_balance > 0", nativeQuery = true)
+    int applyInterestInRange(@Param("fromAccount") Long fromAccount, @Param("toAccount") Long toAccount,
+                             @Param("rate") double rate);
 }
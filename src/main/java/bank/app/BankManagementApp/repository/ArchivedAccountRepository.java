@@ -0,0 +1,9 @@
+package bank.app.BankManagementApp.repository;
+
+import bank.app.BankManagementApp.entity.ArchivedAccount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArchivedAccountRepository extends JpaRepository<ArchivedAccount, Long> {
+}
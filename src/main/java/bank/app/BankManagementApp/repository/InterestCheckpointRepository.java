@@ -0,0 +1,18 @@
+package bank.app.BankManagementApp.repository;
+
+import bank.app.BankManagementApp.entity.InterestCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface InterestCheckpointRepository extends JpaRepository<InterestCheckpoint, String> {
+
+    @Query("select c.chunkStart from InterestCheckpoint c where c.period = :period")
+    List<Long> findCompletedChunkStarts(@Param("period") String period);
+
+    List<InterestCheckpoint> findByPeriod(String period);
+}
@@ -0,0 +1,23 @@
+package bank.app.BankManagementApp.repository;
+
+import bank.app.BankManagementApp.entity.WithdrawalRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface WithdrawalRecordRepository extends JpaRepository<WithdrawalRecord, Long> {
+
+    Stream<WithdrawalRecord> streamByCreatedAtAfter(Instant since);
+
+    @Query("select w from WithdrawalRecord w where w.accountNumber between :fromAccount and :toAccount " +
+            "and w.createdAt >= :from and w.createdAt < :to order by w.accountNumber, w.createdAt")
+    List<WithdrawalRecord> findForAccountsInPeriod(@Param("fromAccount") Long fromAccount,
+                                                   @Param("toAccount") Long toAccount,
+                                                   @Param("from") Instant from, @Param("to") Instant to);
+}
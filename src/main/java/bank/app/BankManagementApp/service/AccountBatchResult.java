@@ -0,0 +1,12 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.entity.Account;
+
+import java.util.List;
+
+/**
+ * Result of {@link AccountService#getAccountsByAccountNumbers(List)}. Both lists follow the order of the
+ * request, with duplicates removed; {@code notFound} lists account numbers that do not exist.
+ */
+public record AccountBatchResult(List<Account> accounts, List<Long> notFound) {
+}
@@ -0,0 +1,210 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.config.ClusterMembership;
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.entity.AccountCommand;
+import bank.app.BankManagementApp.repository.AccountCommandRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Durable queue behind the asynchronous deposit/withdraw API, backed by the {@code account_command} table.
+ *
+ * A dispatcher thread polls pending commands in id order, groups each batch by account and hands the
+ * groups to a worker pool, so commands for one account are applied in the order they were accepted
+ * while different accounts proceed in parallel. Each command is claimed with a conditional status
+ * update and applied through {@link AccountService} in that same transaction, so neither a crash nor a
+ * second instance polling the same table can apply a command twice.
+ *
+ * With {@code bank.cluster.enabled} each dispatcher applies only the commands for accounts its instance owns
+ * and steps past the rest, so queued commands keep the single-writer guarantee of the synchronous endpoints.
+ *
+ * Not available with sharding enabled: the queue table lives on a single database.
+ */
+@Service
+@ConditionalOnProperty(prefix = "bank.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class AccountCommandService {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountCommandService.class);
+
+    private final AtomicLong pending = new AtomicLong();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private ScheduledExecutorService dispatcher;
+    private ExecutorService workers;
+    private TransactionTemplate tx;
+
+    @Autowired
+    private AccountCommandRepository commandRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectProvider<ClusterMembership> clusterMembership;
+
+    @Value("${bank.commands.max-pending:100000}")
+    private long maxPending;
+
+    @Value("${bank.commands.batch-size:500}")
+    private int batchSize;
+
+    @Value("${bank.commands.worker-threads:4}")
+    private int workerThreads;
+
+    @Value("${bank.commands.poll-interval-ms:100}")
+    private long pollIntervalMillis;
+
+    @PostConstruct
+    void start() {
+        tx = new TransactionTemplate(transactionManager);
+        pending.set(commandRepository.countByStatus(AccountCommand.Status.PENDING));
+        workers = Executors.newFixedThreadPool(workerThreads);
+        dispatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "account-command-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(this::drainQuietly, pollIntervalMillis, pollIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public AccountCommand enqueue(AccountCommand.Type type, Long accountNumber, Double amount) {
+        // Count is kept in memory so accepting a command costs a single INSERT
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            throw new CommandQueueFullException("Command queue is full");
+        }
+        try {
+            return commandRepository.save(new AccountCommand(type, accountNumber, amount, Instant.now()));
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
+    public Optional<AccountCommand> getCommand(Long id) {
+        return commandRepository.findById(id);
+    }
+
+    public long getPendingCount() {
+        return pending.get();
+    }
+
+    /** Applies pending commands until the queue is empty; returns how many were processed. */
+    public int drain() {
+        drainLock.lock();
+        try {
+            int processed = 0;
+            long afterId = 0;
+            List<AccountCommand> batch;
+            while (!(batch = commandRepository.findByStatusAndIdGreaterThanOrderByIdAsc(AccountCommand.Status.PENDING,
+                    afterId, PageRequest.ofSize(batchSize))).isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+                processed += processBatch(owned(batch));
+            }
+            // Other instances complete commands this one accepted, so resync once the queue looks empty
+            pending.set(commandRepository.countByStatus(AccountCommand.Status.PENDING));
+            return processed;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Processing queued account commands failed", e);
+        }
+    }
+
+    // Commands for accounts owned by other instances stay pending for their owners
+    private List<AccountCommand> owned(List<AccountCommand> batch) {
+        ClusterMembership membership = clusterMembership.getIfAvailable();
+        return membership == null ? batch
+                : batch.stream().filter(command -> membership.isOwner(command.getAccountNumber())).toList();
+    }
+
+    private int processBatch(List<AccountCommand> batch) {
+        Map<Long, List<AccountCommand>> byAccount = new LinkedHashMap<>();
+        for (AccountCommand command : batch) {
+            byAccount.computeIfAbsent(command.getAccountNumber(), k -> new ArrayList<>()).add(command);
+        }
+        AtomicInteger applied = new AtomicInteger();
+        List<CompletableFuture<Void>> groups = new ArrayList<>(byAccount.size());
+        for (List<AccountCommand> commands : byAccount.values()) {
+            groups.add(CompletableFuture.runAsync(() -> commands.forEach(command -> {
+                if (apply(command)) {
+                    applied.incrementAndGet();
+                }
+            }), workers));
+        }
+        CompletableFuture.allOf(groups.toArray(new CompletableFuture[0])).join();
+        return applied.get();
+    }
+
+    // Returns false when another dispatcher completed the command first
+    private boolean apply(AccountCommand command) {
+        boolean claimed;
+        try {
+            claimed = tx.execute(status -> {
+                if (commandRepository.claimPending(command.getId(), AccountCommand.Status.SUCCEEDED) == 0) {
+                    return false;
+                }
+                Account account = command.getType() == AccountCommand.Type.DEPOSIT
+                        ? accountService.depositAmount(command.getAccountNumber(), command.getAmount())
+                        : accountService.withdrawAmount(command.getAccountNumber(), command.getAmount());
+                command.succeeded(account.getAccountBalance(), Instant.now());
+                commandRepository.save(command);
+                return true;
+            });
+        } catch (RuntimeException e) {
+            command.failed(e.getMessage(), Instant.now());
+            claimed = tx.execute(status -> {
+                if (commandRepository.claimPending(command.getId(), AccountCommand.Status.FAILED) == 0) {
+                    return false;
+                }
+                commandRepository.save(command);
+                return true;
+            });
+        }
+        if (claimed) {
+            pending.decrementAndGet();
+        }
+        return claimed;
+    }
+}
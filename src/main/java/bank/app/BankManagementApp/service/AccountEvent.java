@@ -0,0 +1,17 @@
+package bank.app.BankManagementApp.service;
+
+/**
+ * Published by {@link AccountServiceImpl} for every successful mutation. Listeners that must
+ * only see committed changes use {@code @TransactionalEventListener(fallbackExecution = true)}.
+ *
+ * {@link Type#CLOSED} carries the holder name and the balance at close, read from the locked row.
+ *
+ * @param amount  the deposited/withdrawn amount, {@code null} for create and close
+ * @param balance the balance after the change, or at close
+ */
+public record AccountEvent(Type type, Long accountNumber, String accountHolderName, Double amount, Double balance) {
+
+    public enum Type {
+        CREATED, DEPOSITED, WITHDRAWN, CLOSED
+    }
+}
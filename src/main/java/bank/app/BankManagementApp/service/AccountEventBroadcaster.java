@@ -0,0 +1,248 @@
+package bank.app.BankManagementApp.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed {@link AccountEvent}s to Server-Sent Events subscribers.
+ *
+ * Publishing never blocks on a client: each subscriber has a bounded buffer that is drained by a
+ * sender pool. When a buffer is full the subscriber's {@link OverflowPolicy} decides whether
+ * the oldest or the newest event is dropped, or the slow subscriber is disconnected. Dropped events
+ * are reported to the client as a {@code dropped} event carrying the count, so it knows to resync.
+ *
+ * Writes block while a client's TCP window is full, so the pool grows to one thread per draining
+ * subscriber instead of queueing behind a stalled one. A write still blocked after
+ * {@code write-timeout-ms} disconnects its subscriber. Its thread stays blocked until the write fails, so
+ * when every thread is taken a subscriber that cannot be scheduled is disconnected as well.
+ */
+@Component
+public class AccountEventBroadcaster {
+
+    public enum OverflowPolicy { DROP_OLDEST, DROP_NEWEST, DISCONNECT }
+
+    private final Set<Subscription> subscriptions = new CopyOnWriteArraySet<>();
+    private final AtomicLong nextEventId = new AtomicLong();
+    private final ExecutorService senders;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long writeTimeoutMillis;
+
+    @Autowired
+    public AccountEventBroadcaster(@Value("${bank.events.buffer-size:256}") int bufferSize,
+                                   @Value("${bank.events.max-subscribers:1000}") int maxSubscribers,
+                                   @Value("${bank.events.timeout-ms:1800000}") long timeoutMillis,
+                                   @Value("${bank.events.sender-threads:4}") int senderThreads,
+                                   @Value("${bank.events.write-timeout-ms:10000}") long writeTimeoutMillis) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+        // At most one drain per subscriber runs at a time, so max-subscribers threads reject only while
+        // dropped stalled subscribers still hold theirs; sender-threads stay warm and the rest exit when idle
+        this.senders = new ThreadPoolExecutor(Math.min(senderThreads, maxSubscribers), Math.max(1, maxSubscribers),
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+            Thread thread = new Thread(r, "account-event-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** @param accountNumbers accounts to receive events for; empty for all accounts */
+    public SseEmitter subscribe(Set<Long> accountNumbers, OverflowPolicy policy) {
+        return subscribe(new SseEmitter(timeoutMillis), accountNumbers, policy);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Set<Long> accountNumbers, OverflowPolicy policy) {
+        if (subscriptions.size() >= maxSubscribers) {
+            throw new TooManySubscribersException("Too many event subscribers");
+        }
+        Subscription subscription = new Subscription(emitter, Set.copyOf(accountNumbers), policy, bufferSize);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        // An immediate comment commits the response headers so clients see the stream open
+        subscription.heartbeatDue = true;
+        schedule(subscription);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountEvent(AccountEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        Envelope envelope = new Envelope(nextEventId.incrementAndGet(), event);
+        for (Subscription subscription : subscriptions) {
+            if (subscription.accepts(event) && subscription.offer(envelope)) {
+                schedule(subscription);
+            }
+        }
+    }
+
+    // Keeps idle connections alive through proxies and detects clients that went away
+    @Scheduled(fixedDelayString = "${bank.events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            subscription.heartbeatDue = true;
+            schedule(subscription);
+        }
+    }
+
+    // Disconnects subscribers whose current write has been blocked for longer than write-timeout-ms
+    @Scheduled(fixedDelayString = "${bank.events.write-timeout-check-interval-ms:1000}")
+    public void dropStalledSubscribers() {
+        long now = System.currentTimeMillis();
+        for (Subscription subscription : subscriptions) {
+            long startedAt = subscription.writeStartedAt;
+            if (startedAt != 0 && now - startedAt > writeTimeoutMillis && subscriptions.remove(subscription)) {
+                subscription.emitter.completeWithError(new IOException("Event stream write timed out"));
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    private void schedule(Subscription subscription) {
+        if (subscription.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscription));
+            } catch (RejectedExecutionException e) {
+                // Threads of dropped stalled subscribers are still blocked in their writes
+                subscriptions.remove(subscription);
+                subscription.draining.set(false);
+                subscription.emitter.completeWithError(new IOException("No event sender available"));
+            }
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            do {
+                subscription.sendPending();
+                subscription.draining.set(false);
+            } while (subscription.hasPending() && subscription.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            // Client disconnected or emitter already completed
+            subscriptions.remove(subscription);
+            subscription.draining.set(false);
+        }
+    }
+
+    private void disconnect(Subscription subscription) {
+        subscriptions.remove(subscription);
+        subscription.emitter.complete();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+    }
+
+    private record Envelope(long id, AccountEvent event) {
+    }
+
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Set<Long> accountNumbers;
+        private final OverflowPolicy policy;
+        private final ArrayBlockingQueue<Envelope> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicLong dropped = new AtomicLong();
+        private volatile boolean heartbeatDue;
+        // When the write in progress started, 0 while not writing
+        private volatile long writeStartedAt;
+
+        Subscription(SseEmitter emitter, Set<Long> accountNumbers, OverflowPolicy policy, int bufferSize) {
+            this.emitter = emitter;
+            this.accountNumbers = accountNumbers;
+            this.policy = policy;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean accepts(AccountEvent event) {
+            return accountNumbers.isEmpty() || accountNumbers.contains(event.accountNumber());
+        }
+
+        // Returns false if the subscriber was disconnected instead
+        boolean offer(Envelope envelope) {
+            while (!buffer.offer(envelope)) {
+                switch (policy) {
+                    case DROP_NEWEST -> {
+                        dropped.incrementAndGet();
+                        return true;
+                    }
+                    case DROP_OLDEST -> {
+                        if (buffer.poll() != null) {
+                            dropped.incrementAndGet();
+                        }
+                    }
+                    case DISCONNECT -> {
+                        disconnect(this);
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        boolean hasPending() {
+            return !buffer.isEmpty() || dropped.get() > 0 || heartbeatDue;
+        }
+
+        void sendPending() throws IOException {
+            while (true) {
+                // Report a gap before the first event that follows it
+                long droppedCount = dropped.getAndSet(0);
+                if (droppedCount > 0) {
+                    send(SseEmitter.event().name("dropped").data(droppedCount));
+                }
+                Envelope envelope = buffer.poll();
+                if (envelope == null) {
+                    break;
+                }
+                send(SseEmitter.event()
+                        .id(String.valueOf(envelope.id()))
+                        .name(envelope.event().type().name())
+                        .data(envelope.event(), MediaType.APPLICATION_JSON));
+            }
+            if (heartbeatDue) {
+                heartbeatDue = false;
+                send(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            writeStartedAt = System.currentTimeMillis();
+            try {
+                emitter.send(event);
+            } finally {
+                writeStartedAt = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.entity.Account;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-instance cache of account lookups in front of the database.
+ *
+ * Committed {@link AccountEvent}s evict the account here. Every event is announced to other instances through
+ * the {@link CacheInvalidationBus} when it is published, inside the changing transaction, so the bus can
+ * batch a transaction's invalidations. Entries expire after {@code ttl-ms}, which
+ * bounds staleness even if an invalidation is lost.
+ *
+ * Loads take a {@link #loadToken} first; {@link #put} drops the result if an invalidation of the same stripe
+ * happened in between, so a read racing a write cannot cache the old balance.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bank.near-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AccountNearCache {
+
+    private static final int STRIPES = 1024;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray invalidations = new AtomicLongArray(STRIPES);
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final CacheInvalidationBus bus;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    @Autowired
+    public AccountNearCache(CacheInvalidationBus bus,
+                            @Value("${bank.near-cache.ttl-ms:30000}") long ttlMillis,
+                            @Value("${bank.near-cache.max-entries:100000}") int maxEntries) {
+        this(bus, ttlMillis, maxEntries, System::nanoTime);
+    }
+
+    AccountNearCache(CacheInvalidationBus bus, long ttlMillis, int maxEntries, LongSupplier clock) {
+        this.bus = bus;
+        this.ttlNanos = ttlMillis * 1_000_000;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        bus.subscribe(accountNumber -> {
+            if (accountNumber == null) {
+                invalidateAll();
+            } else {
+                invalidate(accountNumber);
+            }
+        });
+    }
+
+    /** A copy of the cached account, or null on a miss. */
+    public Account get(Long accountNumber) {
+        Entry entry = entries.get(accountNumber);
+        if (entry == null || entry.expiresAt - clock.getAsLong() < 0) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.toAccount();
+    }
+
+    public long loadToken(Long accountNumber) {
+        return invalidations.get(stripe(accountNumber));
+    }
+
+    /** Caches {@code account} unless it was invalidated since {@code token} was taken. */
+    public void put(Account account, long token) {
+        Long accountNumber = account.getAccountNumber();
+        int stripe = stripe(accountNumber);
+        if (invalidations.get(stripe) != token) {
+            return;
+        }
+        // One caller scans at a time; the others insert meanwhile and may overshoot the limit briefly
+        if (entries.size() >= maxEntries && evicting.compareAndSet(false, true)) {
+            try {
+                evict();
+            } finally {
+                evicting.set(false);
+            }
+        }
+        Entry entry = new Entry(accountNumber, account.getAccountHolderName(), account.getAccountBalance(),
+                clock.getAsLong() + ttlNanos);
+        entries.put(accountNumber, entry);
+        // An invalidation that ran between the check and the put has already removed its key
+        if (invalidations.get(stripe) != token) {
+            entries.remove(accountNumber, entry);
+        }
+    }
+
+    public void invalidate(Long accountNumber) {
+        invalidations.incrementAndGet(stripe(accountNumber));
+        entries.remove(accountNumber);
+    }
+
+    public void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            invalidations.incrementAndGet(i);
+        }
+        entries.clear();
+    }
+
+    /** Drops every cached account here and on all other instances, e.g. after a set-based UPDATE. */
+    public void invalidateEverywhere() {
+        bus.publish(null);
+        invalidateAll();
+    }
+
+    @EventListener
+    public void announce(AccountEvent event) {
+        if (event.type() != AccountEvent.Type.CREATED) {
+            bus.publish(event.accountNumber());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountEvent(AccountEvent event) {
+        if (event.type() != AccountEvent.Type.CREATED) {
+            invalidate(event.accountNumber());
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private void evict() {
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> entry.expiresAt - now < 0);
+        // Still full: drop an arbitrary tenth rather than track recency on every hit
+        Iterator<Long> keys = entries.keySet().iterator();
+        for (int toDrop = entries.size() - maxEntries * 9 / 10; toDrop > 0 && keys.hasNext(); toDrop--) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static int stripe(Long accountNumber) {
+        return Long.hashCode(accountNumber) & (STRIPES - 1);
+    }
+
+    private record Entry(Long accountNumber, String accountHolderName, Double accountBalance, long expiresAt) {
+
+        Account toAccount() {
+            Account account = new Account(accountHolderName, accountBalance);
+            account.setAccountNumber(accountNumber);
+            return account;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.config.ShardRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands out account numbers from blocks reserved in the {@code account_number_sequence} table, so an
+ * insert only touches the sequence once per {@code bank.account-number.block-size} accounts. Each number
+ * is a sequence value followed by a Luhn check digit, which lets {@link #isValid(Long)} reject mistyped or
+ * made-up numbers without a lookup.
+ *
+ * With sharding, each shard has its own sequence row and value {@code v} becomes
+ * {@code v * shardCount + shard + 1}, so {@link ShardRoutingDataSource#shardFor(Long)} still finds the owner
+ * from the number alone. Numbers left in a block at shutdown are never issued.
+ *
+ * A shard's sequence row is created on its first reservation, starting above the highest account number
+ * already on that shard, so numbers assigned before this generator existed are never issued again.
+ */
+@Component
+public class AccountNumberGenerator {
+
+    private static final String SEQUENCE = "account";
+
+    // Per shard; the block in use is swapped for a fresh one once it runs out
+    private final ConcurrentHashMap<Integer, AtomicReference<Block>> blocks = new ConcurrentHashMap<>();
+    private final TransactionTemplate reserveTransaction;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectProvider<ShardRoutingDataSource> shardRouting;
+
+    @Value("${bank.account-number.block-size:1000}")
+    private int blockSize = 1000;
+
+    public AccountNumberGenerator(PlatformTransactionManager transactionManager) {
+        reserveTransaction = new TransactionTemplate(transactionManager);
+        reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    private record Block(AtomicLong next, long end) {
+        static final Block EMPTY = new Block(new AtomicLong(), 0);
+    }
+
+    /** The next account number for the shard selected on this thread. */
+    public long next() {
+        ShardRoutingDataSource shards = shardRouting.getIfAvailable();
+        int shardCount = shards == null ? 1 : shards.getShardCount();
+        int shard = shards == null ? 0 : ShardRoutingDataSource.currentShard();
+        AtomicReference<Block> current = blocks.computeIfAbsent(shard, key -> new AtomicReference<>(Block.EMPTY));
+        while (true) {
+            Block block = current.get();
+            long value = block.next().getAndIncrement();
+            if (value < block.end()) {
+                return withCheckDigit(value * shardCount + shard + 1);
+            }
+            synchronized (current) {
+                if (current.get() == block) {
+                    current.set(reserve(shardCount));
+                }
+            }
+        }
+    }
+
+    // Runs in its own transaction so the sequence row lock is held only for the reservation
+    private Block reserve(int shardCount) {
+        try {
+            return reserveTransaction.execute(status -> reserveBlock(shardCount));
+        } catch (DuplicateKeyException e) {
+            // Another node created the sequence row first
+            return reserveTransaction.execute(status -> reserveBlock(shardCount));
+        }
+    }
+
+    private Block reserveBlock(int shardCount) {
+        int updated = jdbcTemplate.update("update account_number_sequence set next_value = next_value + ? where name = ?",
+                blockSize, SEQUENCE);
+        if (updated == 0) {
+            // Value v becomes v * shardCount + shard + 1 plus a check digit, so this start issues only numbers
+            // above any open or closed account, e.g. identity keys from before check digits
+            long max = Math.max(maxAccountNumber("account"), maxAccountNumber("account_archive"));
+            long start = valueOf(max) / shardCount;
+            jdbcTemplate.update("insert into account_number_sequence (name, next_value) values (?, ?)",
+                    SEQUENCE, start + blockSize);
+            return new Block(new AtomicLong(start), start + blockSize);
+        }
+        long end = jdbcTemplate.queryForObject("select next_value from account_number_sequence where name = ?",
+                Long.class, SEQUENCE);
+        return new Block(new AtomicLong(end - blockSize), end);
+    }
+
+    private long maxAccountNumber(String table) {
+        Long max = jdbcTemplate.queryForObject("select max(account_number) from " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    public static long withCheckDigit(long value) {
+        return value * 10 + checkDigit(value);
+    }
+
+    /** Whether {@code accountNumber} has a valid check digit; does not say whether the account exists. */
+    public static boolean isValid(Long accountNumber) {
+        return accountNumber != null && accountNumber >= 10 && accountNumber % 10 == checkDigit(accountNumber / 10);
+    }
+
+    /** The sequence part of {@code accountNumber}, without its check digit. */
+    public static long valueOf(long accountNumber) {
+        return accountNumber / 10;
+    }
+
+    // Luhn: double every second digit from the right, starting with the digit next to the check digit
+    static int checkDigit(long value) {
+        int sum = 0;
+        boolean doubled = true;
+        for (long rest = value; rest > 0; rest /= 10) {
+            int digit = (int) (rest % 10);
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (10 - sum % 10) % 10;
+    }
+}
@@ -0,0 +1,57 @@
+package bank.app.BankManagementApp.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * Java Flight Recorder event for one {@link AccountServiceImpl} operation. Costs next to nothing while no
+ * recording has it enabled.
+ */
+@Name("bank.AccountOperation")
+@Label("Account Operation")
+@Category({"Bank", "Accounts"})
+@Description("A lookup or mutation in AccountServiceImpl")
+@StackTrace(false)
+public class AccountOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    // 0 for operations without a single account, e.g. bulk close
+    @Label("Account Number")
+    long accountNumber;
+
+    @Label("Accounts")
+    int accountCount;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /** Runs {@code work} as one event. Inside a transactional method, so the commit is not included. */
+    static <T> T record(String operation, Long accountNumber, int accountCount, Supplier<T> work) {
+        AccountOperationEvent event = new AccountOperationEvent();
+        if (!event.isEnabled()) {
+            return work.get();
+        }
+        event.begin();
+        try {
+            T result = work.get();
+            event.succeeded = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.accountNumber = accountNumber == null ? 0 : accountNumber;
+                event.accountCount = accountCount;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package bank.app.BankManagementApp.service;
+
+import java.util.List;
+
+/**
+ * One page of holder-name search results. {@code score} is the fuzzy similarity between 0 and 1,
+ * or {@code null} for prefix matches.
+ */
+public record AccountSearchResult(String query, AccountSearchService.Mode mode, int page, int size,
+                                  List<Match> results) {
+
+    public record Match(Long accountNumber, String accountHolderName, Double score) {
+    }
+}
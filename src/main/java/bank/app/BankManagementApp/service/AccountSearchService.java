@@ -0,0 +1,75 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.config.ShardRoutingDataSource;
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+public class AccountSearchService {
+
+    public enum Mode { PREFIX, FUZZY }
+
+    private static final Comparator<Account> BY_NAME = Comparator.comparing(Account::getAccountHolderName)
+            .thenComparing(Account::getAccountNumber);
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private HolderNameIndex holderNameIndex;
+
+    @Autowired
+    private ObjectProvider<ShardRoutingDataSource> shardRouting;
+
+    @Value("${bank.search.max-page-size:100}")
+    private int maxPageSize;
+
+    public AccountSearchResult search(String query, Mode mode, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Invalid page or size");
+        }
+        int pageSize = Math.min(size, maxPageSize);
+        if (((long) page + 1) * pageSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid page or size");
+        }
+        List<AccountSearchResult.Match> results = mode == Mode.PREFIX
+                ? findByPrefix(query, page, pageSize).stream()
+                        .map(account -> new AccountSearchResult.Match(account.getAccountNumber(),
+                                account.getAccountHolderName(), null))
+                        .toList()
+                : holderNameIndex.search(query, page * pageSize, pageSize).stream()
+                        .map(match -> new AccountSearchResult.Match(match.accountNumber(),
+                                match.accountHolderName(), match.score()))
+                        .toList();
+        return new AccountSearchResult(query, mode, page, pageSize, results);
+    }
+
+    private List<Account> findByPrefix(String prefix, int page, int pageSize) {
+        ShardRoutingDataSource shards = shardRouting.getIfAvailable();
+        if (shards == null) {
+            return accountRepository.findByAccountHolderNameStartingWithOrderByAccountHolderNameAscAccountNumberAsc(
+                    prefix, PageRequest.of(page, pageSize));
+        }
+        // Each shard returns everything up to the end of the requested page; the merged list is then sliced
+        List<Account> merged = new ArrayList<>();
+        for (int shard = 0; shard < shards.getShardCount(); shard++) {
+            merged.addAll(ShardRoutingDataSource.callOnShard(shard, () -> accountRepository
+                    .findByAccountHolderNameStartingWithOrderByAccountHolderNameAscAccountNumberAsc(
+                            prefix, PageRequest.of(0, (page + 1) * pageSize))));
+        }
+        merged.sort(BY_NAME);
+        return merged.subList(Math.min(page * pageSize, merged.size()), Math.min((page + 1) * pageSize, merged.size()));
+    }
+}
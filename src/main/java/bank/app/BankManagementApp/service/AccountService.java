@@ -1,13 +1,17 @@
 package bank.app.BankManagementApp.service;
 
 import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.entity.ArchivedAccount;
 import java.util.List;
 
 public interface AccountService {
     Account createAccount(Account account);
     Account getAccountDetailsByAccountNumber(Long accountNumber);
+    AccountBatchResult getAccountsByAccountNumbers(List<Long> accountNumbers);
     List<Account> getAllAccounts();
     Account depositAmount(Long accountNumber, Double amount);
     Account withdrawAmount(Long accountNumber, Double amount);
     void closeAccount(Long accountNumber);
+    BulkCloseResult closeAccounts(List<Long> accountNumbers);
+    ArchivedAccount getArchivedAccount(Long accountNumber);
 }
@@ -1,11 +1,21 @@
 package bank.app.BankManagementApp.service;
 
+import bank.app.BankManagementApp.config.ReadYourWritesTracker;
 import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.entity.ArchivedAccount;
 import bank.app.BankManagementApp.repository.AccountRepository;
+import bank.app.BankManagementApp.repository.ArchivedAccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class AccountServiceImpl implements AccountService {
@@ -13,39 +23,213 @@ public class AccountServiceImpl implements AccountService {
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private ArchivedAccountRepository archivedAccountRepository;
+
+    @Autowired
+    private WithdrawalLimiter withdrawalLimiter;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired(required = false)
+    private AccountNearCache nearCache;
+
+    // Account numbers per DELETE ... IN (...) statement in closeAccounts
+    @Value("${bank.close.batch-size:1000}")
+    private int closeBatchSize = 1000;
+
+    // Account numbers per findAllById IN (...) query in getAccountsByAccountNumbers
+    @Value("${bank.batch-get.chunk-size:500}")
+    private int batchGetChunkSize = 500;
+
+    @Value("${bank.batch-get.max-ids:1000}")
+    private int batchGetMaxIds = 1000;
+
     @Override
     public Account createAccount(Account account) {
-        return accountRepository.save(account);
+        return AccountOperationEvent.record("create", null, 1, () -> {
+            Account saved = accountRepository.save(account);
+            publish(AccountEvent.Type.CREATED, saved, null);
+            return saved;
+        });
     }
 
+    // Not @Transactional: a near-cache hit needs no connection, and findById runs in its own read-only transaction
     @Override
     public Account getAccountDetailsByAccountNumber(Long accountNumber) {
-        return accountRepository.findById(accountNumber)
-                .orElseThrow(() -> new RuntimeException("Account not found"));
+        return AccountOperationEvent.record("lookup", accountNumber, 1, () -> {
+            if (nearCache == null) {
+                return loadAccount(accountNumber);
+            }
+            Account cached = nearCache.get(accountNumber);
+            if (cached != null) {
+                return cached;
+            }
+            long token = nearCache.loadToken(accountNumber);
+            Account account = loadAccount(accountNumber);
+            nearCache.put(account, token);
+            return account;
+        });
     }
 
     @Override
+    public AccountBatchResult getAccountsByAccountNumbers(List<Long> accountNumbers) {
+        return AccountOperationEvent.record("batchLookup", null, accountNumbers.size(), () -> {
+            List<Long> distinct = accountNumbers.stream().filter(Objects::nonNull).distinct().toList();
+            if (distinct.size() > batchGetMaxIds) {
+                throw new IllegalArgumentException("At most " + batchGetMaxIds + " account numbers per request");
+            }
+            Map<Long, Account> found = new HashMap<>();
+            List<Long> toLoad = distinct;
+            Map<Long, Long> tokens = Map.of();
+            if (nearCache != null) {
+                toLoad = new ArrayList<>();
+                tokens = new HashMap<>();
+                for (Long accountNumber : distinct) {
+                    Account cached = nearCache.get(accountNumber);
+                    if (cached != null) {
+                        found.put(accountNumber, cached);
+                    } else {
+                        toLoad.add(accountNumber);
+                        tokens.put(accountNumber, nearCache.loadToken(accountNumber));
+                    }
+                }
+            }
+            try (ReadYourWritesTracker.Pin ignored = readYourWritesTracker.pinIfAnyRecentlyWritten(toLoad)) {
+                for (int from = 0; from < toLoad.size(); from += batchGetChunkSize) {
+                    List<Long> chunk = toLoad.subList(from, Math.min(from + batchGetChunkSize, toLoad.size()));
+                    for (Account account : accountRepository.findAllById(chunk)) {
+                        found.put(account.getAccountNumber(), account);
+                        if (nearCache != null) {
+                            nearCache.put(account, tokens.get(account.getAccountNumber()));
+                        }
+                    }
+                }
+            }
+            List<Account> accounts = new ArrayList<>(found.size());
+            List<Long> notFound = new ArrayList<>();
+            for (Long accountNumber : distinct) {
+                Account account = found.get(accountNumber);
+                if (account != null) {
+                    accounts.add(account);
+                } else {
+                    notFound.add(accountNumber);
+                }
+            }
+            return new AccountBatchResult(accounts, notFound);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ArchivedAccount getArchivedAccount(Long accountNumber) {
+        return archivedAccountRepository.findById(accountNumber)
+                .orElseThrow(() -> new RuntimeException("Archived account not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Account> getAllAccounts() {
         return accountRepository.findAll();
     }
 
     @Override
+    @Transactional
     public Account depositAmount(Long accountNumber, Double amount) {
-        Account account = getAccountDetailsByAccountNumber(accountNumber);
-        account.setAccountBalance(account.getAccountBalance() + amount);
-        return accountRepository.save(account);
+        return AccountOperationEvent.record("deposit", accountNumber, 1, () -> {
+            Account account = getAccountForUpdate(accountNumber);
+            account.setAccountBalance(account.getAccountBalance() + amount);
+            Account saved = accountRepository.save(account);
+            publish(AccountEvent.Type.DEPOSITED, saved, amount);
+            return saved;
+        });
     }
 
     @Override
+    @Transactional
     public Account withdrawAmount(Long accountNumber, Double amount) {
-        Account account = getAccountDetailsByAccountNumber(accountNumber);
-        account.setAccountBalance(account.getAccountBalance() - amount);
-        return accountRepository.save(account);
+        return AccountOperationEvent.record("withdraw", accountNumber, 1, () -> {
+            // Limits are checked in memory before touching the database
+            long reservedAt = withdrawalLimiter.reserve(accountNumber, amount);
+            try {
+                Account account = getAccountForUpdate(accountNumber);
+                account.setAccountBalance(account.getAccountBalance() - amount);
+                Account saved = accountRepository.save(account);
+                withdrawalLimiter.record(accountNumber, amount);
+                publish(AccountEvent.Type.WITHDRAWN, saved, amount);
+                return saved;
+            } catch (RuntimeException e) {
+                withdrawalLimiter.release(accountNumber, amount, reservedAt);
+                throw e;
+            }
+        });
     }
 
+    // The row is locked, copied to account_archive and deleted in one transaction
     @Override
+    @Transactional
     public void closeAccount(Long accountNumber) {
-        getAccountDetailsByAccountNumber(accountNumber);
-        accountRepository.deleteById(accountNumber);
+        AccountOperationEvent.record("close", accountNumber, 1, () -> {
+            Account account = getAccountForUpdate(accountNumber);
+            if (accountRepository.archiveAccounts(List.of(accountNumber)) == 0
+                    || accountRepository.deleteAccount(accountNumber) == 0) {
+                throw new RuntimeException("Account not found");
+            }
+            publish(AccountEvent.Type.CLOSED, account, null);
+            return null;
+        });
+    }
+
+    @Override
+    @Transactional
+    public BulkCloseResult closeAccounts(List<Long> accountNumbers) {
+        return AccountOperationEvent.record("bulkClose", null, accountNumbers.size(), () -> {
+            List<Long> distinct = accountNumbers.stream().filter(Objects::nonNull).distinct().toList();
+            List<Long> notFound = new ArrayList<>();
+            int closed = 0;
+            for (int from = 0; from < distinct.size(); from += closeBatchSize) {
+                List<Long> batch = distinct.subList(from, Math.min(from + closeBatchSize, distinct.size()));
+                Map<Long, Account> existing = new HashMap<>();
+                for (Account account : accountRepository.lockAccounts(batch)) {
+                    existing.put(account.getAccountNumber(), account);
+                }
+                if (!existing.isEmpty()) {
+                    accountRepository.archiveAccounts(existing.keySet());
+                    closed += accountRepository.deleteAccounts(existing.keySet());
+                }
+                for (Long accountNumber : batch) {
+                    Account account = existing.get(accountNumber);
+                    if (account != null) {
+                        publish(AccountEvent.Type.CLOSED, account, null);
+                    } else {
+                        notFound.add(accountNumber);
+                    }
+                }
+            }
+            return new BulkCloseResult(distinct.size(), closed, notFound);
+        });
+    }
+
+    private Account loadAccount(Long accountNumber) {
+        // Accounts changed within the sticky window are read from the primary
+        try (ReadYourWritesTracker.Pin ignored = readYourWritesTracker.pinIfRecentlyWritten(accountNumber)) {
+            return accountRepository.findById(accountNumber)
+                    .orElseThrow(() -> new RuntimeException("Account not found"));
+        }
+    }
+
+    // Read-modify-write of the balance must hold the row lock until commit
+    private Account getAccountForUpdate(Long accountNumber) {
+        return accountRepository.findByIdForUpdate(accountNumber)
+                .orElseThrow(() -> new RuntimeException("Account not found"));
+    }
+
+    private void publish(AccountEvent.Type type, Account account, Double amount) {
+        eventPublisher.publishEvent(new AccountEvent(type, account.getAccountNumber(),
+                account.getAccountHolderName(), amount, account.getAccountBalance()));
     }
 }
@@ -0,0 +1,238 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.config.ShardRoutingDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Account count, total balance and a fixed-bucket balance histogram, kept current from committed
+ * {@link AccountEvent}s in striped {@link LongAdder}s so reads cost the same for any number of accounts.
+ *
+ * A periodic SQL aggregate corrects drift from changes made outside the service, such as set-based
+ * interest accrual, bulk imports and other instances' writes; it also runs after imports and accrual runs.
+ */
+@Component
+public class AccountStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountStatistics.class);
+
+    // Upper bounds (exclusive) of the histogram buckets; the first bucket holds negative balances
+    static final double[] BUCKET_BOUNDS = {0, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+    private final LongAdder accountCount = new LongAdder();
+    private final LongAdder totalCents = new LongAdder();
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS.length + 1];
+    // Events published in a transaction that has not completed yet; their rows may already be committed
+    private final AtomicInteger eventsInFlight = new AtomicInteger();
+    // Bumped after every applied event, so a reconcile can tell whether one landed during its query
+    private final AtomicLong eventsApplied = new AtomicLong();
+    private volatile Instant lastReconciledAt;
+    private TransactionTemplate aggregateTransaction;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        // Its own transaction, so the aggregate only sees committed rows even when a caller's transaction is open.
+        // Not read-only: that would route it to a replica, whose lag would turn into a wrong correction
+        aggregateTransaction = new TransactionTemplate(transactionManager);
+        aggregateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Autowired
+    private ObjectProvider<ShardRoutingDataSource> shardRouting;
+
+    @Value("${bank.stats.reconcile-attempts:3}")
+    private int reconcileAttempts;
+
+    public AccountStatistics() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    // Counted as in flight from publication until its transaction completes, then applied if it committed
+    @EventListener
+    public void onAccountEvent(AccountEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(event);
+            return;
+        }
+        eventsInFlight.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        apply(event);
+                    }
+                } finally {
+                    eventsInFlight.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    private void apply(AccountEvent event) {
+        double balance = event.balance() == null ? 0 : event.balance();
+        switch (event.type()) {
+            case CREATED -> {
+                accountCount.increment();
+                totalCents.add(toCents(balance));
+                buckets[bucketOf(balance)].increment();
+            }
+            case DEPOSITED, WITHDRAWN -> {
+                double amount = event.type() == AccountEvent.Type.DEPOSITED ? event.amount() : -event.amount();
+                totalCents.add(toCents(amount));
+                int from = bucketOf(balance - amount);
+                int to = bucketOf(balance);
+                if (from != to) {
+                    buckets[from].decrement();
+                    buckets[to].increment();
+                }
+            }
+            case CLOSED -> {
+                accountCount.decrement();
+                totalCents.add(-toCents(balance));
+                buckets[bucketOf(balance)].decrement();
+            }
+        }
+        eventsApplied.incrementAndGet();
+    }
+
+    public AccountStats getStats() {
+        List<AccountStats.Bucket> histogram = new ArrayList<>(buckets.length);
+        for (int i = 0; i < buckets.length; i++) {
+            histogram.add(new AccountStats.Bucket(i == 0 ? null : BUCKET_BOUNDS[i - 1],
+                    i < BUCKET_BOUNDS.length ? BUCKET_BOUNDS[i] : null, buckets[i].sum()));
+        }
+        return new AccountStats(accountCount.sum(), totalCents.sum() / 100.0, histogram, lastReconciledAt);
+    }
+
+    @EventListener({ApplicationReadyEvent.class, AccountsImportedEvent.class, InterestAccruedEvent.class})
+    public void reconcileAfterLoad() {
+        reconcile();
+    }
+
+    /**
+     * Replaces the counters with a SQL aggregate of committed rows, keeping the events applied while the query
+     * ran on top of it. An event whose transaction commits during the query may or may not be in the aggregate,
+     * so a run first retries for a moment with no event applied or in flight. If every attempt is busy, the
+     * last one is applied anyway: at worst the few events that committed during that query are off by one
+     * until the next run, instead of drift never being corrected under steady traffic.
+     */
+    @Scheduled(fixedDelayString = "${bank.stats.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        int attempts = Math.max(1, reconcileAttempts);
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            long version = eventsApplied.get();
+            long[] before = snapshot();
+            long[] actual = aggregateAllShards();
+            boolean quiet = eventsApplied.get() == version && eventsInFlight.get() == 0;
+            if (!quiet && attempt < attempts) {
+                continue;
+            }
+            if (actual[0] != before[0] || actual[1] != before[1]) {
+                log.info("Account statistics drifted by {} accounts and {} cents; corrected{}",
+                        actual[0] - before[0], actual[1] - before[1], quiet ? "" : " under concurrent changes");
+            }
+            // Events applied since the snapshot stay counted on top of the aggregate
+            accountCount.add(actual[0] - before[0]);
+            totalCents.add(actual[1] - before[1]);
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i].add(actual[i + 2] - before[i + 2]);
+            }
+            lastReconciledAt = Instant.now();
+            return;
+        }
+    }
+
+    private long[] aggregateAllShards() {
+        long[] actual = new long[buckets.length + 2];
+        ShardRoutingDataSource shards = shardRouting.getIfAvailable();
+        int shardCount = shards == null ? 1 : shards.getShardCount();
+        for (int shard = 0; shard < shardCount; shard++) {
+            long[] part = shards == null ? aggregateTransaction.execute(status -> aggregate())
+                    : ShardRoutingDataSource.callOnShard(shard, () -> aggregateTransaction.execute(status -> aggregate()));
+            for (int i = 0; i < actual.length; i++) {
+                actual[i] += part[i];
+            }
+        }
+        return actual;
+    }
+
+    // count, total cents, then one count per bucket
+    private long[] snapshot() {
+        long[] values = new long[buckets.length + 2];
+        values[0] = accountCount.sum();
+        values[1] = totalCents.sum();
+        for (int i = 0; i < buckets.length; i++) {
+            values[i + 2] = buckets[i].sum();
+        }
+        return values;
+    }
+
+    private long[] aggregate() {
+        // One scan: count, sum and one conditional count per bucket, built from BUCKET_BOUNDS
+        StringBuilder sql = new StringBuilder("select count(*), coalesce(sum(account_balance), 0)");
+        List<Object> args = new ArrayList<>();
+        for (int i = 0; i < buckets.length; i++) {
+            sql.append(", coalesce(sum(case when ");
+            if (i > 0) {
+                sql.append("coalesce(account_balance, 0) >= ?");
+                args.add(BUCKET_BOUNDS[i - 1]);
+            }
+            if (i > 0 && i < BUCKET_BOUNDS.length) {
+                sql.append(" and ");
+            }
+            if (i < BUCKET_BOUNDS.length) {
+                sql.append("coalesce(account_balance, 0) < ?");
+                args.add(BUCKET_BOUNDS[i]);
+            }
+            sql.append(" then 1 else 0 end), 0)");
+        }
+        sql.append(" from account");
+        return jdbcTemplate.queryForObject(sql.toString(), (rs, rowNum) -> {
+            long[] values = new long[buckets.length + 2];
+            values[0] = rs.getLong(1);
+            values[1] = toCents(rs.getDouble(2));
+            for (int i = 0; i < buckets.length; i++) {
+                values[i + 2] = rs.getLong(i + 3);
+            }
+            return values;
+        }, args.toArray());
+    }
+
+    static int bucketOf(double balance) {
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS.length && balance >= BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+}
@@ -0,0 +1,15 @@
+package bank.app.BankManagementApp.service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Point-in-time view of {@link AccountStatistics}. Bucket {@code upperBound} is exclusive and
+ * {@code null} for the last bucket; {@code lowerBound} is {@code null} for the first (negative) bucket.
+ */
+public record AccountStats(long accountCount, double totalBalance, List<Bucket> balanceHistogram,
+                           Instant lastReconciledAt) {
+
+    public record Bucket(Double lowerBound, Double upperBound, long count) {
+    }
+}
@@ -0,0 +1,8 @@
+package bank.app.BankManagementApp.service;
+
+/**
+ * Published after a bulk import that inserted accounts without individual {@link AccountEvent}s,
+ * so in-memory views of the account table can resynchronize.
+ */
+public record AccountsImportedEvent(long rowsImported) {
+}
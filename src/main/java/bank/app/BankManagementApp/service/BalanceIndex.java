@@ -0,0 +1,221 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.config.ShardRoutingDataSource;
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Accounts ordered by balance in a {@link ConcurrentSkipListSet}, so range and top-N reads cost
+ * O(log n + results). Kept current from committed {@link AccountEvent}s.
+ *
+ * Bulk imports and interest accrual change balances without per-account events, so the index is
+ * rebuilt after each of them. Two changes to the same account can reach the index out of order in the
+ * moment after commit, so it is also rebuilt every {@code bank.balance-index.rebuild-interval-ms}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bank.balance-index", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BalanceIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceIndex.class);
+
+    private static final Comparator<Entry> BY_BALANCE = Comparator.comparingDouble(Entry::balance)
+            .thenComparingLong(Entry::accountNumber);
+
+    private final ConcurrentSkipListSet<Entry> byBalance = new ConcurrentSkipListSet<>(BY_BALANCE);
+    // Current entry per account, so an update or close can find the entry to unlink
+    private final ConcurrentHashMap<Long, Entry> byAccount = new ConcurrentHashMap<>();
+    private volatile Set<Long> seenDuringRebuild;
+    private volatile boolean loaded;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ObjectProvider<ShardRoutingDataSource> shardRouting;
+
+    @Value("${bank.balance-index.load-chunk-size:10000}")
+    private int loadChunkSize = 10000;
+
+    private record Entry(double balance, long accountNumber, String holderName) {
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountEvent(AccountEvent event) {
+        if (event.type() == AccountEvent.Type.CLOSED) {
+            remove(event.accountNumber());
+        } else {
+            put(event.accountNumber(), event.accountHolderName(), event.balance());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${bank.balance-index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${bank.balance-index.rebuild-interval-ms:600000}")
+    @EventListener({ApplicationReadyEvent.class, AccountsImportedEvent.class, InterestAccruedEvent.class})
+    public synchronized void rebuild() {
+        seenDuringRebuild = ConcurrentHashMap.newKeySet();
+        long started = System.currentTimeMillis();
+        ShardRoutingDataSource shards = shardRouting.getIfAvailable();
+        int shardCount = shards == null ? 1 : shards.getShardCount();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (shards == null) {
+                load();
+            } else {
+                ShardRoutingDataSource.callOnShard(shard, () -> {
+                    load();
+                    return null;
+                });
+            }
+        }
+        Set<Long> seen = seenDuringRebuild;
+        seenDuringRebuild = null;
+        for (Long accountNumber : byAccount.keySet()) {
+            if (!seen.contains(accountNumber)) {
+                remove(accountNumber);
+            }
+        }
+        loaded = true;
+        log.info("Indexed {} balances in {} ms", byAccount.size(), System.currentTimeMillis() - started);
+    }
+
+    private void load() {
+        long after = 0;
+        List<Account> chunk;
+        while (!(chunk = accountRepository.findChunkAfter(after, PageRequest.ofSize(loadChunkSize))).isEmpty()) {
+            for (Account account : chunk) {
+                put(account.getAccountNumber(), account.getAccountHolderName(), account.getAccountBalance());
+            }
+            after = chunk.get(chunk.size() - 1).getAccountNumber();
+        }
+    }
+
+    void put(Long accountNumber, String holderName, Double balance) {
+        Set<Long> seen = seenDuringRebuild;
+        if (seen != null) {
+            seen.add(accountNumber);
+        }
+        // compute() holds the map bin for this account, so the skip list never keeps two entries for it
+        byAccount.compute(accountNumber, (key, previous) -> {
+            if (previous != null) {
+                byBalance.remove(previous);
+            }
+            if (balance == null) {
+                return null;
+            }
+            Entry entry = new Entry(balance, accountNumber, holderName);
+            byBalance.add(entry);
+            return entry;
+        });
+    }
+
+    void remove(Long accountNumber) {
+        byAccount.computeIfPresent(accountNumber, (key, previous) -> {
+            byBalance.remove(previous);
+            return null;
+        });
+    }
+
+    /** Whether the initial load has finished; until then results would be incomplete. */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return byAccount.size();
+    }
+
+    /** Accounts with {@code min <= balance <= max}, lowest balance first. Costs O(log n + offset + limit). */
+    public List<Account> findByBalanceRange(double min, double max, int offset, int limit) {
+        NavigableSet<Entry> range = byBalance.subSet(new Entry(min, Long.MIN_VALUE, null), true,
+                new Entry(max, Long.MAX_VALUE, null), true);
+        return collect(range, offset, limit);
+    }
+
+    /**
+     * Accounts with {@code min <= balance <= max} ordered after {@code (afterBalance, afterAccountNumber)}, lowest
+     * balance first. Costs O(log n + limit) however deep the page.
+     */
+    public List<Account> findByBalanceRangeAfter(double min, double max, double afterBalance, long afterAccountNumber,
+                                                 int limit) {
+        Entry from = new Entry(min, Long.MIN_VALUE, null);
+        Entry after = new Entry(afterBalance, afterAccountNumber, null);
+        Entry to = new Entry(max, Long.MAX_VALUE, null);
+        if (BY_BALANCE.compare(after, to) >= 0) {
+            return List.of();
+        }
+        NavigableSet<Entry> range = BY_BALANCE.compare(after, from) < 0
+                ? byBalance.subSet(from, true, to, true)
+                : byBalance.subSet(after, false, to, true);
+        return collect(range, 0, limit);
+    }
+
+    /** The {@code limit} highest balances, highest first. Costs O(log n + limit). */
+    public List<Account> findTopBalances(int limit) {
+        List<Entry> top = new ArrayList<>(Math.min(limit, 1024));
+        for (Entry entry : byBalance.descendingSet()) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.add(entry);
+        }
+        if (top.size() == limit) {
+            // Descending iteration visits equal balances by decreasing account number; refill the tie at the
+            // cut-off from its lowest account numbers so the result matches "balance desc, account number asc"
+            double cutOff = top.get(limit - 1).balance();
+            top.removeIf(entry -> Double.compare(entry.balance(), cutOff) == 0);
+            for (Entry entry : byBalance.subSet(new Entry(cutOff, Long.MIN_VALUE, null), true,
+                    new Entry(cutOff, Long.MAX_VALUE, null), true)) {
+                if (top.size() == limit) {
+                    break;
+                }
+                top.add(entry);
+            }
+        }
+        top.sort(Comparator.comparingDouble(Entry::balance).reversed().thenComparingLong(Entry::accountNumber));
+        List<Account> accounts = new ArrayList<>(top.size());
+        for (Entry entry : top) {
+            accounts.add(toAccount(entry));
+        }
+        return accounts;
+    }
+
+    private static List<Account> collect(NavigableSet<Entry> entries, int offset, int limit) {
+        List<Account> accounts = new ArrayList<>(Math.min(limit, 1024));
+        int skipped = 0;
+        for (Entry entry : entries) {
+            if (skipped++ < offset) {
+                continue;
+            }
+            if (accounts.size() == limit) {
+                break;
+            }
+            accounts.add(toAccount(entry));
+        }
+        return accounts;
+    }
+
+    private static Account toAccount(Entry entry) {
+        Account account = new Account(entry.holderName(), entry.balance());
+        account.setAccountNumber(entry.accountNumber());
+        return account;
+    }
+}
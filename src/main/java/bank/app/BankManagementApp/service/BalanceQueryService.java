@@ -0,0 +1,119 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.config.ShardRoutingDataSource;
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Balance-range and top-N reads. Served from {@link BalanceIndex} once it has loaded, otherwise
+ * (or with {@code bank.balance-index.enabled=false}) from {@code idx_account_balance}, merging
+ * the shards' partial results when sharding is enabled.
+ *
+ * Page-number reads skip {@code page * size} entries, so they are limited to the first
+ * {@code bank.balance-queries.max-offset} entries of a range; deeper pages are read with a
+ * {@code (balance, account number)} cursor instead.
+ */
+@Service
+public class BalanceQueryService {
+
+    private static final Comparator<Account> ASCENDING = Comparator.comparing(Account::getAccountBalance)
+            .thenComparing(Account::getAccountNumber);
+    private static final Comparator<Account> DESCENDING = Comparator.comparing(Account::getAccountBalance)
+            .reversed().thenComparing(Account::getAccountNumber);
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ObjectProvider<BalanceIndex> balanceIndex;
+
+    @Autowired
+    private ObjectProvider<ShardRoutingDataSource> shardRouting;
+
+    @Value("${bank.balance-queries.max-results:1000}")
+    private int maxResults;
+
+    @Value("${bank.balance-queries.max-offset:10000}")
+    private int maxOffset;
+
+    public List<Account> findByBalanceRange(double min, double max, int page, int size) {
+        if (min > max || page < 0 || size < 1) {
+            throw new IllegalArgumentException("Invalid balance range or page");
+        }
+        int pageSize = Math.min(size, maxResults);
+        if (((long) page + 1) * pageSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid balance range or page");
+        }
+        if ((long) page * pageSize > maxOffset) {
+            throw new IllegalArgumentException("Page is deeper than " + maxOffset
+                    + " results; continue with afterBalance and afterAccountNumber");
+        }
+        BalanceIndex index = loadedIndex();
+        if (index != null) {
+            return index.findByBalanceRange(min, max, page * pageSize, pageSize);
+        }
+        // Each shard returns everything up to the end of the requested page; the merged list is then sliced
+        List<Account> merged = onAllShards(() -> accountRepository
+                .findByAccountBalanceBetweenOrderByAccountBalanceAscAccountNumberAsc(min, max,
+                        PageRequest.of(0, (page + 1) * pageSize)), ASCENDING);
+        return merged.subList(Math.min(page * pageSize, merged.size()), Math.min((page + 1) * pageSize, merged.size()));
+    }
+
+    /** The page of {@code size} accounts in the range ordered after {@code (afterBalance, afterAccountNumber)}. */
+    public List<Account> findByBalanceRangeAfter(double min, double max, double afterBalance, long afterAccountNumber,
+                                                 int size) {
+        if (min > max || size < 1) {
+            throw new IllegalArgumentException("Invalid balance range or page");
+        }
+        int pageSize = Math.min(size, maxResults);
+        BalanceIndex index = loadedIndex();
+        if (index != null) {
+            return index.findByBalanceRangeAfter(min, max, afterBalance, afterAccountNumber, pageSize);
+        }
+        List<Account> merged = onAllShards(() -> accountRepository.findBalanceRangeAfter(min, max, afterBalance,
+                afterAccountNumber, PageRequest.of(0, pageSize)), ASCENDING);
+        return merged.subList(0, Math.min(pageSize, merged.size()));
+    }
+
+    public List<Account> findTopBalances(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Invalid limit");
+        }
+        int n = Math.min(limit, maxResults);
+        BalanceIndex index = loadedIndex();
+        if (index != null) {
+            return index.findTopBalances(n);
+        }
+        List<Account> merged = onAllShards(() -> accountRepository
+                .findByAccountBalanceNotNullOrderByAccountBalanceDescAccountNumberAsc(PageRequest.of(0, n)), DESCENDING);
+        return merged.subList(0, Math.min(n, merged.size()));
+    }
+
+    private BalanceIndex loadedIndex() {
+        BalanceIndex index = balanceIndex.getIfAvailable();
+        return index != null && index.isLoaded() ? index : null;
+    }
+
+    private List<Account> onAllShards(Supplier<List<Account>> query, Comparator<Account> order) {
+        ShardRoutingDataSource shards = shardRouting.getIfAvailable();
+        if (shards == null) {
+            return query.get();
+        }
+        List<Account> merged = new ArrayList<>();
+        for (int shard = 0; shard < shards.getShardCount(); shard++) {
+            merged.addAll(ShardRoutingDataSource.callOnShard(shard, query));
+        }
+        merged.sort(order);
+        return merged;
+    }
+}
@@ -0,0 +1,10 @@
+package bank.app.BankManagementApp.service;
+
+import java.util.List;
+
+/**
+ * Result of {@link AccountService#closeAccounts(List)}. {@code requested} counts distinct account
+ * numbers; {@code notFound} lists those that did not exist.
+ */
+public record BulkCloseResult(int requested, int closed, List<Long> notFound) {
+}
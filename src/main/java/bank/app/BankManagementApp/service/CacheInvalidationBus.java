@@ -0,0 +1,21 @@
+package bank.app.BankManagementApp.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries near-cache invalidations between instances. Selected with {@code bank.near-cache.bus}; without it, {@code database}
+ * when {@code bank.cluster.enabled=true} and {@code local} otherwise.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Announces that an account changed; {@code null} means every account. Called inside the transaction
+     * of the change where there is one, so implementations may enlist in it and defer their work to commit.
+     */
+    void publish(Long accountNumber);
+
+    /**
+     * Registers a listener for invalidations published by other instances.
+     */
+    void subscribe(Consumer<Long> listener);
+}
@@ -0,0 +1,12 @@
+package bank.app.BankManagementApp.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class CommandQueueFullException extends RuntimeException {
+
+    public CommandQueueFullException(String message) {
+        super(message);
+    }
+}
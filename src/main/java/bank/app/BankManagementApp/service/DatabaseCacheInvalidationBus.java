@@ -0,0 +1,191 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.config.ShardRoutingDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus on the {@code cache_invalidation} table, so instances need nothing but the shared database.
+ * The default bus when {@code bank.cluster.enabled=true}.
+ *
+ * Invalidations published in a transaction are collected and written with one multi-row INSERT just before
+ * it commits, so they become visible on commit and a bulk change costs one statement per
+ * {@value #MAX_ROWS_PER_INSERT} accounts rather than one per account. Each instance polls every
+ * {@code poll-interval-ms} for rows created since its previous poll, minus {@code lookback-ms} to cover
+ * transactions that were still open at that time; ids already delivered are skipped. Rows older than
+ * {@code retention-ms} are deleted.
+ */
+@Component
+@ConditionalOnExpression("'${bank.near-cache.bus:}' == 'database' "
+        + "or ('${bank.near-cache.bus:}' == '' and ${bank.cluster.enabled:false})")
+public class DatabaseCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseCacheInvalidationBus.class);
+    private static final int MAX_ROWS_PER_INSERT = 1000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<Long>> listeners = new CopyOnWriteArrayList<>();
+    private final Map<Integer, PollState> pollStates = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "cache-invalidation-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectProvider<ShardRoutingDataSource> shardRouting;
+
+    @Value("${bank.near-cache.poll-interval-ms:500}")
+    private long pollIntervalMillis;
+
+    @Value("${bank.near-cache.lookback-ms:5000}")
+    private long lookbackMillis;
+
+    @Value("${bank.near-cache.retention-ms:60000}")
+    private long retentionMillis;
+
+    @PostConstruct
+    void start() {
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                log.warn("Polling cache invalidations failed", e);
+            }
+        }, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publish(Long accountNumber) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(Collections.singletonList(accountNumber));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> collected = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, collected);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    insert(new ArrayList<>(collected));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DatabaseCacheInvalidationBus.this);
+                }
+            });
+            pending = collected;
+        }
+        pending.add(accountNumber);
+    }
+
+    private void insert(List<Long> accountNumbers) {
+        for (int from = 0; from < accountNumbers.size(); from += MAX_ROWS_PER_INSERT) {
+            List<Long> rows = accountNumbers.subList(from, Math.min(from + MAX_ROWS_PER_INSERT, accountNumbers.size()));
+            StringBuilder sql = new StringBuilder(
+                    "insert into cache_invalidation (account_number, origin_node, created_at) values ");
+            Object[] args = new Object[rows.size() * 2];
+            for (int i = 0; i < rows.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append("(?, ?, current_timestamp)");
+                args[2 * i] = rows.get(i);
+                args[2 * i + 1] = nodeId;
+            }
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+        listeners.add(listener);
+    }
+
+    void poll() {
+        ShardRoutingDataSource shards = shardRouting.getIfAvailable();
+        if (shards == null) {
+            pollShard(pollStates.computeIfAbsent(0, s -> new PollState()));
+            return;
+        }
+        for (int shard = 0; shard < shards.getShardCount(); shard++) {
+            PollState state = pollStates.computeIfAbsent(shard, s -> new PollState());
+            ShardRoutingDataSource.callOnShard(shard, () -> {
+                pollShard(state);
+                return null;
+            });
+        }
+    }
+
+    private void pollShard(PollState state) {
+        // Database time, so clock skew between instances does not matter
+        long now = jdbcTemplate.queryForObject("select current_timestamp", Timestamp.class).getTime();
+        if (state.since < 0) {
+            // Nothing was cached before this instance started
+            state.since = now;
+            state.lastCleanup = now;
+            return;
+        }
+        long from = state.since - lookbackMillis;
+        jdbcTemplate.query("select id, account_number, origin_node from cache_invalidation where created_at >= ?",
+                rs -> {
+                    if (state.delivered.putIfAbsent(rs.getLong(1), now) == null && !nodeId.equals(rs.getString(3))) {
+                        deliver(rs.getObject(2, Long.class));
+                    }
+                }, new Timestamp(from));
+        state.since = now;
+        // Rows seen before the next poll's window are never returned again
+        state.delivered.values().removeIf(seenAt -> seenAt < now - lookbackMillis);
+
+        if (now - state.lastCleanup >= retentionMillis) {
+            jdbcTemplate.update("delete from cache_invalidation where created_at < ?",
+                    new Timestamp(now - retentionMillis));
+            state.lastCleanup = now;
+        }
+    }
+
+    private void deliver(Long accountNumber) {
+        for (Consumer<Long> listener : listeners) {
+            listener.accept(accountNumber);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        poller.shutdownNow();
+    }
+
+    private static final class PollState {
+        private final Map<Long, Long> delivered = new ConcurrentHashMap<>();
+        private long since = -1;
+        private long lastCleanup;
+    }
+}
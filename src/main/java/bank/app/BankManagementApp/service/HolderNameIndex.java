@@ -0,0 +1,339 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.config.ShardRoutingDataSource;
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory trigram index over account holder names for fuzzy, ranked search.
+ *
+ * Names are normalized (case, accents and punctuation removed) and split into trigrams; each trigram
+ * maps to a sorted array of account numbers. A query only scans the shortest posting lists that any
+ * match must appear in, counting candidates in a primitive hash table, and checks the rest by binary
+ * search, then ranks candidates by the Dice coefficient of shared trigrams. The index is loaded at startup and follows create and close events.
+ * Creates and closes handled by other instances publish no local events, so the index is also rebuilt every
+ * {@code bank.search.fuzzy.rebuild-interval-ms}.
+ */
+@Component
+public class HolderNameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(HolderNameIndex.class);
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private final ConcurrentHashMap<Long, Entry> names = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, PostingList> postings = new ConcurrentHashMap<>();
+    // Accounts loaded or created during a rebuild; anything else in the index was deleted behind our back
+    private volatile Set<Long> seenDuringRebuild;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ObjectProvider<ShardRoutingDataSource> shardRouting;
+
+    @Value("${bank.search.fuzzy.min-similarity:0.3}")
+    private double minSimilarity;
+
+    @Value("${bank.search.fuzzy.load-chunk-size:10000}")
+    private int loadChunkSize;
+
+    public record Match(Long accountNumber, String accountHolderName, double score) {
+    }
+
+    // Trigrams are recomputed from the name when needed; only their count is kept for scoring
+    private record Entry(String holderName, int gramCount) {
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountEvent(AccountEvent event) {
+        if (event.type() == AccountEvent.Type.CREATED) {
+            add(event.accountNumber(), event.accountHolderName());
+        } else if (event.type() == AccountEvent.Type.CLOSED) {
+            remove(event.accountNumber());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${bank.search.fuzzy.rebuild-interval-ms:600000}",
+            fixedDelayString = "${bank.search.fuzzy.rebuild-interval-ms:600000}")
+    @EventListener({ApplicationReadyEvent.class, AccountsImportedEvent.class})
+    public synchronized void rebuild() {
+        seenDuringRebuild = ConcurrentHashMap.newKeySet();
+        long started = System.currentTimeMillis();
+        ShardRoutingDataSource shards = shardRouting.getIfAvailable();
+        int shardCount = shards == null ? 1 : shards.getShardCount();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (shards == null) {
+                load();
+            } else {
+                ShardRoutingDataSource.callOnShard(shard, () -> {
+                    load();
+                    return null;
+                });
+            }
+        }
+        Set<Long> seen = seenDuringRebuild;
+        seenDuringRebuild = null;
+        for (Long accountNumber : names.keySet()) {
+            if (!seen.contains(accountNumber)) {
+                remove(accountNumber);
+            }
+        }
+        log.info("Indexed {} holder names in {} ms", names.size(), System.currentTimeMillis() - started);
+    }
+
+    // Adding is idempotent, so accounts created while loading are neither lost nor duplicated
+    private void load() {
+        long after = 0;
+        List<Account> chunk;
+        while (!(chunk = accountRepository.findChunkAfter(after, PageRequest.ofSize(loadChunkSize))).isEmpty()) {
+            for (Account account : chunk) {
+                add(account.getAccountNumber(), account.getAccountHolderName());
+            }
+            after = chunk.get(chunk.size() - 1).getAccountNumber();
+        }
+    }
+
+    void add(Long accountNumber, String holderName) {
+        if (holderName == null) {
+            return;
+        }
+        Set<Long> seen = seenDuringRebuild;
+        if (seen != null) {
+            seen.add(accountNumber);
+        }
+        Set<String> grams = trigrams(normalize(holderName));
+        if (names.putIfAbsent(accountNumber, new Entry(holderName, grams.size())) != null) {
+            return;
+        }
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, k -> new PostingList()).add(accountNumber);
+        }
+    }
+
+    void remove(Long accountNumber) {
+        Entry entry = names.remove(accountNumber);
+        if (entry == null) {
+            return;
+        }
+        for (String gram : trigrams(normalize(entry.holderName()))) {
+            PostingList list = postings.get(gram);
+            if (list != null) {
+                list.remove(accountNumber);
+            }
+        }
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    /** Ranked matches for {@code query}, best first; {@code offset}/{@code limit} select one page. */
+    public List<Match> search(String query, int offset, int limit) {
+        Set<String> queryGrams = trigrams(normalize(query));
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+        List<PostingList> lists = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            lists.add(postings.getOrDefault(gram, PostingList.EMPTY));
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        // A candidate sharing at least `required` trigrams must occur in one of the first n - required + 1 lists
+        int n = lists.size();
+        int required = Math.max(1, (int) Math.ceil(minSimilarity * n));
+        int scanned = n - required + 1;
+        int expected = 0;
+        for (int i = 0; i < scanned; i++) {
+            expected += lists.get(i).size();
+        }
+        CandidateCounts shared = new CandidateCounts(expected);
+        for (int i = 0; i < scanned; i++) {
+            lists.get(i).forEach(shared::increment);
+        }
+
+        List<Match> matches = new ArrayList<>();
+        shared.forEach((accountNumber, scannedCount) -> {
+            Entry entry = names.get(accountNumber);
+            if (entry == null) {
+                return;
+            }
+            // The trigrams a candidate needs for min-similarity; skip the lookups when it cannot reach them
+            int needed = Math.max(required, (int) Math.ceil(minSimilarity * (n + entry.gramCount()) / 2 - 1e-9));
+            if (scannedCount + n - scanned < needed) {
+                return;
+            }
+            int count = scannedCount;
+            for (int i = scanned; i < n; i++) {
+                if (lists.get(i).contains(accountNumber)) {
+                    count++;
+                }
+            }
+            if (count < required) {
+                return;
+            }
+            double score = 2.0 * count / (n + entry.gramCount());
+            if (score >= minSimilarity) {
+                matches.add(new Match(accountNumber, entry.holderName(), score));
+            }
+        });
+        matches.sort(Comparator.comparingDouble(Match::score).reversed()
+                .thenComparing(Match::accountHolderName)
+                .thenComparing(Match::accountNumber));
+        return matches.subList(Math.min(offset, matches.size()), Math.min(offset + limit, matches.size()));
+    }
+
+    static String normalize(String name) {
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    // Padded with spaces so word starts and ends, and one- or two-letter queries, produce trigrams
+    static Set<String> trigrams(String normalized) {
+        if (normalized.isEmpty()) {
+            return Set.of();
+        }
+        String padded = "  " + normalized + " ";
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    // Open-addressing account number -> shared trigram count, so scanning a posting list of millions of accounts
+    // allocates no boxed keys or counts. Account numbers are positive, so 0 marks a free slot.
+    private static final class CandidateCounts {
+
+        private long[] keys;
+        private int[] counts;
+        private int size;
+
+        CandidateCounts(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, Math.min(expected, 1 << 16)) * 2 - 1) << 1;
+            keys = new long[capacity];
+            counts = new int[capacity];
+        }
+
+        void increment(long key) {
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == 0) {
+                keys[slot] = key;
+                if (++size * 2 > keys.length) {
+                    counts[slot] = 1;
+                    grow();
+                    return;
+                }
+            }
+            counts[slot]++;
+        }
+
+        void forEach(CountConsumer action) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    action.accept(keys[i], counts[i]);
+                }
+            }
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = new long[oldKeys.length * 2];
+            counts = new int[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = hash(oldKeys[i]) & mask;
+                    while (keys[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    counts[slot] = oldCounts[i];
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    private interface CountConsumer {
+        void accept(long accountNumber, int count);
+    }
+
+    // Sorted account numbers; account numbers mostly arrive in increasing order, so adds are appends
+    private static final class PostingList {
+
+        static final PostingList EMPTY = new PostingList();
+
+        private long[] ids = new long[4];
+        private int size;
+
+        synchronized void add(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        synchronized void remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+        }
+
+        synchronized boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void forEach(LongConsumer action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(ids[i]);
+            }
+        }
+    }
+}
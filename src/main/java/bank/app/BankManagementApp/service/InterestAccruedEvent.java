@@ -0,0 +1,9 @@
+package bank.app.BankManagementApp.service;
+
+/**
+ * Published after an interest accrual run that updated balances with set-based UPDATEs and no individual
+ * {@link AccountEvent}s, so in-memory views of balances can resynchronize. Also published after a failed run,
+ * whose completed chunks stay committed.
+ */
+public record InterestAccruedEvent(String period, long accountsUpdated) {
+}
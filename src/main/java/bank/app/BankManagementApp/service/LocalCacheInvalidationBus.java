@@ -0,0 +1,24 @@
+package bank.app.BankManagementApp.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * For a single instance: there is nobody to notify, so invalidations stay local to the near cache.
+ * The default bus unless {@code bank.cluster.enabled=true}.
+ */
+@Component
+@ConditionalOnExpression("'${bank.near-cache.bus:}' == 'local' "
+        + "or ('${bank.near-cache.bus:}' == '' and !${bank.cluster.enabled:false})")
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    @Override
+    public void publish(Long accountNumber) {
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+    }
+}
@@ -0,0 +1,173 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.config.ShardRoutingDataSource;
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.entity.ArchivedAccount;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Selects the owning shard before delegating to {@link AccountServiceImpl}, so its transactions
+ * open on the right database. New accounts are spread round-robin; {@link #getAllAccounts()} and
+ * {@link #getAccountsByAccountNumbers} query the shards involved in parallel and merge the results.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "bank.sharding", name = "enabled", havingValue = "true")
+public class ShardedAccountService implements AccountService {
+
+    @Autowired
+    private AccountServiceImpl delegate;
+
+    @Autowired
+    private ShardRoutingDataSource shardRouting;
+
+    @Autowired
+    private WithdrawalLimiter withdrawalLimiter;
+
+    @Autowired
+    @Qualifier("shardQueryExecutor")
+    private ExecutorService shardQueryExecutor;
+
+    @Value("${bank.batch-get.max-ids:1000}")
+    private int batchGetMaxIds = 1000;
+
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    @Override
+    public Account createAccount(Account account) {
+        int shard = Math.floorMod(nextShard.getAndIncrement(), shardRouting.getShardCount());
+        return ShardRoutingDataSource.callOnShard(shard, () -> delegate.createAccount(account));
+    }
+
+    @Override
+    public Account getAccountDetailsByAccountNumber(Long accountNumber) {
+        return onOwningShard(accountNumber, () -> delegate.getAccountDetailsByAccountNumber(accountNumber));
+    }
+
+    // One query per shard holding any of the accounts, then restored to request order
+    @Override
+    public AccountBatchResult getAccountsByAccountNumbers(List<Long> accountNumbers) {
+        List<Long> distinct = accountNumbers.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.size() > batchGetMaxIds) {
+            throw new IllegalArgumentException("At most " + batchGetMaxIds + " account numbers per request");
+        }
+        Map<Integer, List<Long>> byShard = distinct.stream()
+                .collect(Collectors.groupingBy(shardRouting::shardFor, TreeMap::new, Collectors.toList()));
+        List<CompletableFuture<AccountBatchResult>> parts = new ArrayList<>(byShard.size());
+        for (Map.Entry<Integer, List<Long>> shard : byShard.entrySet()) {
+            parts.add(CompletableFuture.supplyAsync(() -> ShardRoutingDataSource.callOnShard(shard.getKey(),
+                    () -> delegate.getAccountsByAccountNumbers(shard.getValue())), shardQueryExecutor));
+        }
+        Map<Long, Account> found = new HashMap<>();
+        for (CompletableFuture<AccountBatchResult> part : parts) {
+            for (Account account : part.join().accounts()) {
+                found.put(account.getAccountNumber(), account);
+            }
+        }
+        List<Account> accounts = new ArrayList<>(found.size());
+        List<Long> notFound = new ArrayList<>();
+        for (Long accountNumber : distinct) {
+            Account account = found.get(accountNumber);
+            if (account != null) {
+                accounts.add(account);
+            } else {
+                notFound.add(accountNumber);
+            }
+        }
+        return new AccountBatchResult(accounts, notFound);
+    }
+
+    @Override
+    public List<Account> getAllAccounts() {
+        List<CompletableFuture<List<Account>>> parts = new ArrayList<>();
+        for (int shard = 0; shard < shardRouting.getShardCount(); shard++) {
+            int target = shard;
+            parts.add(CompletableFuture.supplyAsync(() -> ShardRoutingDataSource.callOnShard(target,
+                    delegate::getAllAccounts), shardQueryExecutor));
+        }
+        List<Account> merged = new ArrayList<>();
+        for (CompletableFuture<List<Account>> part : parts) {
+            merged.addAll(part.join());
+        }
+        merged.sort(Comparator.comparing(Account::getAccountNumber));
+        return merged;
+    }
+
+    @Override
+    public Account depositAmount(Long accountNumber, Double amount) {
+        return onOwningShard(accountNumber, () -> delegate.depositAmount(accountNumber, amount));
+    }
+
+    @Override
+    public Account withdrawAmount(Long accountNumber, Double amount) {
+        return onOwningShard(accountNumber, () -> delegate.withdrawAmount(accountNumber, amount));
+    }
+
+    @Override
+    public void closeAccount(Long accountNumber) {
+        onOwningShard(accountNumber, () -> {
+            delegate.closeAccount(accountNumber);
+            return null;
+        });
+    }
+
+    // One transaction per shard; a failure on a later shard does not undo closes on earlier ones
+    @Override
+    public BulkCloseResult closeAccounts(List<Long> accountNumbers) {
+        Map<Integer, List<Long>> byShard = accountNumbers.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.groupingBy(shardRouting::shardFor, TreeMap::new, Collectors.toList()));
+        int requested = 0;
+        int closed = 0;
+        List<Long> notFound = new ArrayList<>();
+        for (Map.Entry<Integer, List<Long>> shard : byShard.entrySet()) {
+            BulkCloseResult result = ShardRoutingDataSource.callOnShard(shard.getKey(),
+                    () -> delegate.closeAccounts(shard.getValue()));
+            requested += result.requested();
+            closed += result.closed();
+            notFound.addAll(result.notFound());
+        }
+        return new BulkCloseResult(requested, closed, notFound);
+    }
+
+    @Override
+    public ArchivedAccount getArchivedAccount(Long accountNumber) {
+        return onOwningShard(accountNumber, () -> delegate.getArchivedAccount(accountNumber));
+    }
+
+    // Withdrawal history lives next to its account; shard 0 is replayed by the limiter itself
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildWithdrawalLimitsFromOtherShards() {
+        for (int shard = 1; shard < shardRouting.getShardCount(); shard++) {
+            ShardRoutingDataSource.callOnShard(shard, () -> {
+                withdrawalLimiter.rebuildFromHistory();
+                return null;
+            });
+        }
+    }
+
+    private <T> T onOwningShard(Long accountNumber, Supplier<T> work) {
+        return ShardRoutingDataSource.callOnShard(shardRouting.shardFor(accountNumber), work);
+    }
+}
@@ -0,0 +1,87 @@
+package bank.app.BankManagementApp.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free sliding-window sum over {@code bucketCount} time buckets of {@code bucketMillis} each.
+ *
+ * Each slot packs the bucket's running total (in cents) into the high bits and the low 24 bits
+ * of the bucket index into the low bits, so rotating a stale slot and adding to it is a single CAS.
+ */
+public final class SlidingWindowCounter {
+
+    private static final int TAG_BITS = 24;
+    private static final long TAG_MASK = (1L << TAG_BITS) - 1;
+
+    /** The largest bucket total, about $5.5 billion in cents; larger totals would overflow into the sign bit. */
+    public static final long MAX_CENTS = (1L << (63 - TAG_BITS)) - 1;
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final AtomicLongArray slots;
+
+    public SlidingWindowCounter(long windowMillis, int bucketCount) {
+        if (bucketCount <= 0 || windowMillis < bucketCount) {
+            throw new IllegalArgumentException("Window must span at least one millisecond per bucket");
+        }
+        this.bucketMillis = windowMillis / bucketCount;
+        this.bucketCount = bucketCount;
+        this.slots = new AtomicLongArray(bucketCount);
+    }
+
+    /**
+     * Adds {@code cents} to the bucket containing {@code timeMillis}; negative values undo an earlier add.
+     * Adds for buckets that have already left the window are ignored.
+     *
+     * @throws IllegalArgumentException if {@code cents} is beyond {@link #MAX_CENTS} either way
+     */
+    public void add(long timeMillis, long cents) {
+        if (cents > MAX_CENTS || cents < -MAX_CENTS) {
+            throw new IllegalArgumentException("Amount out of range: " + cents);
+        }
+        long bucket = timeMillis / bucketMillis;
+        int slot = (int) (bucket % bucketCount);
+        long tag = bucket & TAG_MASK;
+        while (true) {
+            long current = slots.get(slot);
+            long next;
+            if ((current & TAG_MASK) == tag) {
+                next = current + (cents << TAG_BITS);
+            } else if (cents < 0 || (current != 0 && isNewer(current & TAG_MASK, tag))) {
+                // Undo for a bucket that has rotated away, or a late replay of an expired bucket; a slot
+                // never written to has no bucket yet, whatever its zero tag would suggest
+                return;
+            } else {
+                next = (cents << TAG_BITS) | tag;
+            }
+            if (slots.compareAndSet(slot, current, next)) {
+                return;
+            }
+        }
+    }
+
+    /** Returns the total in cents of all buckets inside the window ending at {@code timeMillis}. */
+    public long sum(long timeMillis) {
+        long bucket = timeMillis / bucketMillis;
+        long total = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            long value = slots.get(i);
+            long age = (bucket - (value & TAG_MASK)) & TAG_MASK;
+            if (age < bucketCount) {
+                total += value >> TAG_BITS;
+            }
+        }
+        return total;
+    }
+
+    /** True when nothing inside the window ending at {@code timeMillis} has a non-zero total. */
+    public boolean isIdle(long timeMillis) {
+        return sum(timeMillis) == 0;
+    }
+
+    // Tags wrap every 2^24 buckets; a slot is "newer" if it is less than half the tag space ahead
+    private static boolean isNewer(long slotTag, long tag) {
+        long ahead = (slotTag - tag) & TAG_MASK;
+        return ahead != 0 && ahead < (1L << (TAG_BITS - 1));
+    }
+}
@@ -0,0 +1,12 @@
+package bank.app.BankManagementApp.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class WithdrawalLimitExceededException extends RuntimeException {
+
+    public WithdrawalLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,190 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.entity.WithdrawalRecord;
+import bank.app.BankManagementApp.repository.WithdrawalRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Per-account per-minute and rolling 24-hour withdrawal limits, checked entirely in memory.
+ * Every accepted withdrawal is also appended to {@code withdrawal_history}, which is replayed
+ * on startup so limits survive a restart. A limit of 0 disables that window.
+ */
+@Component
+public class WithdrawalLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(WithdrawalLimiter.class);
+
+    private static final long MINUTE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final int MINUTE_BUCKETS = 12;  // 5 second buckets
+    private static final int DAY_BUCKETS = 96;     // 15 minute buckets
+    // A bucket may briefly hold racing reservations on top of the limit before they are checked and undone
+    private static final long MAX_LIMIT_CENTS = SlidingWindowCounter.MAX_CENTS / 4;
+
+    private final long perMinuteLimitCents;
+    private final long dailyLimitCents;
+    private final LongSupplier clock;
+    private final ConcurrentMap<Long, Windows> windows = new ConcurrentHashMap<>();
+
+    @Autowired
+    private WithdrawalRecordRepository withdrawalRecordRepository;
+
+    @Autowired
+    public WithdrawalLimiter(@Value("${bank.withdrawal.limits.per-minute:0}") double perMinuteLimit,
+                             @Value("${bank.withdrawal.limits.daily:0}") double dailyLimit) {
+        this(perMinuteLimit, dailyLimit, System::currentTimeMillis);
+    }
+
+    WithdrawalLimiter(double perMinuteLimit, double dailyLimit, LongSupplier clock) {
+        this.perMinuteLimitCents = toCents(perMinuteLimit);
+        this.dailyLimitCents = toCents(dailyLimit);
+        if (perMinuteLimitCents > MAX_LIMIT_CENTS || dailyLimitCents > MAX_LIMIT_CENTS) {
+            throw new IllegalArgumentException("Withdrawal limits above " + MAX_LIMIT_CENTS / 100 + " are not supported");
+        }
+        this.clock = clock;
+    }
+
+    /**
+     * Reserves {@code amount} against both windows, or throws if either limit would be exceeded.
+     * The reservation is added first and checked afterwards, so racing withdrawals can only be
+     * rejected conservatively, never admitted past the limit. An amount above a limit on its own is
+     * rejected before it reaches the windows, whose buckets could not hold it.
+     *
+     * @return the reservation time, to be passed to {@link #release}
+     */
+    public long reserve(Long accountNumber, Double amount) {
+        long cents = toCents(amount);
+        long now = clock.getAsLong();
+        if (cents <= 0 || !isEnabled()) {
+            return now;
+        }
+        if (exceeds(cents, perMinuteLimitCents)) {
+            throw new WithdrawalLimitExceededException("Per-minute withdrawal limit exceeded");
+        }
+        if (exceeds(cents, dailyLimitCents)) {
+            throw new WithdrawalLimitExceededException("Daily withdrawal limit exceeded");
+        }
+        Windows w = touch(accountNumber, now);
+        w.minute.add(now, cents);
+        w.day.add(now, cents);
+        if (exceeds(w.minute.sum(now), perMinuteLimitCents)) {
+            undo(w, now, cents);
+            throw new WithdrawalLimitExceededException("Per-minute withdrawal limit exceeded");
+        }
+        if (exceeds(w.day.sum(now), dailyLimitCents)) {
+            undo(w, now, cents);
+            throw new WithdrawalLimitExceededException("Daily withdrawal limit exceeded");
+        }
+        return now;
+    }
+
+    /**
+     * Returns a reservation made by {@link #reserve} when the withdrawal did not go through. The amount is taken
+     * out of the bucket it was added to; if that bucket has left a window, the amount no longer counts there.
+     */
+    public void release(Long accountNumber, Double amount, long reservedAt) {
+        long cents = toCents(amount);
+        Windows w = windows.get(accountNumber);
+        if (cents <= 0 || w == null) {
+            return;
+        }
+        undo(w, reservedAt, cents);
+    }
+
+    /** Persists an accepted withdrawal so the windows can be rebuilt after a restart. */
+    public void record(Long accountNumber, Double amount) {
+        if (toCents(amount) <= 0 || !isEnabled()) {
+            return;
+        }
+        withdrawalRecordRepository.save(new WithdrawalRecord(accountNumber, amount, Instant.ofEpochMilli(clock.getAsLong())));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildFromHistory() {
+        if (!isEnabled()) {
+            return;
+        }
+        Instant since = Instant.ofEpochMilli(clock.getAsLong() - DAY_MILLIS);
+        AtomicLong replayed = new AtomicLong();
+        try (Stream<WithdrawalRecord> history = withdrawalRecordRepository.streamByCreatedAtAfter(since)) {
+            history.forEach(r -> {
+                replay(r.getAccountNumber(), r.getAmount(), r.getCreatedAt().toEpochMilli());
+                replayed.incrementAndGet();
+            });
+        }
+        log.info("Rebuilt withdrawal limit windows from {} history records", replayed.get());
+    }
+
+    void replay(Long accountNumber, Double amount, long timeMillis) {
+        // Recorded under a higher limit; anything this large exhausts every window anyway
+        long cents = Math.min(toCents(amount), MAX_LIMIT_CENTS);
+        if (cents <= 0) {
+            return;
+        }
+        Windows w = touch(accountNumber, timeMillis);
+        w.minute.add(timeMillis, cents);
+        w.day.add(timeMillis, cents);
+    }
+
+    // Windows untouched for a full day carry no state and can be dropped. Removal goes through the map's
+    // per-key lock, like touch(), so a window cannot be dropped after a reservation has claimed it.
+    @Scheduled(fixedDelayString = "${bank.withdrawal.limits.eviction-interval-ms:600000}")
+    public void evictIdle() {
+        long cutoff = clock.getAsLong() - DAY_MILLIS;
+        for (Long accountNumber : windows.keySet()) {
+            windows.computeIfPresent(accountNumber, (k, w) -> w.lastUsed.get() < cutoff ? null : w);
+        }
+    }
+
+    int trackedAccounts() {
+        return windows.size();
+    }
+
+    private boolean isEnabled() {
+        return perMinuteLimitCents > 0 || dailyLimitCents > 0;
+    }
+
+    private static boolean exceeds(long totalCents, long limitCents) {
+        return limitCents > 0 && totalCents > limitCents;
+    }
+
+    private Windows touch(Long accountNumber, long timeMillis) {
+        return windows.compute(accountNumber, (k, w) -> {
+            Windows touched = w != null ? w : new Windows();
+            touched.lastUsed.accumulateAndGet(timeMillis, Math::max);
+            return touched;
+        });
+    }
+
+    private static void undo(Windows w, long now, long cents) {
+        w.minute.add(now, -cents);
+        w.day.add(now, -cents);
+    }
+
+    private static long toCents(Double amount) {
+        return amount == null ? 0 : Math.round(amount * 100);
+    }
+
+    private static final class Windows {
+        final SlidingWindowCounter minute = new SlidingWindowCounter(MINUTE_MILLIS, MINUTE_BUCKETS);
+        final SlidingWindowCounter day = new SlidingWindowCounter(DAY_MILLIS, DAY_BUCKETS);
+        final AtomicLong lastUsed = new AtomicLong();
+    }
+}
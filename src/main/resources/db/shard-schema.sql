@@ -0,0 +1,58 @@
+-- Schema for one account shard. Account numbers are assigned by the application from this shard's
+-- account_number_sequence row and encode the owning shard (see ShardRoutingDataSource).
+create table if not exists account (
+    account_number bigint not null primary key,
+    account_balance float(53),
+    account_holder_name varchar(255)
+);
+
+create index if not exists idx_account_holder_name on account (account_holder_name);
+create index if not exists idx_account_balance on account (account_balance);
+
+create table if not exists account_number_sequence (
+    name varchar(255) not null primary key,
+    next_value bigint not null
+);
+
+create sequence if not exists withdrawal_history_seq start with 1 increment by 50;
+
+create table if not exists withdrawal_history (
+    id bigint not null primary key,
+    account_number bigint not null,
+    amount float(53) not null,
+    created_at timestamp(6) with time zone not null
+);
+
+create index if not exists idx_withdrawal_history_created_at on withdrawal_history (created_at);
+
+create table if not exists interest_checkpoint (
+    id varchar(255) not null primary key,
+    period varchar(255) not null,
+    chunk_start bigint not null,
+    chunk_end bigint not null,
+    accounts_updated integer not null,
+    interest_accrued float(53) not null,
+    completed_at timestamp(6) with time zone not null
+);
+
+create table if not exists cache_invalidation (
+    id bigint generated by default as identity primary key,
+    account_number bigint,
+    origin_node varchar(255) not null,
+    created_at timestamp(6) with time zone not null
+);
+
+create index if not exists idx_cache_invalidation_created_at on cache_invalidation (created_at);
+
+create table if not exists cluster_member (
+    node_id varchar(255) not null primary key,
+    base_url varchar(255) not null,
+    heartbeat_at timestamp(6) with time zone not null
+);
+
+create table if not exists account_archive (
+    account_number bigint not null primary key,
+    account_balance float(53),
+    account_holder_name varchar(255),
+    closed_at timestamp(6) with time zone not null
+);
@@ -0,0 +1,173 @@
+package bank.app.BankManagementApp.batch;
+
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doCallRealMethod;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:importdb;DB_CLOSE_DELAY=-1",
+        "bank.import.chunk-size=2",
+        "bank.import.max-reported-errors=3"
+})
+@ActiveProfiles("test")
+@DisplayName("AccountCsvImporter Tests")
+public class AccountCsvImporterTest {
+
+    @Autowired
+    private AccountCsvImporter importer;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @SpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should import valid rows across chunks and skip the header")
+    void shouldImportValidRowsAcrossChunksAndSkipTheHeader() throws IOException {
+        String csv = """
+                accountHolderName,accountBalance
+                Alice,100.50
+                "Smith, Bob",200
+                "Carol ""CJ"" Jones",0
+
+                Dave,1e3
+                """;
+
+        AccountImportReport report = importer.importCsv(new StringReader(csv));
+
+        assertEquals(4, report.rowsRead());
+        assertEquals(4, report.rowsImported());
+        assertEquals(0, report.rowsRejected());
+        List<Account> accounts = accountRepository.findAll().stream()
+                .sorted(Comparator.comparing(Account::getAccountNumber))
+                .toList();
+        assertEquals(List.of("Alice", "Smith, Bob", "Carol \"CJ\" Jones", "Dave"),
+                accounts.stream().map(Account::getAccountHolderName).toList());
+        assertEquals(1000.0, accounts.get(3).getAccountBalance());
+    }
+
+    @Test
+    @DisplayName("Should report invalid rows by line number and import the rest")
+    void shouldReportInvalidRowsByLineNumberAndImportTheRest() throws IOException {
+        String csv = """
+                Alice,100
+                ,50
+                Bob,abc
+                Carol,-5
+                Dave,10,extra
+                Eve,"20
+                Frank,30
+                """;
+
+        AccountImportReport report = importer.importCsv(new StringReader(csv));
+
+        assertEquals(7, report.rowsRead());
+        assertEquals(2, report.rowsImported());
+        assertEquals(5, report.rowsRejected());
+        // Only max-reported-errors entries are kept
+        assertEquals(List.of(
+                new AccountImportReport.RowError(2, "Account holder name is required"),
+                new AccountImportReport.RowError(3, "Invalid balance: abc"),
+                new AccountImportReport.RowError(4, "Invalid balance: -5")), report.errors());
+        assertEquals(2, accountRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should report the rows of a failed chunk and keep the other chunks")
+    void shouldReportTheRowsOfAFailedChunkAndKeepTheOtherChunks() throws IOException {
+        doCallRealMethod()
+                .doThrow(new DataIntegrityViolationException("disk full"))
+                .doCallRealMethod()
+                .when(jdbcTemplate).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        String csv = """
+                Alice,100
+                Bob,200
+                Carol,300
+                Dave,400
+                Eve,500
+                """;
+
+        AccountImportReport report = importer.importCsv(new StringReader(csv));
+
+        assertEquals(5, report.rowsRead());
+        assertEquals(3, report.rowsImported());
+        assertEquals(2, report.rowsRejected());
+        assertEquals(List.of(
+                new AccountImportReport.RowError(3, "Chunk not imported: disk full"),
+                new AccountImportReport.RowError(4, "Chunk not imported: disk full")), report.errors());
+        assertEquals(List.of("Alice", "Bob", "Eve"), accountRepository.findAll().stream()
+                .map(Account::getAccountHolderName).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Should stream a large import without buffering the whole input")
+    void shouldStreamALargeImportWithoutBufferingTheWholeInput() throws IOException {
+        int rows = 100_000;
+
+        AccountImportReport report = importer.importCsv(new GeneratedCsvReader(rows), 5000);
+
+        assertEquals(rows, report.rowsImported());
+        assertEquals(rows, accountRepository.count());
+        System.out.printf("Imported %d rows in %d ms (%.0f rows/s)%n", rows, report.elapsedMillis(),
+                report.rowsPerSecond());
+    }
+
+    // Produces "Holder N,N.25" rows on demand
+    private static class GeneratedCsvReader extends Reader {
+
+        private final int rows;
+        private int row;
+        private String pending = "";
+        private int offset;
+
+        GeneratedCsvReader(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read(char[] buffer, int off, int len) {
+            if (offset == pending.length()) {
+                if (row == rows) {
+                    return -1;
+                }
+                row++;
+                pending = "Holder " + row + "," + row + ".25\n";
+                offset = 0;
+            }
+            int count = Math.min(len, pending.length() - offset);
+            pending.getChars(offset, offset + count, buffer, off);
+            offset += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
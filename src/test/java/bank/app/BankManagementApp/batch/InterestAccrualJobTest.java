@@ -0,0 +1,184 @@
+package bank.app.BankManagementApp.batch;
+
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.entity.InterestCheckpoint;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import bank.app.BankManagementApp.repository.InterestCheckpointRepository;
+import bank.app.BankManagementApp.service.BalanceIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:interestdb;DB_CLOSE_DELAY=-1",
+        "bank.interest.annual-rate=0.12",
+        "bank.interest.chunk-size=3",
+        "bank.interest.worker-threads=2",
+        "bank.interest.pause-between-chunks-ms=0"
+})
+@ActiveProfiles("test")
+@DisplayName("InterestAccrualJob Tests")
+public class InterestAccrualJobTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2026, 9);
+
+    @Autowired
+    private InterestAccrualJob job;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @SpyBean
+    private InterestCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BalanceIndex balanceIndex;
+
+    private List<Account> accounts;
+
+    @BeforeEach
+    void setUp() {
+        checkpointRepository.deleteAll();
+        accountRepository.deleteAll();
+        accounts = new ArrayList<>();
+        // 10 accounts -> 4 or 5 chunks of 3, depending on alignment; one negative and one zero balance earn nothing
+        double[] balances = {1000.0, 2000.0, -500.0, 0.0, 150.55, 10.0, 99999.99, 1.0, 250.0, 400.0};
+        for (int i = 0; i < balances.length; i++) {
+            accounts.add(accountRepository.save(new Account("Holder " + i, balances[i])));
+        }
+    }
+
+    // Chunks of three accounts span thirty numbers, aligned to multiples of thirty
+    private static long chunkStartOf(Account account) {
+        return Math.floorDiv(account.getAccountNumber(), 30) * 30;
+    }
+
+    private int expectedChunks() {
+        return (int) ((chunkStartOf(accounts.get(accounts.size() - 1)) - chunkStartOf(accounts.get(0))) / 30 + 1);
+    }
+
+    private double balanceOf(int index) {
+        return accountRepository.findById(accounts.get(index).getAccountNumber()).orElseThrow().getAccountBalance();
+    }
+
+    @Test
+    @DisplayName("Should report the total accrued in dry-run mode without changing balances")
+    void shouldReportTheTotalAccruedInDryRunModeWithoutChangingBalances() {
+        InterestAccrualReport report = job.run(PERIOD, true);
+
+        // 1% monthly, rounded to cents per account
+        double expected = 10.0 + 20.0 + 1.51 + 0.10 + 1000.0 + 0.01 + 2.5 + 4.0;
+        assertEquals(expected, report.totalAccrued(), 1e-9);
+        assertEquals(expectedChunks(), report.chunksProcessed());
+        assertEquals(0, report.accountsUpdated());
+        assertEquals(1000.0, balanceOf(0));
+        assertEquals(0, checkpointRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should credit interest once and skip completed chunks when rerun")
+    void shouldCreditInterestOnceAndSkipCompletedChunksWhenRerun() {
+        InterestAccrualReport first = job.run(PERIOD, false);
+
+        assertEquals(expectedChunks(), first.chunksProcessed());
+        assertEquals(8, first.accountsUpdated());
+        assertEquals(1010.0, balanceOf(0));
+        assertEquals(-500.0, balanceOf(2));
+        assertEquals(0.0, balanceOf(3));
+        assertEquals(152.06, balanceOf(4), 1e-9);
+        assertEquals(expectedChunks(), checkpointRepository.findByPeriod(PERIOD.toString()).size());
+
+        InterestAccrualReport rerun = job.run(PERIOD, false);
+
+        assertEquals(0, rerun.chunksProcessed());
+        assertEquals(expectedChunks(), rerun.chunksSkipped());
+        assertEquals(1010.0, balanceOf(0));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the balance index after crediting interest")
+    void shouldRebuildTheBalanceIndexAfterCreditingInterest() {
+        balanceIndex.rebuild();
+
+        job.run(PERIOD, false);
+
+        Account top = balanceIndex.findTopBalances(1).get(0);
+        assertEquals(accounts.get(6).getAccountNumber(), top.getAccountNumber());
+        assertEquals(100999.99, top.getAccountBalance(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should resume after a partial run")
+    void shouldResumeAfterAPartialRun() {
+        // Simulate a crash after the first chunk committed
+        long firstChunkStart = chunkStartOf(accounts.get(0));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                accountRepository.applyInterestInRange(firstChunkStart, firstChunkStart + 29, 0.01));
+        checkpointRepository.save(new InterestCheckpoint(PERIOD.toString(), firstChunkStart, firstChunkStart + 29,
+                2, 30.0, Instant.now()));
+
+        InterestAccrualReport report = job.run(PERIOD, false);
+
+        assertEquals(expectedChunks() - 1, report.chunksProcessed());
+        assertEquals(1, report.chunksSkipped());
+        assertEquals(1010.0, balanceOf(0));
+        assertEquals(2020.0, balanceOf(1));
+        assertEquals(10.1, balanceOf(5), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should not credit a completed chunk again after the lowest account is closed")
+    void shouldNotCreditACompletedChunkAgainAfterTheLowestAccountIsClosed() {
+        // Given - the chunk holding the second account committed, then the first account was closed
+        long chunkStart = chunkStartOf(accounts.get(1));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                accountRepository.applyInterestInRange(chunkStart, chunkStart + 29, 0.01));
+        checkpointRepository.save(new InterestCheckpoint(PERIOD.toString(), chunkStart, chunkStart + 29,
+                2, 20.0, Instant.now()));
+        accountRepository.deleteById(accounts.get(0).getAccountNumber());
+
+        // When
+        InterestAccrualReport report = job.run(PERIOD, false);
+
+        // Then
+        assertEquals(1, report.chunksSkipped());
+        assertEquals(2020.0, balanceOf(1));
+        assertEquals(10.1, balanceOf(5), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should not credit a chunk another node checkpointed after this run was planned")
+    void shouldNotCreditAChunkAnotherNodeCheckpointedAfterThisRunWasPlanned() {
+        // Given - another node completed the whole period, but this run planned before seeing its checkpoints
+        job.run(PERIOD, false);
+        doReturn(List.of()).when(checkpointRepository).findCompletedChunkStarts(anyString());
+
+        // When
+        InterestAccrualReport rerun = job.run(PERIOD, false);
+
+        // Then - every chunk loses on the checkpoint's primary key and is rolled back
+        assertEquals(0, rerun.chunksProcessed());
+        assertEquals(expectedChunks(), rerun.chunksSkipped());
+        assertEquals(0, rerun.accountsUpdated());
+        assertEquals(1010.0, balanceOf(0));
+        assertEquals(152.06, balanceOf(4), 1e-9);
+    }
+}
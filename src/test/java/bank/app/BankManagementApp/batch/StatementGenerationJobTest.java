@@ -0,0 +1,130 @@
+package bank.app.BankManagementApp.batch;
+
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.entity.WithdrawalRecord;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import bank.app.BankManagementApp.repository.WithdrawalRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statementdb;DB_CLOSE_DELAY=-1",
+        "bank.statements.chunk-size=3",
+        "bank.statements.render-parallelism=2",
+        "bank.statements.max-chunks-in-flight=2",
+        "bank.statements.max-file-bytes=1"
+})
+@ActiveProfiles("test")
+@DisplayName("StatementGenerationJob Tests")
+public class StatementGenerationJobTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2026, 9);
+
+    @TempDir
+    static Path outputDir;
+
+    @DynamicPropertySource
+    static void outputDir(DynamicPropertyRegistry registry) {
+        registry.add("bank.statements.output-dir", () -> outputDir.toString());
+    }
+
+    @Autowired
+    private StatementGenerationJob job;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private WithdrawalRecordRepository withdrawalRecordRepository;
+
+    private Account first;
+
+    @BeforeEach
+    void setUp() {
+        withdrawalRecordRepository.deleteAll();
+        accountRepository.deleteAll();
+        for (int i = 0; i < 7; i++) {
+            Account saved = accountRepository.save(new Account("Holder " + i, 100.0 * (i + 1)));
+            if (i == 0) {
+                first = saved;
+            }
+        }
+        withdrawalRecordRepository.save(new WithdrawalRecord(first.getAccountNumber(), 25.0,
+                Instant.parse("2026-09-10T12:00:00Z")));
+        withdrawalRecordRepository.save(new WithdrawalRecord(first.getAccountNumber(), 40.0,
+                Instant.parse("2026-10-01T00:00:00Z")));
+    }
+
+    private List<Path> outputFiles() throws IOException {
+        try (Stream<Path> files = Files.list(outputDir.resolve(PERIOD.toString()))) {
+            return files.sorted().toList();
+        }
+    }
+
+    private String readAll(List<Path> files) throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (Path file : files) {
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+                text.append(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return text.toString();
+    }
+
+    @Test
+    @DisplayName("Should write one statement per account in order across rolling compressed files")
+    void shouldWriteOneStatementPerAccountInOrderAcrossRollingCompressedFiles() throws IOException {
+        StatementProgress progress = job.run(PERIOD);
+
+        assertEquals(StatementProgress.State.COMPLETED, progress.getState());
+        assertEquals(7, progress.getStatementsWritten());
+        assertEquals(100.0, progress.getPercentComplete());
+
+        // max-file-bytes=1 rolls after every chunk: chunks of 3, 3 and 1 accounts
+        List<Path> files = outputFiles();
+        assertEquals(3, files.size());
+        assertEquals(3, progress.getFilesWritten());
+        assertEquals("statements-2026-09-00001.txt.gz", files.get(0).getFileName().toString());
+        assertTrue(files.stream().noneMatch(file -> file.toString().endsWith(".part")));
+
+        String text = readAll(files);
+        assertEquals(7, text.split("----\n").length);
+        assertTrue(text.startsWith("STATEMENT 2026-09\nAccount: " + first.getAccountNumber() + "\n"));
+        assertTrue(text.contains("2026-09-10T12:00:00Z  withdrawal  25.00\nTotal withdrawn: 25.00\n"));
+        assertFalse(text.contains("40.00"));
+        assertTrue(text.contains("Closing balance: 700.00"));
+    }
+
+    @Test
+    @DisplayName("Should replace the output of an earlier run for the same period")
+    void shouldReplaceTheOutputOfAnEarlierRunForTheSamePeriod() throws IOException {
+        job.run(PERIOD);
+        accountRepository.deleteById(first.getAccountNumber());
+
+        StatementProgress progress = job.run(PERIOD);
+
+        assertEquals(6, progress.getStatementsWritten());
+        assertEquals(2, outputFiles().size());
+        assertEquals(6, readAll(outputFiles()).split("----\n").length);
+    }
+}
@@ -0,0 +1,101 @@
+package bank.app.BankManagementApp.benchmark;
+
+import bank.app.BankManagementApp.config.AccountJsonCodec;
+import bank.app.BankManagementApp.entity.Account;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson's reflective bean (de)serializer versus {@link AccountJsonCodec}, for a single
+ * /account/{id} response and an /account/all page of {@code pageSize} accounts.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=AccountJsonCodecBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountJsonCodecBenchmark {
+
+    @Param({"1000"})
+    private int pageSize;
+
+    private final ObjectMapper reflective = new ObjectMapper();
+    private final ObjectMapper codec = new ObjectMapper().registerModule(new SimpleModule()
+            .addSerializer(Account.class, new AccountJsonCodec.Serializer())
+            .addDeserializer(Account.class, new AccountJsonCodec.Deserializer()));
+
+    private Account account;
+    private List<Account> page;
+    private byte[] accountJson;
+    private byte[] pageJson;
+    private ObjectReader reflectivePageReader;
+    private ObjectReader codecPageReader;
+
+    @Setup
+    public void setUp() throws IOException {
+        account = new Account("John Doe", 5000.0);
+        account.setAccountNumber(1L);
+        page = new ArrayList<>(pageSize);
+        for (int i = 1; i <= pageSize; i++) {
+            Account a = new Account("Account Holder " + i, 1000.0 + i * 12.5);
+            a.setAccountNumber((long) i);
+            page.add(a);
+        }
+        accountJson = reflective.writeValueAsBytes(account);
+        pageJson = reflective.writeValueAsBytes(page);
+        TypeReference<List<Account>> listType = new TypeReference<>() {};
+        reflectivePageReader = reflective.readerFor(listType);
+        codecPageReader = codec.readerFor(listType);
+    }
+
+    @Benchmark
+    public byte[] writeSingleReflective() throws IOException {
+        return reflective.writeValueAsBytes(account);
+    }
+
+    @Benchmark
+    public byte[] writeSingleCodec() throws IOException {
+        return codec.writeValueAsBytes(account);
+    }
+
+    @Benchmark
+    public byte[] writePageReflective() throws IOException {
+        return reflective.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writePageCodec() throws IOException {
+        return codec.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Account readSingleReflective() throws IOException {
+        return reflective.readValue(accountJson, Account.class);
+    }
+
+    @Benchmark
+    public Account readSingleCodec() throws IOException {
+        return codec.readValue(accountJson, Account.class);
+    }
+
+    @Benchmark
+    public List<Account> readPageReflective() throws IOException {
+        return reflectivePageReader.readValue(pageJson);
+    }
+
+    @Benchmark
+    public List<Account> readPageCodec() throws IOException {
+        return codecPageReader.readValue(pageJson);
+    }
+}
@@ -0,0 +1,84 @@
+package bank.app.BankManagementApp.benchmark;
+
+import bank.app.BankManagementApp.config.AccountProtobufHttpMessageConverter;
+import bank.app.BankManagementApp.entity.Account;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost and payload size of the JSON, CBOR and protobuf account representations,
+ * for a single lookup and for an /account/all page of {@code pageSize} accounts.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=AccountSerializationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int pageSize;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final CBORMapper cbor = new CBORMapper();
+    private final AccountProtobufHttpMessageConverter protobuf = new AccountProtobufHttpMessageConverter();
+
+    private Account account;
+    private List<Account> page;
+
+    @Setup
+    public void setUp() throws IOException {
+        account = new Account("John Doe", 5000.0);
+        account.setAccountNumber(1L);
+        page = new ArrayList<>(pageSize);
+        for (int i = 1; i <= pageSize; i++) {
+            Account a = new Account("Account Holder " + i, 1000.0 + i * 12.5);
+            a.setAccountNumber((long) i);
+            page.add(a);
+        }
+        System.out.printf("%nPayload bytes (single / page of %d): json=%d/%d cbor=%d/%d protobuf=%d/%d%n",
+                pageSize,
+                json.writeValueAsBytes(account).length, json.writeValueAsBytes(page).length,
+                cbor.writeValueAsBytes(account).length, cbor.writeValueAsBytes(page).length,
+                protobuf.toBytes(account).length, protobuf.toBytes(page).length);
+    }
+
+    @Benchmark
+    public byte[] jsonSingle() throws IOException {
+        return json.writeValueAsBytes(account);
+    }
+
+    @Benchmark
+    public byte[] cborSingle() throws IOException {
+        return cbor.writeValueAsBytes(account);
+    }
+
+    @Benchmark
+    public byte[] protobufSingle() throws IOException {
+        return protobuf.toBytes(account);
+    }
+
+    @Benchmark
+    public byte[] jsonPage() throws IOException {
+        return json.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cborPage() throws IOException {
+        return cbor.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] protobufPage() throws IOException {
+        return protobuf.toBytes(page);
+    }
+}
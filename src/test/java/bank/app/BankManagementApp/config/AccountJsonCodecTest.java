@@ -0,0 +1,96 @@
+package bank.app.BankManagementApp.config;
+
+import bank.app.BankManagementApp.entity.Account;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccountJsonCodec Tests")
+public class AccountJsonCodecTest {
+
+    private ObjectMapper reflective;
+    private ObjectMapper codec;
+
+    @BeforeEach
+    void setUp() {
+        reflective = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        codec = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .registerModule(new SimpleModule()
+                        .addSerializer(Account.class, new AccountJsonCodec.Serializer())
+                        .addDeserializer(Account.class, new AccountJsonCodec.Deserializer()));
+    }
+
+    private static Account account(Long accountNumber, String name, Double balance) {
+        Account account = new Account(name, balance);
+        account.setAccountNumber(accountNumber);
+        return account;
+    }
+
+    private List<Account> samples() {
+        return Arrays.asList(
+                account(1L, "John Doe", 5000.0),
+                account(Long.MAX_VALUE, "Jöhn \"Quoted\" \\ Doe\n\t☃", -0.01),
+                account(42L, "", 1.0E21),
+                account(7L, "Tiny", 4.9E-324),
+                account(null, null, null),
+                account(3L, "Not a number", Double.NaN),
+                account(4L, "Infinite", Double.POSITIVE_INFINITY)
+        );
+    }
+
+    @Test
+    @DisplayName("Should produce byte-identical output to the reflective serializer")
+    void shouldProduceByteIdenticalOutputToTheReflectiveSerializer() throws Exception {
+        for (Account account : samples()) {
+            assertArrayEquals(reflective.writeValueAsBytes(account), codec.writeValueAsBytes(account),
+                    () -> "Mismatch for " + account);
+        }
+        assertArrayEquals(reflective.writeValueAsBytes(samples()), codec.writeValueAsBytes(samples()));
+        assertEquals(reflective.writerWithDefaultPrettyPrinter().writeValueAsString(samples()),
+                codec.writerWithDefaultPrettyPrinter().writeValueAsString(samples()));
+    }
+
+    @Test
+    @DisplayName("Should read the same accounts as the reflective deserializer")
+    void shouldReadTheSameAccountsAsTheReflectiveDeserializer() throws Exception {
+        String json = reflective.writeValueAsString(samples());
+
+        List<Account> expected = reflective.readValue(json, new TypeReference<List<Account>>() {});
+        List<Account> actual = codec.readValue(json, new TypeReference<List<Account>>() {});
+
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    @DisplayName("Should apply standard coercions and ignore unknown properties")
+    void shouldApplyStandardCoercionsAndIgnoreUnknownProperties() throws Exception {
+        String json = "{\"extra\":{\"nested\":[1,2]},\"accountBalance\":\"250.5\",\"accountNumber\":\"12\","
+                + "\"accountHolderName\":\"Jane\",\"other\":true}";
+
+        Account account = codec.readValue(json, Account.class);
+
+        assertEquals(12L, account.getAccountNumber());
+        assertEquals("Jane", account.getAccountHolderName());
+        assertEquals(250.5, account.getAccountBalance());
+        assertEquals(reflective.readValue(json, Account.class).toString(), account.toString());
+    }
+
+    @Test
+    @DisplayName("Should honour FAIL_ON_UNKNOWN_PROPERTIES")
+    void shouldHonourFailOnUnknownProperties() {
+        ObjectMapper strict = codec.copy().enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        assertThrows(UnrecognizedPropertyException.class,
+                () -> strict.readValue("{ \"invalid\": \"json\" }", Account.class));
+    }
+}
@@ -0,0 +1,108 @@
+package bank.app.BankManagementApp.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong();
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter("test", 20, 4, 100, now::get);
+    }
+
+    // Runs one 100 ms window with the limiter saturated and every request taking rttMillis
+    private void saturatedWindow(long rttMillis) {
+        int slots = limiter.getLimit();
+        for (int i = 0; i < slots; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        now.addAndGet(100 * MILLI);
+        for (int i = 0; i < slots; i++) {
+            limiter.release(rttMillis * MILLI);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject requests beyond the limit and admit again after a release")
+    void shouldRejectRequestsBeyondTheLimitAndAdmitAgainAfterARelease() {
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1, limiter.getRejected());
+
+        limiter.release(MILLI);
+        assertTrue(limiter.tryAcquire());
+        assertEquals(20, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while saturated with steady latency")
+    void shouldGrowTheLimitWhileSaturatedWithSteadyLatency() {
+        for (int i = 0; i < 10; i++) {
+            saturatedWindow(10);
+        }
+
+        assertTrue(limiter.getLimit() > 20, "limit was " + limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit towards the minimum when latency climbs")
+    void shouldShrinkTheLimitTowardsTheMinimumWhenLatencyClimbs() {
+        for (int i = 0; i < 5; i++) {
+            saturatedWindow(10);
+        }
+        int healthy = limiter.getLimit();
+
+        for (int i = 0; i < 30; i++) {
+            saturatedWindow(200);
+        }
+
+        assertTrue(limiter.getLimit() < healthy / 2, "limit was " + limiter.getLimit());
+        assertTrue(limiter.getLimit() >= 4);
+    }
+
+    @Test
+    @DisplayName("Should at least halve the limit within two overloaded windows")
+    void shouldAtLeastHalveTheLimitWithinTwoOverloadedWindows() {
+        for (int i = 0; i < 5; i++) {
+            saturatedWindow(10);
+        }
+        int healthy = limiter.getLimit();
+
+        // The first window still averages in fast samples released after the previous one closed
+        saturatedWindow(200);
+        saturatedWindow(200);
+
+        assertTrue(limiter.getLimit() <= healthy / 2 + 1, "limit was " + limiter.getLimit() + ", from " + healthy);
+    }
+
+    @Test
+    @DisplayName("Should not grow the limit when demand stays well below it")
+    void shouldNotGrowTheLimitWhenDemandStaysWellBelowIt() {
+        for (int window = 0; window < 10; window++) {
+            for (int i = 0; i < 10; i++) {
+                assertTrue(limiter.tryAcquire());
+                limiter.release(MILLI);
+            }
+            now.addAndGet(100 * MILLI);
+            assertTrue(limiter.tryAcquire());
+            limiter.release(MILLI);
+        }
+
+        assertEquals(20, limiter.getLimit());
+    }
+}
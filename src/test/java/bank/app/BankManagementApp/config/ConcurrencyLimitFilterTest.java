@@ -0,0 +1,127 @@
+package bank.app.BankManagementApp.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcurrencyLimitFilter Tests")
+public class ConcurrencyLimitFilterTest {
+
+    private RecordingLimiter mutations;
+    private AdaptiveConcurrencyLimiter reads;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        mutations = new RecordingLimiter();
+        reads = new AdaptiveConcurrencyLimiter("reads", 1, 1, 10);
+        filter = new ConcurrencyLimitFilter(true, 2, mutations, reads);
+    }
+
+    // Keeps the latencies fed into the limit
+    private static class RecordingLimiter extends AdaptiveConcurrencyLimiter {
+
+        final List<Long> samples = new ArrayList<>();
+
+        RecordingLimiter() {
+            super("mutations", 1, 1, 10);
+        }
+
+        @Override
+        public void release(long rttNanos) {
+            samples.add(rttNanos);
+            super.release(rttNanos);
+        }
+    }
+
+    private MockHttpServletResponse perform(String method, String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    @DisplayName("Should return 503 with Retry-After when mutations are saturated")
+    void shouldReturn503WithRetryAfterWhenMutationsAreSaturated() throws Exception {
+        assertTrue(mutations.tryAcquire());
+
+        MockHttpServletResponse response = perform("PUT", "/account/deposit/1/100");
+
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertEquals(1, mutations.getRejected());
+    }
+
+    @Test
+    @DisplayName("Should keep serving reads while mutations are saturated")
+    void shouldKeepServingReadsWhileMutationsAreSaturated() throws Exception {
+        assertTrue(mutations.tryAcquire());
+
+        MockHttpServletResponse response = perform("GET", "/account/1");
+
+        assertEquals(200, response.getStatus());
+        assertEquals(0, reads.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should count the POST multi-get as a read")
+    void shouldCountThePostMultiGetAsARead() throws Exception {
+        assertTrue(mutations.tryAcquire());
+
+        assertEquals(200, perform("POST", "/account/batch").getStatus());
+        assertEquals(0, mutations.getRejected());
+    }
+
+    @Test
+    @DisplayName("Should count the POST multi-get as a read under a context path")
+    void shouldCountThePostMultiGetAsAReadUnderAContextPath() throws Exception {
+        assertTrue(mutations.tryAcquire());
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/bank/account/batch");
+        request.setContextPath("/bank");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals(200, response.getStatus());
+        assertEquals(0, mutations.getRejected());
+    }
+
+    @Test
+    @DisplayName("Should release the slot after the request completes")
+    void shouldReleaseTheSlotAfterTheRequestCompletes() throws Exception {
+        assertEquals(200, perform("PUT", "/account/withdraw/1/100").getStatus());
+        assertEquals(200, perform("DELETE", "/account/delete/1").getStatus());
+
+        assertEquals(0, mutations.getInFlight());
+        assertEquals(0, mutations.getRejected());
+    }
+
+    @Test
+    @DisplayName("Should hold a slot for bulk closes without sampling their latency")
+    void shouldHoldASlotForBulkClosesWithoutSamplingTheirLatency() throws Exception {
+        assertEquals(200, perform("PUT", "/account/deposit/1/100").getStatus());
+
+        assertEquals(200, perform("POST", "/account/delete/bulk").getStatus());
+
+        assertEquals(1, mutations.samples.size());
+        assertEquals(0, mutations.getInFlight());
+        assertTrue(mutations.tryAcquire());
+        assertEquals(503, perform("POST", "/account/delete/bulk").getStatus());
+    }
+
+    @Test
+    @DisplayName("Should not limit requests outside the account API")
+    void shouldNotLimitRequestsOutsideTheAccountApi() throws Exception {
+        assertTrue(mutations.tryAcquire());
+
+        assertEquals(200, perform("POST", "/batch/interest/2026-09").getStatus());
+    }
+}
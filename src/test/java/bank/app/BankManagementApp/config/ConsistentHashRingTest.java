@@ -0,0 +1,95 @@
+package bank.app.BankManagementApp.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConsistentHashRing Tests")
+public class ConsistentHashRingTest {
+
+    private static final int ACCOUNTS = 30_000;
+
+    private static Map<String, Integer> ownerCounts(ConsistentHashRing ring) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (long accountNumber = 1; accountNumber <= ACCOUNTS; accountNumber++) {
+            counts.merge(ring.ownerOf(accountNumber * 10), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    @Test
+    @DisplayName("Should own nothing when empty")
+    void shouldOwnNothingWhenEmpty() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(), 128);
+
+        assertTrue(ring.isEmpty());
+        assertNull(ring.ownerOf(18L));
+    }
+
+    @Test
+    @DisplayName("Should give every instance the same owner regardless of member order")
+    void shouldBeDeterministic() {
+        ConsistentHashRing first = new ConsistentHashRing(List.of("a", "b", "c"), 128);
+        ConsistentHashRing second = new ConsistentHashRing(List.of("c", "a", "b"), 128);
+
+        for (long accountNumber = 1; accountNumber <= 1_000; accountNumber++) {
+            assertEquals(first.ownerOf(accountNumber), second.ownerOf(accountNumber));
+        }
+    }
+
+    @Test
+    @DisplayName("Should spread accounts evenly over the members")
+    void shouldSpreadAccountsEvenly() {
+        // When
+        Map<String, Integer> counts = ownerCounts(new ConsistentHashRing(List.of("a", "b", "c", "d"), 128));
+
+        // Then - each member within 25% of a fair share
+        assertEquals(4, counts.size());
+        counts.values().forEach(count -> assertTrue(Math.abs(count - ACCOUNTS / 4) < ACCOUNTS / 16,
+                "Unbalanced ring: " + counts));
+    }
+
+    @Test
+    @DisplayName("Should move only the departing member's accounts when a member leaves")
+    void shouldMoveOnlyTheDepartingMembersAccounts() {
+        // Given
+        ConsistentHashRing before = new ConsistentHashRing(List.of("a", "b", "c", "d"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("a", "b", "c"), 128);
+
+        // Then
+        for (long accountNumber = 1; accountNumber <= ACCOUNTS; accountNumber++) {
+            String owner = before.ownerOf(accountNumber * 10);
+            if (!owner.equals("d")) {
+                assertEquals(owner, after.ownerOf(accountNumber * 10));
+            } else {
+                assertNotEquals("d", after.ownerOf(accountNumber * 10));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should take about a fair share when a member joins")
+    void shouldTakeAboutAFairShareWhenAMemberJoins() {
+        // Given
+        ConsistentHashRing before = new ConsistentHashRing(List.of("a", "b", "c"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("a", "b", "c", "d"), 128);
+
+        // When
+        int moved = 0;
+        for (long accountNumber = 1; accountNumber <= ACCOUNTS; accountNumber++) {
+            String owner = after.ownerOf(accountNumber * 10);
+            if (!owner.equals(before.ownerOf(accountNumber * 10))) {
+                assertEquals("d", owner);
+                moved++;
+            }
+        }
+
+        // Then
+        assertTrue(Math.abs(moved - ACCOUNTS / 4) < ACCOUNTS / 16, "Moved " + moved);
+    }
+}
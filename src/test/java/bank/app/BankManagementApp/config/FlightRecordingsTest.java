@@ -0,0 +1,188 @@
+package bank.app.BankManagementApp.config;
+
+import bank.app.BankManagementApp.service.AccountOperationEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FlightRecordings Tests")
+public class FlightRecordingsTest {
+
+    @TempDir
+    Path directory;
+
+    private FlightRecordings flightRecordings;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // SLO: 3 requests slower than 100 ms within a minute, then a one-hour cooldown
+        flightRecordings = new FlightRecordings(100, 3, 60_000, 3_600_000);
+        ReflectionTestUtils.setField(flightRecordings, "directory", directory);
+        ReflectionTestUtils.setField(flightRecordings, "settings", "default");
+        ReflectionTestUtils.setField(flightRecordings, "defaultDurationSeconds", 60L);
+        ReflectionTestUtils.setField(flightRecordings, "maxDurationSeconds", 300L);
+        ReflectionTestUtils.setField(flightRecordings, "maxConcurrent", 1);
+        ReflectionTestUtils.setField(flightRecordings, "maxFiles", 3);
+        ReflectionTestUtils.setField(flightRecordings, "maxAgeHours", 24L);
+        ReflectionTestUtils.setField(flightRecordings, "maxTotalMegabytes", 100L);
+        ReflectionTestUtils.setField(flightRecordings, "sloEnabled", true);
+        ReflectionTestUtils.setField(flightRecordings, "sloRecordingSeconds", 60L);
+        flightRecordings.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        flightRecordings.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should write account operation events to the recording file when stopped")
+    void shouldWriteAccountOperationEventsWhenStopped() throws Exception {
+        // Given
+        FlightRecordings.RecordingInfo started = flightRecordings.start(FlightRecordings.Trigger.MANUAL, null);
+        new AccountOperationEvent().commit();
+
+        // When
+        flightRecordings.stop(started.id());
+        Path file = awaitFile(started.file());
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("bank.AccountOperation")));
+        awaitNoRecordings();
+        assertEquals(List.of(started.file()),
+                flightRecordings.getFiles().stream().map(FlightRecordings.RecordingFile::name).toList());
+    }
+
+    @Test
+    @DisplayName("Should reject recordings beyond the concurrency limit or the maximum duration")
+    void shouldRejectRecordingsBeyondLimits() {
+        assertThrows(IllegalArgumentException.class,
+                () -> flightRecordings.start(FlightRecordings.Trigger.MANUAL, 301L));
+
+        FlightRecordings.RecordingInfo started = flightRecordings.start(FlightRecordings.Trigger.MANUAL, 60L);
+        assertThrows(IllegalStateException.class, () -> flightRecordings.start(FlightRecordings.Trigger.MANUAL, 60L));
+        assertEquals(List.of(started.id()),
+                flightRecordings.getRecordings().stream().map(FlightRecordings.RecordingInfo::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should start one recording after repeated SLO breaches and then cool down")
+    void shouldStartOneRecordingAfterRepeatedSloBreaches() throws Exception {
+        long slow = Duration.ofMillis(150).toNanos();
+
+        // Given - fast requests never count
+        for (int i = 0; i < 10; i++) {
+            flightRecordings.recordLatency(Duration.ofMillis(10).toNanos());
+        }
+        flightRecordings.recordLatency(slow);
+        flightRecordings.recordLatency(slow);
+        assertTrue(flightRecordings.getRecordings().isEmpty());
+
+        // When
+        flightRecordings.recordLatency(slow);
+
+        // Then
+        List<FlightRecordings.RecordingInfo> recordings = awaitRecordings(1);
+        assertEquals(FlightRecordings.Trigger.SLO, recordings.get(0).trigger());
+
+        // And - further breaches during the cooldown do not start another, even once the first has finished
+        flightRecordings.stop(recordings.get(0).id());
+        awaitNoRecordings();
+        for (int i = 0; i < 5; i++) {
+            flightRecordings.recordLatency(slow);
+        }
+        assertTrue(flightRecordings.getRecordings().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not start the SLO cooldown when the recording could not be started")
+    void shouldNotStartTheSloCooldownWhenTheRecordingCouldNotBeStarted() throws Exception {
+        long slow = Duration.ofMillis(150).toNanos();
+
+        // Given - the only recording slot is taken when the SLO is breached
+        FlightRecordings.RecordingInfo manual = flightRecordings.start(FlightRecordings.Trigger.MANUAL, 60L);
+        for (int i = 0; i < 3; i++) {
+            flightRecordings.recordLatency(slow);
+        }
+        flightRecordings.stop(manual.id());
+        awaitNoRecordings();
+
+        // When
+        flightRecordings.recordLatency(slow);
+
+        // Then
+        assertEquals(FlightRecordings.Trigger.SLO, awaitRecordings(1).get(0).trigger());
+    }
+
+    @Test
+    @DisplayName("Should delete the oldest files beyond the count limit and files past the age limit")
+    void shouldEnforceRetention() throws Exception {
+        // Given
+        Instant now = Instant.now();
+        for (int i = 0; i < 5; i++) {
+            Path file = Files.writeString(directory.resolve("bank-manual-" + i + ".jfr"), "x");
+            Files.setLastModifiedTime(file, FileTime.from(now.minus(Duration.ofMinutes(i))));
+        }
+        Path expired = Files.writeString(directory.resolve("bank-slo-old.jfr"), "x");
+        Files.setLastModifiedTime(expired, FileTime.from(now.minus(Duration.ofHours(25))));
+        Path unrelated = Files.writeString(directory.resolve("notes.txt"), "x");
+
+        // When
+        flightRecordings.enforceRetention();
+
+        // Then
+        assertEquals(List.of("bank-manual-0.jfr", "bank-manual-1.jfr", "bank-manual-2.jfr"),
+                flightRecordings.getFiles().stream().map(FlightRecordings.RecordingFile::name).toList());
+        assertTrue(Files.exists(unrelated));
+    }
+
+    @Test
+    @DisplayName("Should only serve recording files from its directory")
+    void shouldOnlyServeRecordingFiles() throws Exception {
+        Files.writeString(directory.resolve("bank-manual-1.jfr"), "x");
+
+        assertEquals(directory.resolve("bank-manual-1.jfr"), flightRecordings.getFile("bank-manual-1.jfr"));
+        assertThrows(RuntimeException.class, () -> flightRecordings.getFile("../bank-manual-1.jfr"));
+        assertThrows(RuntimeException.class, () -> flightRecordings.getFile("missing.jfr"));
+    }
+
+    private Path awaitFile(String name) throws InterruptedException {
+        Path file = directory.resolve(name);
+        for (int i = 0; i < 100 && !Files.exists(file); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(Files.exists(file), "recording file was not written");
+        return file;
+    }
+
+    private List<FlightRecordings.RecordingInfo> awaitRecordings(int count) throws InterruptedException {
+        for (int i = 0; i < 100 && flightRecordings.getRecordings().size() < count; i++) {
+            Thread.sleep(50);
+        }
+        List<FlightRecordings.RecordingInfo> recordings = flightRecordings.getRecordings();
+        assertEquals(count, recordings.size());
+        return recordings;
+    }
+
+    private void awaitNoRecordings() throws InterruptedException {
+        for (int i = 0; i < 100 && !flightRecordings.getRecordings().isEmpty(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(flightRecordings.getRecordings().isEmpty());
+    }
+}
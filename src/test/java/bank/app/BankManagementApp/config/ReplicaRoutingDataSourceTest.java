@@ -0,0 +1,99 @@
+package bank.app.BankManagementApp.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReplicaRoutingDataSource Tests")
+public class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private DataSource brokenReplica;
+
+    private static DataSource h2(String name, String label) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists node (name varchar(20))");
+        jdbc.update("delete from node");
+        jdbc.update("insert into node values (?)", label);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing-primary", "primary");
+        replica = h2("routing-replica", "replica");
+        // IFEXISTS makes connections to a never-created database fail, like an unreachable host
+        brokenReplica = new DriverManagerDataSource("jdbc:h2:mem:routing-missing;IFEXISTS=TRUE", "sa", "");
+    }
+
+    private static String whoAnswers(DataSource routing, boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> new JdbcTemplate(routing).queryForObject("select name from node", String.class));
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to replicas and writes to the primary")
+    void shouldSendReadOnlyTransactionsToReplicasAndWritesToThePrimary() {
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, List.of(replica), 1));
+
+        assertEquals("replica", whoAnswers(routing, true));
+        assertEquals("primary", whoAnswers(routing, false));
+        assertEquals("primary", new JdbcTemplate(routing).queryForObject("select name from node", String.class));
+    }
+
+    @Test
+    @DisplayName("Should pin reads to the primary while a read-your-writes pin is held")
+    void shouldPinReadsToThePrimaryWhileAReadYourWritesPinIsHeld() {
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, List.of(replica), 1));
+
+        Boolean previous = ReplicaRoutingDataSource.pinToPrimary();
+        try {
+            assertEquals("primary", whoAnswers(routing, true));
+        } finally {
+            ReplicaRoutingDataSource.unpin(previous);
+        }
+        assertEquals("replica", whoAnswers(routing, true));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when a replica is unreachable")
+    void shouldFallBackToThePrimaryWhenAReplicaIsUnreachable() {
+        ReplicaRoutingDataSource target = new ReplicaRoutingDataSource(primary, List.of(brokenReplica), 1);
+        DataSource routing = new LazyConnectionDataSourceProxy(target);
+
+        assertEquals("primary", whoAnswers(routing, true));
+        assertFalse(target.isHealthy("replica-0"));
+        assertEquals("primary", whoAnswers(routing, true));
+    }
+
+    @Test
+    @DisplayName("Should skip replicas failing the health check and restore them when they recover")
+    void shouldSkipReplicasFailingTheHealthCheckAndRestoreThemWhenTheyRecover() {
+        ReplicaRoutingDataSource target = new ReplicaRoutingDataSource(primary, List.of(brokenReplica, replica), 1);
+        DataSource routing = new LazyConnectionDataSourceProxy(target);
+
+        target.checkReplicas();
+        assertFalse(target.isHealthy("replica-0"));
+        assertTrue(target.isHealthy("replica-1"));
+        for (int i = 0; i < 4; i++) {
+            assertEquals("replica", whoAnswers(routing, true));
+        }
+
+        h2("routing-missing", "recovered");
+        target.checkReplicas();
+        assertTrue(target.isHealthy("replica-0"));
+    }
+}
@@ -0,0 +1,77 @@
+package bank.app.BankManagementApp.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequestTimeline Tests")
+public class RequestTimelineTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimeline timeline = RequestTimeline.current();
+        if (timeline != null) {
+            timeline.end();
+        }
+    }
+
+    @Test
+    @DisplayName("Should only be current between begin and end")
+    void shouldOnlyBeCurrentBetweenBeginAndEnd() {
+        assertNull(RequestTimeline.current());
+
+        RequestTimeline timeline = RequestTimeline.begin(8);
+        assertSame(timeline, RequestTimeline.current());
+
+        timeline.end();
+        assertNull(RequestTimeline.current());
+    }
+
+    @Test
+    @DisplayName("Should list spans in start order")
+    void shouldListSpansInStartOrder() {
+        // Given - the service span ends, and is recorded, after the SQL inside it
+        RequestTimeline timeline = RequestTimeline.begin(8);
+        long serviceStarted = System.nanoTime();
+        long sqlStarted = System.nanoTime();
+        timeline.record(RequestTimeline.Kind.SQL, "select 1", sqlStarted);
+        timeline.record(RequestTimeline.Kind.SERVICE, "AccountServiceImpl.depositAmount", serviceStarted);
+
+        // When
+        List<RequestTimeline.Span> spans = timeline.spans();
+
+        // Then
+        assertEquals(List.of(RequestTimeline.Kind.SERVICE, RequestTimeline.Kind.SQL),
+                spans.stream().map(RequestTimeline.Span::kind).toList());
+        assertTrue(spans.get(0).durationMillis() >= spans.get(1).durationMillis());
+    }
+
+    @Test
+    @DisplayName("Should count spans beyond the limit instead of recording them")
+    void shouldCountSpansBeyondTheLimit() {
+        RequestTimeline timeline = RequestTimeline.begin(2);
+        for (int i = 0; i < 5; i++) {
+            timeline.record(RequestTimeline.Kind.SQL, "select " + i, System.nanoTime());
+        }
+
+        assertEquals(2, timeline.spans().size());
+        assertEquals(3, timeline.dropped());
+    }
+
+    @Test
+    @DisplayName("Should start empty when reused for the next request")
+    void shouldStartEmptyWhenReused() {
+        RequestTimeline first = RequestTimeline.begin(4);
+        first.record(RequestTimeline.Kind.SQL, "select 1", System.nanoTime());
+        first.end();
+
+        RequestTimeline second = RequestTimeline.begin(4);
+
+        assertSame(first, second);
+        assertTrue(second.spans().isEmpty());
+    }
+}
@@ -0,0 +1,81 @@
+package bank.app.BankManagementApp.controller;
+
+import bank.app.BankManagementApp.entity.AccountCommand;
+import bank.app.BankManagementApp.service.AccountCommandService;
+import bank.app.BankManagementApp.service.CommandQueueFullException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AccountCommandController.class)
+@DisplayName("AccountCommandController Tests")
+public class AccountCommandControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AccountCommandService accountCommandService;
+
+    private AccountCommand command(AccountCommand.Type type) {
+        AccountCommand command = new AccountCommand(type, 18L, 100.0, Instant.parse("2026-10-01T00:00:00Z"));
+        ReflectionTestUtils.setField(command, "id", 42L);
+        return command;
+    }
+
+    @Test
+    @DisplayName("Should accept a deposit with 202 and the operation location")
+    void shouldAcceptADepositWith202AndTheOperationLocation() throws Exception {
+        // Given
+        when(accountCommandService.enqueue(AccountCommand.Type.DEPOSIT, 18L, 100.0))
+                .thenReturn(command(AccountCommand.Type.DEPOSIT));
+
+        // When & Then
+        mockMvc.perform(put("/account/async/deposit/{accountNumber}/{amount}", 18L, 100.0))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/account/async/operations/42"))
+                .andExpect(jsonPath("$.id").value(42))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("Should return 503 when the command queue is full")
+    void shouldReturn503WhenTheCommandQueueIsFull() throws Exception {
+        // Given
+        when(accountCommandService.enqueue(AccountCommand.Type.WITHDRAW, 18L, 100.0))
+                .thenThrow(new CommandQueueFullException("Command queue is full"));
+
+        // When & Then
+        mockMvc.perform(put("/account/async/withdraw/{accountNumber}/{amount}", 18L, 100.0))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("Should report the operation outcome")
+    void shouldReportTheOperationOutcome() throws Exception {
+        // Given
+        AccountCommand done = command(AccountCommand.Type.WITHDRAW);
+        done.succeeded(900.0, Instant.parse("2026-10-01T00:00:01Z"));
+        when(accountCommandService.getCommand(42L)).thenReturn(Optional.of(done));
+        when(accountCommandService.getCommand(43L)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/account/async/operations/{operationId}", 42L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.balance").value(900.0));
+        mockMvc.perform(get("/account/async/operations/{operationId}", 43L))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,8 +1,13 @@
 package bank.app.BankManagementApp.controller;
 
+import bank.app.BankManagementApp.config.AccountProtobufHttpMessageConverter;
 import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.entity.ArchivedAccount;
+import bank.app.BankManagementApp.service.AccountBatchResult;
 import bank.app.BankManagementApp.service.AccountService;
+import bank.app.BankManagementApp.service.BulkCloseResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -12,12 +17,15 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -41,7 +49,7 @@ public class AccountControllerTest {
     @BeforeEach
     void setUp() {
         testAccount = new Account("John Doe", 5000.0);
-        testAccount.setAccountNumber(1L);
+        testAccount.setAccountNumber(18L);
         
         testAccounts = Arrays.asList(
             new Account("John Doe", 5000.0),
@@ -62,7 +70,7 @@ public class AccountControllerTest {
                 .content(objectMapper.writeValueAsString(inputAccount)))
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.accountNumber").value(1))
+                .andExpect(jsonPath("$.accountNumber").value(18))
                 .andExpect(jsonPath("$.accountHolderName").value("John Doe"))
                 .andExpect(jsonPath("$.accountBalance").value(5000.0));
 
@@ -86,7 +94,7 @@ public class AccountControllerTest {
     @DisplayName("Should get account by ID successfully")
     void shouldGetAccountByIdSuccessfully() throws Exception {
         // Given
-        Long accountNumber = 1L;
+        Long accountNumber = 18L;
         when(accountService.getAccountDetailsByAccountNumber(accountNumber)).thenReturn(testAccount);
 
         // When & Then
@@ -94,7 +102,7 @@ public class AccountControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.accountNumber").value(1))
+                .andExpect(jsonPath("$.accountNumber").value(18))
                 .andExpect(jsonPath("$.accountHolderName").value("John Doe"))
                 .andExpect(jsonPath("$.accountBalance").value(5000.0));
 
@@ -105,7 +113,7 @@ public class AccountControllerTest {
     @DisplayName("Should return internal server error when account not found")
     void shouldReturnInternalServerErrorWhenAccountNotFound() throws Exception {
         // Given
-        Long accountNumber = 999L;
+        Long accountNumber = 9993L;
         when(accountService.getAccountDetailsByAccountNumber(accountNumber))
                 .thenThrow(new RuntimeException("Account not found"));
 
@@ -157,10 +165,10 @@ public class AccountControllerTest {
     @DisplayName("Should deposit amount successfully")
     void shouldDepositAmountSuccessfully() throws Exception {
         // Given
-        Long accountNumber = 1L;
+        Long accountNumber = 18L;
         Double depositAmount = 1000.0;
         Account updatedAccount = new Account("John Doe", 6000.0);
-        updatedAccount.setAccountNumber(1L);
+        updatedAccount.setAccountNumber(18L);
         
         when(accountService.depositAmount(accountNumber, depositAmount)).thenReturn(updatedAccount);
 
@@ -169,7 +177,7 @@ public class AccountControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.accountNumber").value(1))
+                .andExpect(jsonPath("$.accountNumber").value(18))
                 .andExpect(jsonPath("$.accountBalance").value(6000.0));
 
         verify(accountService, times(1)).depositAmount(accountNumber, depositAmount);
@@ -179,7 +187,7 @@ public class AccountControllerTest {
     @DisplayName("Should return internal server error when depositing to non-existent account")
     void shouldReturnInternalServerErrorWhenDepositingToNonExistentAccount() throws Exception {
         // Given
-        Long accountNumber = 999L;
+        Long accountNumber = 9993L;
         Double depositAmount = 1000.0;
         when(accountService.depositAmount(accountNumber, depositAmount))
                 .thenThrow(new RuntimeException("Account not found"));
@@ -196,10 +204,10 @@ public class AccountControllerTest {
     @DisplayName("Should withdraw amount successfully")
     void shouldWithdrawAmountSuccessfully() throws Exception {
         // Given
-        Long accountNumber = 1L;
+        Long accountNumber = 18L;
         Double withdrawAmount = 1000.0;
         Account updatedAccount = new Account("John Doe", 4000.0);
-        updatedAccount.setAccountNumber(1L);
+        updatedAccount.setAccountNumber(18L);
         
         when(accountService.withdrawAmount(accountNumber, withdrawAmount)).thenReturn(updatedAccount);
 
@@ -208,7 +216,7 @@ public class AccountControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.accountNumber").value(1))
+                .andExpect(jsonPath("$.accountNumber").value(18))
                 .andExpect(jsonPath("$.accountBalance").value(4000.0));
 
         verify(accountService, times(1)).withdrawAmount(accountNumber, withdrawAmount);
@@ -218,7 +226,7 @@ public class AccountControllerTest {
     @DisplayName("Should return internal server error when withdrawing from non-existent account")
     void shouldReturnInternalServerErrorWhenWithdrawingFromNonExistentAccount() throws Exception {
         // Given
-        Long accountNumber = 999L;
+        Long accountNumber = 9993L;
         Double withdrawAmount = 1000.0;
         when(accountService.withdrawAmount(accountNumber, withdrawAmount))
                 .thenThrow(new RuntimeException("Account not found"));
@@ -235,7 +243,7 @@ public class AccountControllerTest {
     @DisplayName("Should delete account successfully")
     void shouldDeleteAccountSuccessfully() throws Exception {
         // Given
-        Long accountNumber = 1L;
+        Long accountNumber = 18L;
         doNothing().when(accountService).closeAccount(accountNumber);
 
         // When & Then
@@ -251,7 +259,7 @@ public class AccountControllerTest {
     @DisplayName("Should return internal server error when deleting non-existent account")
     void shouldReturnInternalServerErrorWhenDeletingNonExistentAccount() throws Exception {
         // Given
-        Long accountNumber = 999L;
+        Long accountNumber = 9993L;
         doThrow(new RuntimeException("Account not found")).when(accountService).closeAccount(accountNumber);
 
         // When & Then
@@ -262,11 +270,81 @@ public class AccountControllerTest {
         verify(accountService, times(1)).closeAccount(accountNumber);
     }
 
+    @Test
+    @DisplayName("Should return a closed account from the archive")
+    void shouldReturnAClosedAccountFromTheArchive() throws Exception {
+        // Given
+        when(accountService.getArchivedAccount(18L))
+                .thenReturn(new ArchivedAccount(18L, "John Doe", 0.0, Instant.parse("2024-03-01T10:15:30Z")));
+
+        // When & Then
+        mockMvc.perform(get("/account/archive/18"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountNumber").value(18))
+                .andExpect(jsonPath("$.accountHolderName").value("John Doe"))
+                .andExpect(jsonPath("$.closedAt").value("2024-03-01T10:15:30Z"));
+
+        verify(accountService, times(1)).getArchivedAccount(18L);
+    }
+
+    @Test
+    @DisplayName("Should close accounts in bulk")
+    void shouldCloseAccountsInBulk() throws Exception {
+        // Given
+        when(accountService.closeAccounts(List.of(18L, 26L, 34L))).thenReturn(new BulkCloseResult(3, 2, List.of(26L)));
+
+        // When & Then
+        mockMvc.perform(post("/account/delete/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[18, 26, 34]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.closed").value(2))
+                .andExpect(jsonPath("$.notFound[0]").value(26));
+
+        verify(accountService, times(1)).closeAccounts(List.of(18L, 26L, 34L));
+    }
+
+    @Test
+    @DisplayName("Should return several accounts in one request")
+    void shouldReturnSeveralAccountsInOneRequest() throws Exception {
+        // Given
+        testAccount.setAccountNumber(26L);
+        when(accountService.getAccountsByAccountNumbers(List.of(26L, 91L)))
+                .thenReturn(new AccountBatchResult(List.of(testAccount), List.of(91L)));
+
+        // When & Then
+        mockMvc.perform(get("/account/batch").param("ids", "26,91"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts[0].accountNumber").value(26))
+                .andExpect(jsonPath("$.notFound[0]").value(91));
+
+        mockMvc.perform(post("/account/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[26, 91]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts[0].accountHolderName").value("John Doe"));
+
+        verify(accountService, times(2)).getAccountsByAccountNumbers(List.of(26L, 91L));
+    }
+
+    @Test
+    @DisplayName("Should return bad request when a multi-get is too large")
+    void shouldReturnBadRequestWhenAMultiGetIsTooLarge() throws Exception {
+        // Given
+        when(accountService.getAccountsByAccountNumbers(anyList()))
+                .thenThrow(new IllegalArgumentException("At most 1000 account numbers per request"));
+
+        // When & Then
+        mockMvc.perform(get("/account/batch").param("ids", "1,2"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should handle deposit with zero amount")
     void shouldHandleDepositWithZeroAmount() throws Exception {
         // Given
-        Long accountNumber = 1L;
+        Long accountNumber = 18L;
         Double depositAmount = 0.0;
         when(accountService.depositAmount(accountNumber, depositAmount)).thenReturn(testAccount);
 
@@ -284,7 +362,7 @@ public class AccountControllerTest {
     @DisplayName("Should handle withdrawal with zero amount")
     void shouldHandleWithdrawalWithZeroAmount() throws Exception {
         // Given
-        Long accountNumber = 1L;
+        Long accountNumber = 18L;
         Double withdrawAmount = 0.0;
         when(accountService.withdrawAmount(accountNumber, withdrawAmount)).thenReturn(testAccount);
 
@@ -311,14 +389,39 @@ public class AccountControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("Should reject account numbers with a wrong check digit before calling the service")
+    void shouldRejectAccountNumbersWithAWrongCheckDigitBeforeCallingTheService() throws Exception {
+        mockMvc.perform(get("/account/{accountNumber}", 19L))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/account/withdraw/{accountNumber}/{amount}", 1L, 100.0))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(accountService);
+    }
+
+    @Test
+    @DisplayName("Should report malformed account numbers in a multi-get as not found")
+    void shouldReportMalformedAccountNumbersInAMultiGetAsNotFound() throws Exception {
+        // Given
+        when(accountService.getAccountsByAccountNumbers(List.of(18L)))
+                .thenReturn(new AccountBatchResult(List.of(testAccount), List.of()));
+
+        // When & Then
+        mockMvc.perform(get("/account/batch").param("ids", "18,19"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts[0].accountNumber").value(18))
+                .andExpect(jsonPath("$.notFound[0]").value(19));
+    }
+
     @Test
     @DisplayName("Should handle negative amounts in deposit")
     void shouldHandleNegativeAmountsInDeposit() throws Exception {
         // Given
-        Long accountNumber = 1L;
+        Long accountNumber = 18L;
         Double negativeAmount = -1000.0;
         Account updatedAccount = new Account("John Doe", 4000.0); // 5000 + (-1000) = 4000
-        updatedAccount.setAccountNumber(1L);
+        updatedAccount.setAccountNumber(18L);
         
         when(accountService.depositAmount(accountNumber, negativeAmount)).thenReturn(updatedAccount);
 
@@ -331,4 +434,95 @@ public class AccountControllerTest {
 
         verify(accountService, times(1)).depositAmount(accountNumber, negativeAmount);
     }
+
+    @Test
+    @DisplayName("Should serve account as CBOR when requested")
+    void shouldServeAccountAsCborWhenRequested() throws Exception {
+        // Given
+        when(accountService.getAccountDetailsByAccountNumber(18L)).thenReturn(testAccount);
+
+        // When
+        byte[] body = mockMvc.perform(get("/account/{accountNumber}", 18L)
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        Account decoded = new CBORMapper().readValue(body, Account.class);
+        assertEquals(18L, decoded.getAccountNumber());
+        assertEquals("John Doe", decoded.getAccountHolderName());
+        assertEquals(5000.0, decoded.getAccountBalance());
+    }
+
+    @Test
+    @DisplayName("Should serve account and account list as protobuf when requested")
+    void shouldServeAccountAndAccountListAsProtobufWhenRequested() throws Exception {
+        // Given
+        AccountProtobufHttpMessageConverter protobuf = new AccountProtobufHttpMessageConverter();
+        when(accountService.getAccountDetailsByAccountNumber(18L)).thenReturn(testAccount);
+        when(accountService.getAllAccounts()).thenReturn(testAccounts);
+
+        // When & Then
+        mockMvc.perform(get("/account/{accountNumber}", 18L)
+                .accept(AccountProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(AccountProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF))
+                .andExpect(content().bytes(protobuf.toBytes(testAccount)));
+
+        mockMvc.perform(get("/account/all")
+                .accept(AccountProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(protobuf.toBytes(testAccounts)));
+    }
+
+    @Test
+    @DisplayName("Should serve mutation results as protobuf when requested")
+    void shouldServeMutationResultsAsProtobufWhenRequested() throws Exception {
+        // Given
+        AccountProtobufHttpMessageConverter protobuf = new AccountProtobufHttpMessageConverter();
+        when(accountService.depositAmount(18L, 100.0)).thenReturn(testAccount);
+        when(accountService.withdrawAmount(18L, 100.0)).thenReturn(testAccount);
+
+        // When & Then
+        mockMvc.perform(put("/account/deposit/{accountNumber}/{amount}", 18L, 100.0)
+                .accept(AccountProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(AccountProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF))
+                .andExpect(content().bytes(protobuf.toBytes(testAccount)));
+
+        mockMvc.perform(put("/account/withdraw/{accountNumber}/{amount}", 18L, 100.0)
+                .accept(AccountProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(protobuf.toBytes(testAccount)));
+    }
+
+    @Test
+    @DisplayName("Should create account from protobuf request body")
+    void shouldCreateAccountFromProtobufRequestBody() throws Exception {
+        // Given
+        AccountProtobufHttpMessageConverter protobuf = new AccountProtobufHttpMessageConverter();
+        when(accountService.createAccount(any(Account.class))).thenReturn(testAccount);
+
+        // When & Then
+        mockMvc.perform(post("/account/create")
+                .contentType(AccountProtobufHttpMessageConverter.APPLICATION_X_PROTOBUF)
+                .content(protobuf.toBytes(new Account("John Doe", 5000.0))))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.accountHolderName").value("John Doe"));
+    }
+
+    @Test
+    @DisplayName("Should keep JSON as the default representation")
+    void shouldKeepJsonAsTheDefaultRepresentation() throws Exception {
+        // Given
+        when(accountService.getAccountDetailsByAccountNumber(18L)).thenReturn(testAccount);
+
+        // When & Then
+        mockMvc.perform(get("/account/{accountNumber}", 18L)
+                .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
 }
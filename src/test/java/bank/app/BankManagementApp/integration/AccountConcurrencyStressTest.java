@@ -0,0 +1,136 @@
+package bank.app.BankManagementApp.integration;
+
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import bank.app.BankManagementApp.service.AccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fires concurrent deposits and withdrawals at a handful of hot accounts and checks that every
+ * applied change is reflected in the final balances (no lost updates). Throughput is printed so
+ * concurrency or performance changes are checked for correctness and speed together.
+ */
+// Own database: the shared in-memory testdb is first opened by contexts with different credentials
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.datasource.url=jdbc:h2:mem:stressdb;LOCK_TIMEOUT=10000", "spring.jpa.show-sql=false"})
+@ActiveProfiles("test")
+@DisplayName("Account Concurrency Stress Tests")
+public class AccountConcurrencyStressTest {
+
+    private static final int ACCOUNTS = 8;
+    private static final int THREADS = 16;
+    private static final double INITIAL_BALANCE = 100_000.0;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private List<Long> accountNumbers;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.deleteAll();
+        accountNumbers = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accountNumbers.add(accountService.createAccount(new Account("Stress " + i, INITIAL_BALANCE)).getAccountNumber());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void apply(Long accountNumber, double amount) throws Exception;
+    }
+
+    @Test
+    @DisplayName("Should not lose updates under concurrent service calls")
+    void shouldNotLoseUpdatesUnderConcurrentServiceCalls() throws Exception {
+        runAndVerify("service", 500,
+                (accountNumber, amount) -> accountService.depositAmount(accountNumber, amount),
+                (accountNumber, amount) -> accountService.withdrawAmount(accountNumber, amount));
+    }
+
+    @Test
+    @DisplayName("Should not lose updates under concurrent HTTP requests")
+    void shouldNotLoseUpdatesUnderConcurrentHttpRequests() throws Exception {
+        runAndVerify("http", 125,
+                (accountNumber, amount) -> put("/account/deposit/{accountNumber}/{amount}", accountNumber, amount),
+                (accountNumber, amount) -> put("/account/withdraw/{accountNumber}/{amount}", accountNumber, amount));
+    }
+
+    private void put(String path, Long accountNumber, double amount) {
+        ResponseEntity<Account> response = restTemplate.exchange(path, HttpMethod.PUT, null, Account.class, accountNumber, amount);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    private void runAndVerify(String label, int opsPerThread, Operation deposit, Operation withdraw) throws Exception {
+        // Whole amounts keep double arithmetic exact, so balances can be compared with assertEquals
+        AtomicLongArray expectedDelta = new AtomicLongArray(ACCOUNTS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < opsPerThread; i++) {
+                    int index = random.nextInt(ACCOUNTS);
+                    long amount = 1 + random.nextInt(100);
+                    if (random.nextBoolean()) {
+                        deposit.apply(accountNumbers.get(index), amount);
+                        expectedDelta.addAndGet(index, amount);
+                    } else {
+                        withdraw.apply(accountNumbers.get(index), amount);
+                        expectedDelta.addAndGet(index, -amount);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        try {
+            for (Future<?> worker : workers) {
+                worker.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        int totalOps = THREADS * opsPerThread;
+        System.out.printf("[stress:%s] %d ops on %d accounts with %d threads in %.2f s = %.0f ops/sec%n",
+                label, totalOps, ACCOUNTS, THREADS, seconds, totalOps / seconds);
+
+        double expectedTotal = 0;
+        double actualTotal = 0;
+        for (int i = 0; i < ACCOUNTS; i++) {
+            double expected = INITIAL_BALANCE + expectedDelta.get(i);
+            double actual = accountRepository.findById(accountNumbers.get(i)).orElseThrow().getAccountBalance();
+            assertEquals(expected, actual, "Lost update on account " + accountNumbers.get(i));
+            expectedTotal += expected;
+            actualTotal += actual;
+        }
+        assertEquals(expectedTotal, actualTotal, "Money was not conserved");
+    }
+}
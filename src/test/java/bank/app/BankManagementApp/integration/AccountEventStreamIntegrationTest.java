@@ -0,0 +1,77 @@
+package bank.app.BankManagementApp.integration;
+
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.service.AccountEventBroadcaster;
+import bank.app.BankManagementApp.service.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.datasource.url=jdbc:h2:mem:eventsdb;DB_CLOSE_DELAY=-1", "spring.jpa.show-sql=false"})
+@ActiveProfiles("test")
+@DisplayName("Account Event Stream Integration Tests")
+public class AccountEventStreamIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountEventBroadcaster broadcaster;
+
+    @Test
+    @DisplayName("Should stream committed changes for the subscribed account only")
+    void shouldStreamCommittedChangesForTheSubscribedAccountOnly() throws Exception {
+        Long watched = accountService.createAccount(new Account("John Doe", 100.0)).getAccountNumber();
+        Long other = accountService.createAccount(new Account("Jane Smith", 100.0)).getAccountNumber();
+
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/account/events?accounts=" + watched)).build();
+        HttpResponse<InputStream> response = HttpClient.newHttpClient()
+                .send(request, HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElseThrow().startsWith("text/event-stream"));
+        while (broadcaster.getSubscriberCount() == 0) {
+            Thread.sleep(10);
+        }
+
+        accountService.depositAmount(other, 1.0);
+        accountService.depositAmount(watched, 50.0);
+        accountService.withdrawAmount(watched, 20.0);
+        accountService.closeAccount(watched);
+
+        List<String> events = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            String line;
+            while (events.size() < 3 && (line = reader.readLine()) != null) {
+                if (line.startsWith("data:")) {
+                    events.add(line);
+                }
+            }
+        }
+
+        assertTrue(events.get(0).contains("\"type\":\"DEPOSITED\"") && events.get(0).contains("\"balance\":150.0"));
+        assertTrue(events.get(1).contains("\"type\":\"WITHDRAWN\"") && events.get(1).contains("\"balance\":130.0"));
+        assertTrue(events.get(2).contains("\"type\":\"CLOSED\""));
+        events.forEach(event -> assertTrue(event.contains("\"accountNumber\":" + watched)));
+    }
+}
@@ -204,19 +204,19 @@ public class AccountIntegrationTest {
     @DisplayName("Should handle error scenarios gracefully")
     void shouldHandleErrorScenariosGracefully() throws Exception {
         // Try to get non-existent account
-        mockMvc.perform(get("/account/{accountNumber}", 999L))
+        mockMvc.perform(get("/account/{accountNumber}", 9993L))
                 .andExpect(status().isInternalServerError());
 
         // Try to deposit to non-existent account
-        mockMvc.perform(put("/account/deposit/{accountNumber}/{amount}", 999L, 1000.0))
+        mockMvc.perform(put("/account/deposit/{accountNumber}/{amount}", 9993L, 1000.0))
                 .andExpect(status().isInternalServerError());
 
         // Try to withdraw from non-existent account
-        mockMvc.perform(put("/account/withdraw/{accountNumber}/{amount}", 999L, 1000.0))
+        mockMvc.perform(put("/account/withdraw/{accountNumber}/{amount}", 9993L, 1000.0))
                 .andExpect(status().isInternalServerError());
 
         // Try to delete non-existent account
-        mockMvc.perform(delete("/account/delete/{accountNumber}", 999L))
+        mockMvc.perform(delete("/account/delete/{accountNumber}", 9993L))
                 .andExpect(status().isInternalServerError());
 
         // Try to create account with invalid JSON
@@ -0,0 +1,227 @@
+package bank.app.BankManagementApp.integration;
+
+import bank.app.BankManagementApp.BankManagementAppApplication;
+import bank.app.BankManagementApp.config.AccountOwnership;
+import bank.app.BankManagementApp.config.ClusterMembership;
+import bank.app.BankManagementApp.config.AdaptiveConcurrencyLimiter;
+import bank.app.BankManagementApp.config.ConcurrencyLimitFilter;
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.entity.AccountCommand;
+import bank.app.BankManagementApp.service.AccountCommandService;
+import bank.app.BankManagementApp.service.BulkCloseResult;
+import bank.app.BankManagementApp.service.AccountService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Three instances on random ports sharing one database.
+ */
+@DisplayName("Cluster Ownership Integration Tests")
+public class ClusterOwnershipIntegrationTest {
+
+    private static final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+    private final RestClient client = RestClient.create();
+
+    @BeforeAll
+    static void startNodes() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            nodes.add(new SpringApplicationBuilder(BankManagementAppApplication.class)
+                    .profiles("test")
+                    .run("--server.port=0",
+                            "--spring.datasource.url=jdbc:h2:mem:clusterring;DB_CLOSE_DELAY=-1",
+                            "--spring.jpa.hibernate.ddl-auto=update",
+                            "--spring.jpa.show-sql=false",
+                            "--bank.cluster.enabled=true",
+                            "--bank.cluster.heartbeat-interval-ms=100",
+                            "--bank.cluster.member-timeout-ms=2000"));
+        }
+        awaitTrue(() -> nodes.stream().allMatch(node -> membership(node).getMembers().size() == 3));
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    private static ClusterMembership membership(ConfigurableApplicationContext node) {
+        return node.getBean(ClusterMembership.class);
+    }
+
+    private static String url(ConfigurableApplicationContext node) {
+        return "http://localhost:" + ((WebServerApplicationContext) node).getWebServer().getPort();
+    }
+
+    private static void awaitTrue(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.get()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition not met within 10s");
+            Thread.sleep(50);
+        }
+    }
+
+    private ResponseEntity<Account> deposit(ConfigurableApplicationContext node, Long accountNumber, double amount) {
+        return client.put().uri(url(node) + "/account/deposit/" + accountNumber + "/" + amount)
+                .retrieve().toEntity(Account.class);
+    }
+
+    // The rebalancing test stops one node
+    private static List<ConfigurableApplicationContext> liveNodes() {
+        return nodes.stream().filter(ConfigurableApplicationContext::isActive).toList();
+    }
+
+    private ConfigurableApplicationContext nodeById(String nodeId) {
+        return liveNodes().stream().filter(node -> membership(node).getNodeId().equals(nodeId))
+                .findFirst().orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should apply a mutation on the owner whichever instance receives it")
+    void shouldApplyAMutationOnTheOwner() {
+        // Given
+        AccountService service = nodes.get(0).getBean(AccountService.class);
+        Long accountNumber = service.createAccount(new Account("John Doe", 100.0)).getAccountNumber();
+        String ownerId = membership(nodes.get(0)).ownerOf(accountNumber).nodeId();
+        liveNodes().forEach(node -> assertEquals(ownerId, membership(node).ownerOf(accountNumber).nodeId()));
+        ConfigurableApplicationContext owner = nodeById(ownerId);
+        ConfigurableApplicationContext other = liveNodes().stream().filter(node -> node != owner).findFirst()
+                .orElseThrow();
+        long forwardedBefore = other.getBean(AccountOwnership.class).getForwardedCount();
+
+        // When
+        ResponseEntity<Account> viaOther = deposit(other, accountNumber, 50.0);
+        ResponseEntity<Account> viaOwner = deposit(owner, accountNumber, 25.0);
+
+        // Then
+        assertEquals(150.0, viaOther.getBody().getAccountBalance());
+        assertEquals(ownerId, viaOther.getHeaders().getFirst(AccountOwnership.HANDLED_BY));
+        assertEquals(forwardedBefore + 1, other.getBean(AccountOwnership.class).getForwardedCount());
+        assertEquals(175.0, viaOwner.getBody().getAccountBalance());
+        assertNull(viaOwner.getHeaders().getFirst(AccountOwnership.HANDLED_BY));
+    }
+
+    @Test
+    @DisplayName("Should relay the owner's Retry-After when it sheds a forwarded mutation")
+    void shouldRelayTheOwnersRetryAfter() {
+        // Given - the owner's mutation limiter is saturated
+        AccountService service = nodes.get(0).getBean(AccountService.class);
+        Long accountNumber = service.createAccount(new Account("John Doe", 100.0)).getAccountNumber();
+        String ownerId = membership(nodes.get(0)).ownerOf(accountNumber).nodeId();
+        ConfigurableApplicationContext owner = nodeById(ownerId);
+        ConfigurableApplicationContext other = liveNodes().stream().filter(node -> node != owner).findFirst()
+                .orElseThrow();
+        AdaptiveConcurrencyLimiter limiter = owner.getBean(ConcurrencyLimitFilter.class).getMutationLimiter();
+        int held = 0;
+        while (limiter.tryAcquire()) {
+            held++;
+        }
+
+        // When
+        ResponseEntity<byte[]> response;
+        try {
+            response = client.put().uri(url(other) + "/account/deposit/" + accountNumber + "/50.0")
+                    .retrieve()
+                    .onStatus(status -> true, (req, res) -> { })
+                    .toEntity(byte[].class);
+        } finally {
+            for (int i = 0; i < held; i++) {
+                limiter.release(1_000_000);
+            }
+        }
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(ownerId, response.getHeaders().getFirst(AccountOwnership.HANDLED_BY));
+        assertEquals(100.0, service.getAccountDetailsByAccountNumber(accountNumber).getAccountBalance());
+    }
+
+    @Test
+    @DisplayName("Should close each owner's share of a bulk close on that owner")
+    void shouldCloseEachOwnersShareOfABulkCloseOnThatOwner() {
+        // Given - accounts owned by every live node
+        AccountService service = nodes.get(0).getBean(AccountService.class);
+        ConfigurableApplicationContext receiver = liveNodes().get(0);
+        List<Long> accountNumbers = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            accountNumbers.add(service.createAccount(new Account("Holder " + i, 10.0)).getAccountNumber());
+        }
+        long remoteOwners = accountNumbers.stream().map(n -> membership(receiver).ownerOf(n).nodeId()).distinct()
+                .filter(id -> !id.equals(membership(receiver).getNodeId())).count();
+        long forwardedBefore = receiver.getBean(AccountOwnership.class).getForwardedCount();
+
+        // When
+        BulkCloseResult result = client.post().uri(url(receiver) + "/account/delete/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(accountNumbers)
+                .retrieve().body(BulkCloseResult.class);
+
+        // Then
+        assertEquals(12, result.requested());
+        assertEquals(12, result.closed());
+        assertTrue(result.notFound().isEmpty());
+        assertEquals(forwardedBefore + remoteOwners, receiver.getBean(AccountOwnership.class).getForwardedCount());
+    }
+
+    @Test
+    @DisplayName("Should leave queued commands for other owners' accounts to those owners")
+    void shouldLeaveQueuedCommandsToTheirOwners() throws InterruptedException {
+        // Given
+        AccountService service = nodes.get(0).getBean(AccountService.class);
+        Long accountNumber = service.createAccount(new Account("John Doe", 100.0)).getAccountNumber();
+        ConfigurableApplicationContext owner = nodeById(membership(nodes.get(0)).ownerOf(accountNumber).nodeId());
+        ConfigurableApplicationContext other = liveNodes().stream().filter(node -> node != owner).findFirst()
+                .orElseThrow();
+        AccountCommandService otherCommands = other.getBean(AccountCommandService.class);
+
+        // When
+        AccountCommand command = otherCommands.enqueue(AccountCommand.Type.DEPOSIT, accountNumber, 50.0);
+
+        // Then
+        assertEquals(0, otherCommands.drain());
+        awaitTrue(() -> otherCommands.getCommand(command.getId()).orElseThrow().getStatus()
+                == AccountCommand.Status.SUCCEEDED);
+        assertEquals(150.0, service.getAccountDetailsByAccountNumber(accountNumber).getAccountBalance());
+    }
+
+    @Test
+    @DisplayName("Should hand a leaving member's accounts to the remaining members")
+    void shouldRebalanceWhenAMemberLeaves() throws InterruptedException {
+        // Given - an account owned by the last node
+        AccountService service = nodes.get(0).getBean(AccountService.class);
+        ConfigurableApplicationContext leaving = nodes.get(2);
+        String leavingId = membership(leaving).getNodeId();
+        Long accountNumber;
+        do {
+            accountNumber = service.createAccount(new Account("Jane Smith", 100.0)).getAccountNumber();
+        } while (!membership(nodes.get(0)).ownerOf(accountNumber).nodeId().equals(leavingId));
+
+        // When
+        leaving.close();
+        awaitTrue(() -> membership(nodes.get(0)).getMembers().size() == 2
+                && membership(nodes.get(1)).getMembers().size() == 2);
+
+        // Then
+        Long moved = accountNumber;
+        String newOwner = membership(nodes.get(0)).ownerOf(moved).nodeId();
+        assertNotEquals(leavingId, newOwner);
+        assertEquals(newOwner, membership(nodes.get(1)).ownerOf(moved).nodeId());
+        assertEquals(150.0, deposit(nodes.get(0), moved, 50.0).getBody().getAccountBalance());
+        assertEquals(200.0, deposit(nodes.get(1), moved, 50.0).getBody().getAccountBalance());
+    }
+}
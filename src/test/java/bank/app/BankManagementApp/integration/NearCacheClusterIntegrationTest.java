@@ -0,0 +1,156 @@
+package bank.app.BankManagementApp.integration;
+
+import bank.app.BankManagementApp.BankManagementAppApplication;
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.service.AccountNearCache;
+import bank.app.BankManagementApp.service.AccountService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two application instances in one JVM sharing a database, as in a cluster behind a load balancer.
+ */
+@DisplayName("Near Cache Cluster Integration Tests")
+public class NearCacheClusterIntegrationTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(BankManagementAppApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Arguments rather than properties(), which would lose to application-test.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:clusterdb;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.jpa.show-sql=false",
+                        "--bank.near-cache.bus=database",
+                        "--bank.near-cache.poll-interval-ms=100",
+                        // Long enough that only the bus can explain a fresh read
+                        "--bank.near-cache.ttl-ms=600000");
+    }
+
+    private static void awaitTrue(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.get()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition not met within 5s");
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the near cache")
+    void shouldServeRepeatedLookupsFromTheNearCache() {
+        // Given
+        AccountService service = nodeA.getBean(AccountService.class);
+        AccountNearCache cache = nodeA.getBean(AccountNearCache.class);
+        Long accountNumber = service.createAccount(new Account("John Doe", 100.0)).getAccountNumber();
+        service.getAccountDetailsByAccountNumber(accountNumber);
+        long hits = cache.getHits();
+
+        // When
+        Account account = service.getAccountDetailsByAccountNumber(accountNumber);
+
+        // Then
+        assertEquals(100.0, account.getAccountBalance());
+        assertEquals(hits + 1, cache.getHits());
+    }
+
+    @Test
+    @DisplayName("Should see a deposit made on another instance within the poll interval")
+    void shouldSeeADepositMadeOnAnotherInstance() throws InterruptedException {
+        // Given - node B has the account cached
+        AccountService serviceA = nodeA.getBean(AccountService.class);
+        AccountService serviceB = nodeB.getBean(AccountService.class);
+        Long accountNumber = serviceA.createAccount(new Account("Jane Smith", 100.0)).getAccountNumber();
+        assertEquals(100.0, serviceB.getAccountDetailsByAccountNumber(accountNumber).getAccountBalance());
+
+        // When
+        serviceA.depositAmount(accountNumber, 50.0);
+
+        // Then
+        awaitTrue(() -> serviceB.getAccountDetailsByAccountNumber(accountNumber).getAccountBalance() == 150.0);
+    }
+
+    @Test
+    @DisplayName("Should stop serving an account closed on another instance")
+    void shouldStopServingAnAccountClosedOnAnotherInstance() throws InterruptedException {
+        // Given
+        AccountService serviceA = nodeA.getBean(AccountService.class);
+        AccountService serviceB = nodeB.getBean(AccountService.class);
+        Long accountNumber = serviceA.createAccount(new Account("Bob Brown", 100.0)).getAccountNumber();
+        serviceB.getAccountDetailsByAccountNumber(accountNumber);
+
+        // When
+        serviceA.closeAccount(accountNumber);
+
+        // Then
+        awaitTrue(() -> serviceB.getAccountsByAccountNumbers(List.of(accountNumber)).notFound()
+                .contains(accountNumber));
+    }
+
+    @Test
+    @DisplayName("Should see its own writes immediately")
+    void shouldSeeItsOwnWritesImmediately() {
+        // Given
+        AccountService service = nodeB.getBean(AccountService.class);
+        Long accountNumber = service.createAccount(new Account("Ann Lee", 100.0)).getAccountNumber();
+        service.getAccountDetailsByAccountNumber(accountNumber);
+
+        // When
+        service.withdrawAmount(accountNumber, 30.0);
+
+        // Then
+        assertEquals(70.0, service.getAccountDetailsByAccountNumber(accountNumber).getAccountBalance());
+    }
+
+    @Test
+    @DisplayName("Should announce a bulk close with one invalidation row per account")
+    void shouldAnnounceABulkCloseWithOneInvalidationRowPerAccount() throws InterruptedException {
+        // Given - node B has every account cached
+        AccountService serviceA = nodeA.getBean(AccountService.class);
+        AccountService serviceB = nodeB.getBean(AccountService.class);
+        JdbcTemplate jdbcTemplate = nodeA.getBean(JdbcTemplate.class);
+        List<Long> accountNumbers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Long accountNumber = serviceA.createAccount(new Account("Holder " + i, 10.0)).getAccountNumber();
+            serviceB.getAccountDetailsByAccountNumber(accountNumber);
+            accountNumbers.add(accountNumber);
+        }
+
+        // When
+        serviceA.closeAccounts(accountNumbers);
+
+        // Then
+        String placeholders = String.join(",", Collections.nCopies(accountNumbers.size(), "?"));
+        assertEquals(accountNumbers.size(), jdbcTemplate.queryForObject(
+                "select count(*) from cache_invalidation where account_number in (" + placeholders + ")",
+                Integer.class, accountNumbers.toArray()));
+        awaitTrue(() -> serviceB.getAccountsByAccountNumbers(accountNumbers).notFound().size() == accountNumbers.size());
+    }
+}
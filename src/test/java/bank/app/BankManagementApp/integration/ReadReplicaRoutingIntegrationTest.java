@@ -0,0 +1,70 @@
+package bank.app.BankManagementApp.integration;
+
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.service.AccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two local H2 databases stand in for primary and replica. Replication is simulated by writing
+ * to the replica directly, so each read shows which database answered it.
+ */
+@SpringBootTest(properties = {
+        "bank.datasource.routing.enabled=true",
+        "bank.datasource.routing.sticky-window-ms=300",
+        "spring.datasource.url=jdbc:h2:mem:rw-primary;DB_CLOSE_DELAY=-1",
+        "bank.datasource.replica-urls=jdbc:h2:mem:rw-replica;DB_CLOSE_DELAY=-1",
+        // Every lookup must reach a data source for the routing to be observable
+        "bank.near-cache.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("Read Replica Routing Integration Tests")
+public class ReadReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    private final JdbcTemplate replica = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:rw-replica;DB_CLOSE_DELAY=-1", "sa", "password"));
+
+    @BeforeEach
+    void setUp() {
+        replica.execute("create table if not exists account (account_number bigint primary key, "
+                + "account_holder_name varchar(255), account_balance float(53))");
+        replica.update("delete from account");
+    }
+
+    @Test
+    @DisplayName("Should read from the replica except within the sticky window after a write")
+    void shouldReadFromTheReplicaExceptWithinTheStickyWindowAfterAWrite() throws Exception {
+        Account created = accountService.createAccount(new Account("John Doe", 100.0));
+        Long accountNumber = created.getAccountNumber();
+        replica.update("insert into account values (?, ?, ?)", accountNumber, "John Doe (replica)", 100.0);
+
+        // Just written: pinned to the primary
+        assertEquals("John Doe", accountService.getAccountDetailsByAccountNumber(accountNumber).getAccountHolderName());
+
+        Thread.sleep(400);
+        assertEquals("John Doe (replica)", accountService.getAccountDetailsByAccountNumber(accountNumber).getAccountHolderName());
+
+        // Deposit goes to the primary and the follow-up read sees it, though the replica is stale
+        accountService.depositAmount(accountNumber, 50.0);
+        assertEquals(150.0, accountService.getAccountDetailsByAccountNumber(accountNumber).getAccountBalance());
+        assertEquals(100.0, replica.queryForObject("select account_balance from account where account_number = ?",
+                Double.class, accountNumber));
+
+        List<Account> all = accountService.getAllAccounts();
+        assertEquals(1, all.size());
+        assertEquals("John Doe (replica)", all.get(0).getAccountHolderName());
+    }
+}
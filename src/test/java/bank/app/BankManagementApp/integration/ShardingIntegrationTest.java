@@ -0,0 +1,252 @@
+package bank.app.BankManagementApp.integration;
+
+import bank.app.BankManagementApp.batch.AccountCsvImporter;
+import bank.app.BankManagementApp.batch.AccountImportReport;
+import bank.app.BankManagementApp.batch.StatementGenerationJob;
+import bank.app.BankManagementApp.batch.StatementProgress;
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.service.AccountBatchResult;
+import bank.app.BankManagementApp.service.AccountNumberGenerator;
+import bank.app.BankManagementApp.service.AccountSearchResult;
+import bank.app.BankManagementApp.service.AccountSearchService;
+import bank.app.BankManagementApp.service.AccountService;
+import bank.app.BankManagementApp.service.BulkCloseResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "bank.sharding.enabled=true",
+        "bank.sharding.shard-urls=jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1,jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1,jdbc:h2:mem:shard2;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("test")
+@DisplayName("Sharding Integration Tests")
+public class ShardingIntegrationTest {
+
+    private static final int SHARDS = 3;
+
+    @TempDir
+    static Path statementsDir;
+
+    @DynamicPropertySource
+    static void statementsDir(DynamicPropertyRegistry registry) {
+        registry.add("bank.statements.output-dir", () -> statementsDir.toString());
+    }
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private StatementGenerationJob statementJob;
+
+    @Autowired
+    private AccountSearchService searchService;
+
+    @Autowired
+    private AccountCsvImporter importer;
+
+    private final List<JdbcTemplate> shards = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        shards.clear();
+        for (int i = 0; i < SHARDS; i++) {
+            JdbcTemplate shard = new JdbcTemplate(
+                    new DriverManagerDataSource("jdbc:h2:mem:shard" + i + ";DB_CLOSE_DELAY=-1", "sa", "password"));
+            shard.update("delete from account");
+            shards.add(shard);
+        }
+    }
+
+    private Integer rowsOnShard(int shard, Long accountNumber) {
+        return shards.get(shard).queryForObject("select count(*) from account where account_number = ?",
+                Integer.class, accountNumber);
+    }
+
+    @Test
+    @DisplayName("Should spread new accounts across shards with numbers encoding their shard")
+    void shouldSpreadNewAccountsAcrossShardsWithNumbersEncodingTheirShard() {
+        List<Account> created = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            created.add(accountService.createAccount(new Account("Holder " + i, 100.0 * i)));
+        }
+
+        int[] perShard = new int[SHARDS];
+        for (Account account : created) {
+            int shard = (int) ((account.getAccountNumber() / 10 - 1) % SHARDS);
+            perShard[shard]++;
+            assertTrue(AccountNumberGenerator.isValid(account.getAccountNumber()));
+            assertEquals(1, rowsOnShard(shard, account.getAccountNumber()), "Row not on its encoded shard");
+        }
+        assertArrayEquals(new int[]{3, 3, 3}, perShard);
+    }
+
+    @Test
+    @DisplayName("Should route lookups and mutations to the owning shard")
+    void shouldRouteLookupsAndMutationsToTheOwningShard() {
+        Account account = accountService.createAccount(new Account("Jane Smith", 1000.0));
+        Long accountNumber = account.getAccountNumber();
+        int shard = (int) ((accountNumber / 10 - 1) % SHARDS);
+
+        accountService.depositAmount(accountNumber, 500.0);
+        accountService.withdrawAmount(accountNumber, 200.0);
+
+        assertEquals(1300.0, accountService.getAccountDetailsByAccountNumber(accountNumber).getAccountBalance());
+        assertEquals(1300.0, shards.get(shard).queryForObject(
+                "select account_balance from account where account_number = ?", Double.class, accountNumber));
+
+        accountService.closeAccount(accountNumber);
+        assertEquals(0, rowsOnShard(shard, accountNumber));
+        assertThrows(RuntimeException.class, () -> accountService.getAccountDetailsByAccountNumber(accountNumber));
+        assertEquals(1, shards.get(shard).queryForObject(
+                "select count(*) from account_archive where account_number = ?", Integer.class, accountNumber));
+        assertEquals(1300.0, accountService.getArchivedAccount(accountNumber).getAccountBalance());
+    }
+
+    @Test
+    @DisplayName("Should close accounts in bulk on their owning shards")
+    void shouldCloseAccountsInBulkOnTheirOwningShards() {
+        List<Long> accountNumbers = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            accountNumbers.add(accountService.createAccount(new Account("Holder " + i, 10.0)).getAccountNumber());
+        }
+        Long kept = accountNumbers.remove(5);
+        accountNumbers.add(9999L);
+
+        BulkCloseResult result = accountService.closeAccounts(accountNumbers);
+
+        assertEquals(6, result.requested());
+        assertEquals(5, result.closed());
+        assertEquals(List.of(9999L), result.notFound());
+        int remaining = 0;
+        for (JdbcTemplate shard : shards) {
+            remaining += shard.queryForObject("select count(*) from account", Integer.class);
+        }
+        assertEquals(1, remaining);
+        assertEquals(kept, accountService.getAccountDetailsByAccountNumber(kept).getAccountNumber());
+    }
+
+    @Test
+    @DisplayName("Should fetch accounts from several shards in request order")
+    void shouldFetchAccountsFromSeveralShardsInRequestOrder() {
+        List<Long> accountNumbers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            accountNumbers.add(accountService.createAccount(new Account("Holder " + i, 10.0)).getAccountNumber());
+        }
+        Collections.reverse(accountNumbers);
+        List<Long> requested = new ArrayList<>(accountNumbers);
+        requested.add(2, 9999L);
+
+        AccountBatchResult result = accountService.getAccountsByAccountNumbers(requested);
+
+        assertEquals(accountNumbers, result.accounts().stream().map(Account::getAccountNumber).toList());
+        assertEquals(List.of(9999L), result.notFound());
+    }
+
+    @Test
+    @DisplayName("Should merge all shards for getAllAccounts")
+    void shouldMergeAllShardsForGetAllAccounts() {
+        for (int i = 0; i < 7; i++) {
+            accountService.createAccount(new Account("Holder " + i, 10.0));
+        }
+
+        List<Account> all = accountService.getAllAccounts();
+
+        assertEquals(7, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getAccountNumber() < all.get(i).getAccountNumber());
+        }
+        int total = 0;
+        for (JdbcTemplate shard : shards) {
+            Integer rows = shard.queryForObject("select count(*) from account", Integer.class);
+            assertTrue(rows >= 2, "Every shard should hold some accounts");
+            total += rows;
+        }
+        assertEquals(7, total);
+    }
+
+    @Test
+    @DisplayName("Should generate statements for accounts on every shard")
+    void shouldGenerateStatementsForAccountsOnEveryShard() throws IOException {
+        List<Long> accountNumbers = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            accountNumbers.add(accountService.createAccount(new Account("Holder " + i, 10.0)).getAccountNumber());
+        }
+
+        StatementProgress progress = statementJob.run(YearMonth.of(2026, 9));
+
+        assertEquals(StatementProgress.State.COMPLETED, progress.getState());
+        assertEquals(7, progress.getTotalAccounts());
+        assertEquals(7, progress.getStatementsWritten());
+        StringBuilder text = new StringBuilder();
+        try (Stream<Path> files = Files.list(statementsDir.resolve("2026-09"))) {
+            for (Path file : files.sorted().toList()) {
+                try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+                    text.append(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        for (Long accountNumber : accountNumbers) {
+            assertTrue(text.toString().contains("Account: " + accountNumber + "\n"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should merge prefix search results from every shard in name order")
+    void shouldMergePrefixSearchResultsFromEveryShardInNameOrder() {
+        for (String name : List.of("Smith Eve", "Smith Ann", "Jones Bob", "Smith Dan", "Smith Cal", "Smith Bea")) {
+            accountService.createAccount(new Account(name, 10.0));
+        }
+
+        AccountSearchResult first = searchService.search("Smith", AccountSearchService.Mode.PREFIX, 0, 3);
+        AccountSearchResult second = searchService.search("Smith", AccountSearchService.Mode.PREFIX, 1, 3);
+
+        assertEquals(List.of("Smith Ann", "Smith Bea", "Smith Cal"),
+                first.results().stream().map(AccountSearchResult.Match::accountHolderName).toList());
+        assertEquals(List.of("Smith Dan", "Smith Eve"),
+                second.results().stream().map(AccountSearchResult.Match::accountHolderName).toList());
+    }
+
+    @Test
+    @DisplayName("Should spread imported chunks across shards with numbers encoding their shard")
+    void shouldSpreadImportedChunksAcrossShardsWithNumbersEncodingTheirShard() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            csv.append("Holder ").append(i).append(",10\n");
+        }
+
+        AccountImportReport report = importer.importCsv(new StringReader(csv.toString()), 2);
+
+        assertEquals(12, report.rowsImported());
+        for (int shard = 0; shard < SHARDS; shard++) {
+            List<Long> accountNumbers = shards.get(shard).queryForList("select account_number from account", Long.class);
+            assertEquals(4, accountNumbers.size());
+            for (Long accountNumber : accountNumbers) {
+                assertEquals(shard, (int) ((accountNumber / 10 - 1) % SHARDS), "Row not on its encoded shard");
+            }
+        }
+    }
+}
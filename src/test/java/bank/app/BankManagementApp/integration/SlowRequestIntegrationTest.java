@@ -0,0 +1,114 @@
+package bank.app.BankManagementApp.integration;
+
+import bank.app.BankManagementApp.config.RequestTimeline;
+import bank.app.BankManagementApp.config.SlowRequest;
+import bank.app.BankManagementApp.config.SlowRequestLog;
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.service.AccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A threshold of 0 captures every request
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:slowdb;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "bank.slow-requests.threshold-ms=0",
+        "bank.slow-requests.buffer-size=3"
+})
+@ActiveProfiles("test")
+@DisplayName("Slow Request Integration Tests")
+public class SlowRequestIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private SlowRequestLog slowRequestLog;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        slowRequestLog.clear();
+    }
+
+    private HttpResponse<String> send(String method, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .method(method, HttpRequest.BodyPublishers.noBody()).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static List<RequestTimeline.Span> spans(SlowRequest request, RequestTimeline.Kind kind) {
+        return request.spans().stream().filter(span -> span.kind() == kind).toList();
+    }
+
+    @Test
+    @DisplayName("Should capture the controller, service, SQL and commit breakdown of a deposit")
+    void shouldCaptureTheBreakdownOfADeposit() throws Exception {
+        // Given
+        Long accountNumber = accountService.createAccount(new Account("John Doe", 100.0)).getAccountNumber();
+
+        // When
+        assertEquals(200, send("PUT", "/account/deposit/" + accountNumber + "/50.0").statusCode());
+
+        // Then
+        SlowRequest captured = slowRequestLog.recent().get(0);
+        assertEquals("PUT", captured.method());
+        assertEquals("/account/deposit/" + accountNumber + "/50.0", captured.uri());
+        assertEquals(200, captured.status());
+        assertEquals("AccountController.depositAmount", spans(captured, RequestTimeline.Kind.CONTROLLER).get(0).detail());
+        assertEquals("AccountServiceImpl.depositAmount", spans(captured, RequestTimeline.Kind.SERVICE).get(0).detail());
+        assertTrue(spans(captured, RequestTimeline.Kind.SQL).stream()
+                .anyMatch(span -> span.detail().contains("for update")), "Locking read not captured");
+        assertTrue(spans(captured, RequestTimeline.Kind.SQL).stream()
+                .anyMatch(span -> span.detail().startsWith("update account")), "Balance update not captured");
+        assertEquals(1, spans(captured, RequestTimeline.Kind.COMMIT).size());
+        assertTrue(captured.durationMillis() >= spans(captured, RequestTimeline.Kind.CONTROLLER).get(0).durationMillis());
+    }
+
+    @Test
+    @DisplayName("Should keep only the most recent requests and serve them newest first")
+    void shouldKeepOnlyTheMostRecentRequests() throws Exception {
+        // Given
+        Long accountNumber = accountService.createAccount(new Account("Jane Smith", 100.0)).getAccountNumber();
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            send("PUT", "/account/deposit/" + accountNumber + "/" + i + ".0");
+        }
+        HttpResponse<String> response = send("GET", "/admin/slow-requests?limit=2");
+
+        // Then
+        assertEquals(5, slowRequestLog.total());
+        assertEquals(3, slowRequestLog.recent().size());
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().indexOf("/5.0") < response.body().indexOf("/4.0"));
+        assertFalse(response.body().contains("/3.0"));
+    }
+
+    @Test
+    @DisplayName("Should not profile requests outside /account")
+    void shouldNotProfileRequestsOutsideAccount() throws Exception {
+        // When
+        send("GET", "/admin/slow-requests");
+
+        // Then
+        assertEquals(0, slowRequestLog.total());
+    }
+}
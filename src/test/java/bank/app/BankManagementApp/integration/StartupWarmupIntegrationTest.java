@@ -0,0 +1,85 @@
+package bank.app.BankManagementApp.integration;
+
+import bank.app.BankManagementApp.config.StartupWarmup;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import bank.app.BankManagementApp.repository.ArchivedAccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:warmupdb;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "bank.warmup.enabled=true",
+        "bank.warmup.iterations-per-round=10",
+        "bank.warmup.min-rounds=2",
+        "bank.warmup.max-duration-ms=10000"
+})
+@ActiveProfiles("test")
+@DisplayName("Startup Warm-up Integration Tests")
+public class StartupWarmupIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private StartupWarmup startupWarmup;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ArchivedAccountRepository archivedAccountRepository;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private HttpResponse<String> getReadiness() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/health/readiness")).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("Should warm up before startup completes and leave no accounts behind")
+    void shouldWarmUpAndRollBack() {
+        assertTrue(startupWarmup.getCompletedIterations() >= 20);
+        assertEquals(0, accountRepository.count());
+        assertEquals(0, archivedAccountRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should report readiness from the application availability state")
+    void shouldReportReadiness() throws Exception {
+        // Given - warm-up finished, so the context is accepting traffic
+        HttpResponse<String> ready = getReadiness();
+        assertEquals(200, ready.statusCode());
+        assertTrue(ready.body().contains("UP"));
+
+        try {
+            // When
+            AvailabilityChangeEvent.publish(applicationContext, ReadinessState.REFUSING_TRAFFIC);
+
+            // Then
+            HttpResponse<String> refusing = getReadiness();
+            assertEquals(503, refusing.statusCode());
+            assertTrue(refusing.body().contains("OUT_OF_SERVICE"));
+        } finally {
+            AvailabilityChangeEvent.publish(applicationContext, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package bank.app.BankManagementApp.repository;
 
 import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.entity.ArchivedAccount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +26,9 @@ public class AccountRepositoryTest {
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private ArchivedAccountRepository archivedAccountRepository;
+
     private Account account1;
     private Account account2;
 
@@ -136,6 +140,65 @@ public class AccountRepositoryTest {
         assertFalse(deletedAccount.isPresent());
     }
 
+    @Test
+    @DisplayName("Should delete account with a single statement and report affected rows")
+    void shouldDeleteAccountWithASingleStatementAndReportAffectedRows() {
+        // Given
+        Long accountId = entityManager.persistAndFlush(account1).getAccountNumber();
+        entityManager.clear();
+
+        // When
+        int deleted = accountRepository.deleteAccount(accountId);
+        int deletedAgain = accountRepository.deleteAccount(accountId);
+
+        // Then
+        assertEquals(1, deleted);
+        assertEquals(0, deletedAgain);
+        assertFalse(accountRepository.findById(accountId).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should delete several accounts by account number")
+    void shouldDeleteSeveralAccountsByAccountNumber() {
+        // Given
+        Long id1 = entityManager.persistAndFlush(account1).getAccountNumber();
+        Long id2 = entityManager.persistAndFlush(account2).getAccountNumber();
+        Long id3 = entityManager.persistAndFlush(new Account("Bob Johnson", 1.0)).getAccountNumber();
+        entityManager.clear();
+
+        // When
+        int deleted = accountRepository.deleteAccounts(List.of(id1, id2));
+
+        // Then
+        assertEquals(2, deleted);
+        assertEquals(List.of(id3), accountRepository.findAll().stream().map(Account::getAccountNumber).toList());
+    }
+
+    @Test
+    @DisplayName("Should copy accounts into the archive")
+    void shouldCopyAccountsIntoTheArchive() {
+        // Given
+        Long id1 = entityManager.persistAndFlush(account1).getAccountNumber();
+        Long id2 = entityManager.persistAndFlush(account2).getAccountNumber();
+        entityManager.clear();
+
+        // When
+        List<Long> locked = accountRepository.lockAccounts(List.of(id1, 999L)).stream()
+                .map(Account::getAccountNumber).toList();
+        int archived = accountRepository.archiveAccounts(locked);
+        accountRepository.deleteAccounts(locked);
+
+        // Then
+        assertEquals(List.of(id1), locked);
+        assertEquals(1, archived);
+        ArchivedAccount archive = archivedAccountRepository.findById(id1).orElseThrow();
+        assertEquals("John Doe", archive.getAccountHolderName());
+        assertEquals(5000.0, archive.getAccountBalance());
+        assertNotNull(archive.getClosedAt());
+        assertFalse(archivedAccountRepository.existsById(id2));
+        assertEquals(List.of(id2), accountRepository.findAll().stream().map(Account::getAccountNumber).toList());
+    }
+
     @Test
     @DisplayName("Should count total accounts")
     void shouldCountTotalAccounts() {
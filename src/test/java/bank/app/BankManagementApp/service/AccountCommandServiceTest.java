@@ -0,0 +1,157 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.entity.AccountCommand;
+import bank.app.BankManagementApp.repository.AccountCommandRepository;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The dispatcher polls hourly here so each test drains explicitly
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:commanddb;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.jpa.show-sql=false",
+        "bank.commands.poll-interval-ms=3600000",
+        "bank.commands.batch-size=7",
+        "bank.commands.max-pending=50"
+})
+@ActiveProfiles("test")
+@DisplayName("AccountCommandService Tests")
+public class AccountCommandServiceTest {
+
+    @Autowired
+    private AccountCommandService commandService;
+
+    @Autowired
+    private AccountCommandRepository commandRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    private Long accountNumber;
+
+    @BeforeEach
+    void setUp() {
+        commandService.drain();
+        commandRepository.deleteAll();
+        accountRepository.deleteAll();
+        accountNumber = accountService.createAccount(new Account("John Doe", 100.0)).getAccountNumber();
+    }
+
+    private AccountCommand reload(AccountCommand command) {
+        return commandService.getCommand(command.getId()).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should accept commands as pending and apply them when drained")
+    void shouldAcceptCommandsAsPendingAndApplyThemWhenDrained() {
+        AccountCommand deposit = commandService.enqueue(AccountCommand.Type.DEPOSIT, accountNumber, 50.0);
+        AccountCommand withdraw = commandService.enqueue(AccountCommand.Type.WITHDRAW, accountNumber, 30.0);
+
+        assertNotNull(deposit.getId());
+        assertEquals(AccountCommand.Status.PENDING, reload(deposit).getStatus());
+        assertEquals(100.0, accountRepository.findById(accountNumber).orElseThrow().getAccountBalance());
+
+        assertEquals(2, commandService.drain());
+
+        assertEquals(AccountCommand.Status.SUCCEEDED, reload(deposit).getStatus());
+        assertEquals(150.0, reload(deposit).getBalance());
+        assertEquals(120.0, reload(withdraw).getBalance());
+        assertNotNull(reload(withdraw).getCompletedAt());
+        assertEquals(120.0, accountRepository.findById(accountNumber).orElseThrow().getAccountBalance());
+        assertEquals(0, commandService.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Should record failures without affecting other commands")
+    void shouldRecordFailuresWithoutAffectingOtherCommands() {
+        AccountCommand missing = commandService.enqueue(AccountCommand.Type.WITHDRAW, 999_999L, 10.0);
+        AccountCommand deposit = commandService.enqueue(AccountCommand.Type.DEPOSIT, accountNumber, 5.0);
+
+        commandService.drain();
+
+        assertEquals(AccountCommand.Status.FAILED, reload(missing).getStatus());
+        assertEquals("Account not found", reload(missing).getError());
+        assertEquals(AccountCommand.Status.SUCCEEDED, reload(deposit).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should apply commands for one account in acceptance order across batches")
+    void shouldApplyCommandsForOneAccountInAcceptanceOrderAcrossBatches() {
+        Long other = accountService.createAccount(new Account("Jane Smith", 0.0)).getAccountNumber();
+        List<AccountCommand> commands = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            commands.add(commandService.enqueue(AccountCommand.Type.DEPOSIT, i % 2 == 0 ? accountNumber : other, 1.0));
+        }
+
+        assertEquals(20, commandService.drain());
+
+        double expectedMain = 100.0;
+        double expectedOther = 0.0;
+        for (int i = 1; i <= 20; i++) {
+            AccountCommand command = reload(commands.get(i - 1));
+            if (i % 2 == 0) {
+                assertEquals(++expectedMain, command.getBalance());
+            } else {
+                assertEquals(++expectedOther, command.getBalance());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject commands once the queue is full")
+    void shouldRejectCommandsOnceTheQueueIsFull() {
+        for (int i = 0; i < 50; i++) {
+            commandService.enqueue(AccountCommand.Type.DEPOSIT, accountNumber, 1.0);
+        }
+
+        assertThrows(CommandQueueFullException.class,
+                () -> commandService.enqueue(AccountCommand.Type.DEPOSIT, accountNumber, 1.0));
+
+        commandService.drain();
+        commandService.enqueue(AccountCommand.Type.DEPOSIT, accountNumber, 1.0);
+        assertEquals(1, commandService.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Should apply each command once when two dispatchers drain the same queue")
+    void shouldApplyEachCommandOnceWhenTwoDispatchersDrainTheSameQueue() {
+        // Given - a second instance polling the same table, as on another node
+        AccountCommandService otherNode = beanFactory.createBean(AccountCommandService.class);
+        List<AccountCommand> commands = new ArrayList<>();
+        try {
+            for (int i = 0; i < 40; i++) {
+                commands.add(commandService.enqueue(AccountCommand.Type.DEPOSIT, accountNumber, 1.0));
+            }
+
+            // When
+            CompletableFuture<Integer> first = CompletableFuture.supplyAsync(commandService::drain);
+            CompletableFuture<Integer> second = CompletableFuture.supplyAsync(otherNode::drain);
+
+            // Then
+            assertEquals(40, first.join() + second.join());
+            assertEquals(140.0, accountRepository.findById(accountNumber).orElseThrow().getAccountBalance());
+            commands.forEach(command -> assertEquals(AccountCommand.Status.SUCCEEDED, reload(command).getStatus()));
+            assertEquals(0, commandService.getPendingCount());
+        } finally {
+            otherNode.stop();
+        }
+    }
+}
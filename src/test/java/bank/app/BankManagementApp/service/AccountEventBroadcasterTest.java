@@ -0,0 +1,213 @@
+package bank.app.BankManagementApp.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccountEventBroadcaster Tests")
+public class AccountEventBroadcasterTest {
+
+    private AccountEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new AccountEventBroadcaster(3, 2, 60_000, 2, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    // Records the events that would be written to the client; blocks sending them until released
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch release;
+        volatile boolean completed;
+        volatile Throwable failure;
+
+        RecordingEmitter(boolean blocked) {
+            release = new CountDownLatch(blocked ? 1 : 0);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            String data = builder.build().stream().map(part -> String.valueOf(part.getData())).collect(Collectors.joining());
+            if (data.startsWith(":")) {
+                return;  // heartbeat comments
+            }
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sent.add(data);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            failure = ex;
+        }
+
+        void awaitSent(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (sent.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(count, sent.size(), "sent: " + sent);
+        }
+    }
+
+    private static AccountEvent deposit(long accountNumber, double balance) {
+        return new AccountEvent(AccountEvent.Type.DEPOSITED, accountNumber, "John Doe", 10.0, balance);
+    }
+
+    @Test
+    @DisplayName("Should deliver only events for subscribed accounts")
+    void shouldDeliverOnlyEventsForSubscribedAccounts() throws InterruptedException {
+        RecordingEmitter all = new RecordingEmitter(false);
+        RecordingEmitter filtered = new RecordingEmitter(false);
+        broadcaster.subscribe(all, Set.of(), AccountEventBroadcaster.OverflowPolicy.DROP_OLDEST);
+        broadcaster.subscribe(filtered, Set.of(2L), AccountEventBroadcaster.OverflowPolicy.DROP_OLDEST);
+
+        broadcaster.onAccountEvent(deposit(1L, 110.0));
+        broadcaster.onAccountEvent(deposit(2L, 210.0));
+
+        all.awaitSent(2);
+        filtered.awaitSent(1);
+        assertTrue(filtered.sent.get(0).contains("event:DEPOSITED"));
+        assertTrue(filtered.sent.get(0).contains("accountNumber=2"));
+        assertTrue(filtered.sent.get(0).startsWith("id:2\n"));
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest buffered events for a slow subscriber and report the gap")
+    void shouldDropTheOldestBufferedEventsForASlowSubscriberAndReportTheGap() throws InterruptedException {
+        RecordingEmitter slow = new RecordingEmitter(true);
+        broadcaster.subscribe(slow, Set.of(), AccountEventBroadcaster.OverflowPolicy.DROP_OLDEST);
+
+        // The first event is taken by the (blocked) sender, the next three fill the buffer
+        for (int i = 1; i <= 8; i++) {
+            broadcaster.onAccountEvent(deposit(1L, i));
+            Thread.sleep(20);
+        }
+        slow.release.countDown();
+
+        slow.awaitSent(5);
+        assertTrue(slow.sent.get(0).contains("balance=1.0"));
+        assertTrue(slow.sent.get(1).contains("event:dropped") && slow.sent.get(1).contains("4"));
+        assertTrue(slow.sent.get(2).contains("balance=6.0"));
+        assertTrue(slow.sent.get(4).contains("balance=8.0"));
+    }
+
+    @Test
+    @DisplayName("Should drop the newest events when configured")
+    void shouldDropTheNewestEventsWhenConfigured() throws InterruptedException {
+        RecordingEmitter slow = new RecordingEmitter(true);
+        broadcaster.subscribe(slow, Set.of(), AccountEventBroadcaster.OverflowPolicy.DROP_NEWEST);
+
+        for (int i = 1; i <= 8; i++) {
+            broadcaster.onAccountEvent(deposit(1L, i));
+            Thread.sleep(20);
+        }
+        slow.release.countDown();
+
+        slow.awaitSent(5);
+        assertTrue(slow.sent.get(1).contains("event:dropped"));
+        assertTrue(slow.sent.get(2).contains("balance=2.0"));
+        assertTrue(slow.sent.get(4).contains("balance=4.0"));
+    }
+
+    @Test
+    @DisplayName("Should disconnect a slow subscriber without affecting others")
+    void shouldDisconnectASlowSubscriberWithoutAffectingOthers() throws InterruptedException {
+        RecordingEmitter slow = new RecordingEmitter(true);
+        RecordingEmitter fast = new RecordingEmitter(false);
+        broadcaster.subscribe(slow, Set.of(), AccountEventBroadcaster.OverflowPolicy.DISCONNECT);
+        broadcaster.subscribe(fast, Set.of(), AccountEventBroadcaster.OverflowPolicy.DISCONNECT);
+
+        for (int i = 1; i <= 8; i++) {
+            broadcaster.onAccountEvent(deposit(1L, i));
+            Thread.sleep(20);
+        }
+
+        assertTrue(slow.completed);
+        assertEquals(1, broadcaster.getSubscriberCount());
+        fast.awaitSent(8);
+        slow.release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should reject subscribers beyond the maximum")
+    void shouldRejectSubscribersBeyondTheMaximum() {
+        broadcaster.subscribe(new RecordingEmitter(false), Set.of(), AccountEventBroadcaster.OverflowPolicy.DROP_OLDEST);
+        broadcaster.subscribe(new RecordingEmitter(false), Set.of(), AccountEventBroadcaster.OverflowPolicy.DROP_OLDEST);
+
+        assertThrows(TooManySubscribersException.class, () -> broadcaster.subscribe(new RecordingEmitter(false),
+                Set.of(), AccountEventBroadcaster.OverflowPolicy.DROP_OLDEST));
+    }
+
+    @Test
+    @DisplayName("Should keep delivering to healthy subscribers and drop one whose write stalls")
+    void shouldKeepDeliveringToHealthySubscribersAndDropOneWhoseWriteStalls() throws InterruptedException {
+        // Given - a single warm sender thread and a client whose writes block
+        broadcaster.shutdown();
+        broadcaster = new AccountEventBroadcaster(3, 2, 60_000, 1, 50);
+        RecordingEmitter stalled = new RecordingEmitter(true);
+        RecordingEmitter healthy = new RecordingEmitter(false);
+        broadcaster.subscribe(stalled, Set.of(), AccountEventBroadcaster.OverflowPolicy.DROP_OLDEST);
+        broadcaster.subscribe(healthy, Set.of(), AccountEventBroadcaster.OverflowPolicy.DROP_OLDEST);
+
+        // When
+        broadcaster.onAccountEvent(deposit(1L, 110.0));
+
+        // Then
+        healthy.awaitSent(1);
+        Thread.sleep(100);
+        broadcaster.dropStalledSubscribers();
+        assertEquals(1, broadcaster.getSubscriberCount());
+        assertInstanceOf(IOException.class, stalled.failure);
+        stalled.release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber no sender thread is left for instead of failing the publisher")
+    void shouldDisconnectASubscriberNoSenderThreadIsLeftForInsteadOfFailingThePublisher() throws InterruptedException {
+        // Given - the only sender thread stays blocked for a subscriber already dropped as stalled
+        broadcaster.shutdown();
+        broadcaster = new AccountEventBroadcaster(3, 1, 60_000, 1, 50);
+        RecordingEmitter stalled = new RecordingEmitter(true);
+        broadcaster.subscribe(stalled, Set.of(), AccountEventBroadcaster.OverflowPolicy.DROP_OLDEST);
+        broadcaster.onAccountEvent(deposit(1L, 110.0));
+        Thread.sleep(100);
+        broadcaster.dropStalledSubscribers();
+
+        // When
+        RecordingEmitter late = new RecordingEmitter(false);
+        broadcaster.subscribe(late, Set.of(), AccountEventBroadcaster.OverflowPolicy.DROP_OLDEST);
+        assertDoesNotThrow(() -> broadcaster.onAccountEvent(deposit(1L, 120.0)));
+
+        // Then
+        assertInstanceOf(IOException.class, late.failure);
+        assertEquals(0, broadcaster.getSubscriberCount());
+        stalled.release.countDown();
+    }
+}
@@ -0,0 +1,155 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.entity.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccountNearCache Tests")
+public class AccountNearCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private RecordingBus bus;
+    private AccountNearCache cache;
+
+    @BeforeEach
+    void setUp() {
+        bus = new RecordingBus();
+        cache = new AccountNearCache(bus, 1_000, 10, clock::get);
+    }
+
+    private static Account account(long accountNumber, double balance) {
+        Account account = new Account("John Doe", balance);
+        account.setAccountNumber(accountNumber);
+        return account;
+    }
+
+    private void cache(long accountNumber, double balance) {
+        cache.put(account(accountNumber, balance), cache.loadToken(accountNumber));
+    }
+
+    @Test
+    @DisplayName("Should return a copy of the cached account")
+    void shouldReturnACopyOfTheCachedAccount() {
+        // Given
+        cache(18L, 100.0);
+
+        // When
+        Account first = cache.get(18L);
+        first.setAccountBalance(0.0);
+
+        // Then
+        assertEquals(100.0, cache.get(18L).getAccountBalance());
+        assertEquals("John Doe", cache.get(18L).getAccountHolderName());
+        assertNull(cache.get(26L));
+        assertEquals(3, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the TTL")
+    void shouldExpireEntriesAfterTheTtl() {
+        // Given
+        cache(18L, 100.0);
+
+        // When
+        clock.addAndGet(999_000_000L);
+        Account beforeExpiry = cache.get(18L);
+        clock.addAndGet(2_000_000L);
+
+        // Then
+        assertNotNull(beforeExpiry);
+        assertNull(cache.get(18L));
+    }
+
+    @Test
+    @DisplayName("Should not cache a load that raced with an invalidation")
+    void shouldNotCacheALoadThatRacedWithAnInvalidation() {
+        // Given - a load starts, then the account changes before it finishes
+        long token = cache.loadToken(18L);
+        cache.invalidate(18L);
+
+        // When
+        cache.put(account(18L, 100.0), token);
+
+        // Then
+        assertNull(cache.get(18L));
+    }
+
+    @Test
+    @DisplayName("Should apply invalidations from other instances")
+    void shouldApplyInvalidationsFromOtherInstances() {
+        // Given
+        cache(18L, 100.0);
+        cache(26L, 200.0);
+
+        // When
+        bus.deliver(18L);
+
+        // Then
+        assertNull(cache.get(18L));
+        assertNotNull(cache.get(26L));
+
+        // When - null invalidates everything
+        bus.deliver(null);
+
+        // Then
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should announce changes but not new accounts")
+    void shouldAnnounceChangesButNotNewAccounts() {
+        // Given
+        cache(18L, 100.0);
+
+        // When
+        cache.announce(new AccountEvent(AccountEvent.Type.CREATED, 26L, "Jane Smith", null, 50.0));
+        cache.announce(new AccountEvent(AccountEvent.Type.DEPOSITED, 18L, "John Doe", 50.0, 150.0));
+        cache.onAccountEvent(new AccountEvent(AccountEvent.Type.DEPOSITED, 18L, "John Doe", 50.0, 150.0));
+
+        // Then
+        assertEquals(List.of(18L), bus.published);
+        assertNull(cache.get(18L));
+    }
+
+    @Test
+    @DisplayName("Should stay within max entries")
+    void shouldStayWithinMaxEntries() {
+        // When
+        for (long i = 1; i <= 25; i++) {
+            cache(i, 10.0 * i);
+        }
+
+        // Then
+        assertTrue(cache.size() <= 10);
+        assertNotNull(cache.get(25L));
+    }
+
+    private static class RecordingBus implements CacheInvalidationBus {
+
+        private final List<Long> published = new ArrayList<>();
+        private final List<Consumer<Long>> listeners = new ArrayList<>();
+
+        @Override
+        public void publish(Long accountNumber) {
+            published.add(accountNumber);
+        }
+
+        @Override
+        public void subscribe(Consumer<Long> listener) {
+            listeners.add(listener);
+        }
+
+        void deliver(Long accountNumber) {
+            listeners.forEach(listener -> listener.accept(accountNumber));
+        }
+    }
+}
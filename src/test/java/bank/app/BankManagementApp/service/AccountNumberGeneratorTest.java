@@ -0,0 +1,130 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.entity.Account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:numberdb;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "bank.account-number.block-size=50"
+})
+@ActiveProfiles("test")
+@DisplayName("AccountNumberGenerator Tests")
+public class AccountNumberGeneratorTest {
+
+    @Autowired
+    private AccountNumberGenerator generator;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should append a Luhn check digit")
+    void shouldAppendALuhnCheckDigit() {
+        assertEquals(18L, AccountNumberGenerator.withCheckDigit(1));
+        assertEquals(79927398713L, AccountNumberGenerator.withCheckDigit(7992739871L));
+        assertTrue(AccountNumberGenerator.isValid(79927398713L));
+    }
+
+    @Test
+    @DisplayName("Should reject wrong check digits, single-digit typos and swapped digits")
+    void shouldRejectWrongCheckDigitsSingleDigitTyposAndSwappedDigits() {
+        assertFalse(AccountNumberGenerator.isValid(79927398710L));
+        assertFalse(AccountNumberGenerator.isValid(79927398813L));
+        assertFalse(AccountNumberGenerator.isValid(97927398713L));
+        assertFalse(AccountNumberGenerator.isValid(0L));
+        assertFalse(AccountNumberGenerator.isValid(-18L));
+        assertFalse(AccountNumberGenerator.isValid(null));
+    }
+
+    @Test
+    @DisplayName("Should hand out unique numbers across threads while reserving whole blocks")
+    void shouldHandOutUniqueNumbersAcrossThreadsWhileReservingWholeBlocks() throws Exception {
+        // Given
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> workers = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            workers.add(pool.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    long accountNumber = generator.next();
+                    assertTrue(AccountNumberGenerator.isValid(accountNumber));
+                    assertTrue(issued.add(accountNumber), "Duplicate account number " + accountNumber);
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        pool.shutdown();
+
+        // Then
+        assertEquals(4000, issued.size());
+        long reserved = jdbcTemplate.queryForObject(
+                "select next_value from account_number_sequence where name = 'account'", Long.class);
+        assertEquals(0, reserved % 50);
+        assertTrue(reserved >= 4000 && reserved <= 4050 + 50, "Reserved " + reserved);
+    }
+
+    @Test
+    @DisplayName("Should assign check-digit numbers to new accounts")
+    void shouldAssignCheckDigitNumbersToNewAccounts() {
+        Account first = accountService.createAccount(new Account("John Doe", 10.0));
+        Account second = accountService.createAccount(new Account("Jane Smith", 20.0));
+
+        assertTrue(AccountNumberGenerator.isValid(first.getAccountNumber()));
+        assertTrue(AccountNumberGenerator.isValid(second.getAccountNumber()));
+        assertNotEquals(first.getAccountNumber(), second.getAccountNumber());
+        assertEquals("Jane Smith", accountService.getAccountDetailsByAccountNumber(second.getAccountNumber())
+                .getAccountHolderName());
+    }
+
+    @Test
+    @DisplayName("Should start a new sequence above numbers assigned before it existed")
+    void shouldStartANewSequenceAboveNumbersAssignedBeforeItExisted() {
+        // Given - identity keys from before check digits, and no sequence row yet
+        List<Long> previous = jdbcTemplate.queryForList(
+                "select next_value from account_number_sequence where name = 'account'", Long.class);
+        jdbcTemplate.update("delete from account_number_sequence");
+        jdbcTemplate.update("insert into account (account_number, account_holder_name, account_balance) values (?, ?, ?)",
+                5_000L, "Legacy", 10.0);
+        Map<?, ?> blocks = (Map<?, ?>) ReflectionTestUtils.getField(generator, "blocks");
+        blocks.clear();
+
+        try {
+            // When
+            long next = generator.next();
+
+            // Then
+            assertEquals(AccountNumberGenerator.withCheckDigit(501), next);
+        } finally {
+            jdbcTemplate.update("delete from account where account_number = 5000");
+            jdbcTemplate.update("delete from account_number_sequence");
+            previous.forEach(value -> jdbcTemplate.update(
+                    "insert into account_number_sequence (name, next_value) values ('account', ?)", value));
+            blocks.clear();
+        }
+    }
+}
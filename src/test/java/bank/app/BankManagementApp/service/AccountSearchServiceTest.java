@@ -0,0 +1,110 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.batch.AccountCsvImporter;
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:searchdb;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+@ActiveProfiles("test")
+@DisplayName("AccountSearchService Tests")
+public class AccountSearchServiceTest {
+
+    @Autowired
+    private AccountSearchService searchService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private HolderNameIndex holderNameIndex;
+
+    @Autowired
+    private AccountCsvImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.deleteAllInBatch();
+        holderNameIndex.rebuild();
+    }
+
+    private List<String> names(AccountSearchResult result) {
+        return result.results().stream().map(AccountSearchResult.Match::accountHolderName).toList();
+    }
+
+    @Test
+    @DisplayName("Should find prefix matches in name order")
+    void shouldFindPrefixMatchesInNameOrder() {
+        // Given
+        accountService.createAccount(new Account("Smith Zoe", 10.0));
+        accountService.createAccount(new Account("Smith Adam", 10.0));
+        accountService.createAccount(new Account("Brown Smith", 10.0));
+
+        // When
+        AccountSearchResult result = searchService.search("Smith", AccountSearchService.Mode.PREFIX, 0, 20);
+
+        // Then
+        assertEquals(List.of("Smith Adam", "Smith Zoe"), names(result));
+        assertNull(result.results().get(0).score());
+    }
+
+    @Test
+    @DisplayName("Should keep the fuzzy index in step with creates and closes")
+    void shouldKeepTheFuzzyIndexInStepWithCreatesAndCloses() {
+        // Given
+        Account created = accountService.createAccount(new Account("Katherine Johnson", 10.0));
+
+        // When
+        AccountSearchResult found = searchService.search("catherine jonson", AccountSearchService.Mode.FUZZY, 0, 20);
+        accountService.closeAccount(created.getAccountNumber());
+        AccountSearchResult afterClose = searchService.search("catherine jonson", AccountSearchService.Mode.FUZZY, 0, 20);
+
+        // Then
+        assertEquals(List.of("Katherine Johnson"), names(found));
+        assertTrue(found.results().get(0).score() > 0.3);
+        assertTrue(afterClose.results().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should index accounts added by a CSV import")
+    void shouldIndexAccountsAddedByACsvImport() throws Exception {
+        // When
+        importer.importCsv(new StringReader("accountHolderName,accountBalance\nGrace Hopper,10.00\n"));
+
+        // Then
+        assertEquals(List.of("Grace Hopper"),
+                names(searchService.search("grace hoper", AccountSearchService.Mode.FUZZY, 0, 20)));
+    }
+
+    @Test
+    @DisplayName("Should reject blank queries")
+    void shouldRejectBlankQueries() {
+        assertThrows(IllegalArgumentException.class,
+                () -> searchService.search(" ", AccountSearchService.Mode.FUZZY, 0, 20));
+    }
+
+    @Test
+    @DisplayName("Should reject pages whose offset overflows")
+    void shouldRejectPagesWhoseOffsetOverflows() {
+        assertThrows(IllegalArgumentException.class,
+                () -> searchService.search("smith", AccountSearchService.Mode.FUZZY, Integer.MAX_VALUE / 10, 20));
+        assertThrows(IllegalArgumentException.class,
+                () -> searchService.search("smith", AccountSearchService.Mode.PREFIX, Integer.MAX_VALUE, 1));
+    }
+}
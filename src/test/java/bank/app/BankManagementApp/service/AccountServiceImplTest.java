@@ -1,18 +1,23 @@
 package bank.app.BankManagementApp.service;
 
+import bank.app.BankManagementApp.config.ReadYourWritesTracker;
 import bank.app.BankManagementApp.entity.Account;
 import bank.app.BankManagementApp.repository.AccountRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,6 +31,15 @@ public class AccountServiceImplTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private WithdrawalLimiter withdrawalLimiter;
+
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AccountServiceImpl accountService;
 
@@ -134,7 +148,7 @@ public class AccountServiceImplTest {
         Double depositAmount = 1000.0;
         Double expectedBalance = 6000.0;
         
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When
@@ -143,7 +157,7 @@ public class AccountServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals(expectedBalance, result.getAccountBalance());
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(1)).save(testAccount);
     }
 
@@ -153,7 +167,7 @@ public class AccountServiceImplTest {
         // Given
         Long accountNumber = 999L;
         Double depositAmount = 1000.0;
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.empty());
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.empty());
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -161,7 +175,7 @@ public class AccountServiceImplTest {
         });
 
         assertEquals("Account not found", exception.getMessage());
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, never()).save(any(Account.class));
     }
 
@@ -173,7 +187,7 @@ public class AccountServiceImplTest {
         Double withdrawAmount = 1000.0;
         Double expectedBalance = 4000.0;
         
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When
@@ -182,7 +196,7 @@ public class AccountServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals(expectedBalance, result.getAccountBalance());
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(1)).save(testAccount);
     }
 
@@ -192,7 +206,7 @@ public class AccountServiceImplTest {
         // Given
         Long accountNumber = 999L;
         Double withdrawAmount = 1000.0;
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.empty());
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.empty());
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -200,7 +214,7 @@ public class AccountServiceImplTest {
         });
 
         assertEquals("Account not found", exception.getMessage());
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, never()).save(any(Account.class));
     }
 
@@ -212,7 +226,7 @@ public class AccountServiceImplTest {
         Double withdrawAmount = 10000.0; // More than available balance
         Double expectedBalance = -5000.0;
         
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When
@@ -221,7 +235,7 @@ public class AccountServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals(expectedBalance, result.getAccountBalance());
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(1)).save(testAccount);
     }
 
@@ -230,15 +244,37 @@ public class AccountServiceImplTest {
     void shouldCloseAccountSuccessfully() {
         // Given
         Long accountNumber = 1L;
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
-        doNothing().when(accountRepository).deleteById(accountNumber);
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.archiveAccounts(List.of(accountNumber))).thenReturn(1);
+        when(accountRepository.deleteAccount(accountNumber)).thenReturn(1);
 
         // When
         accountService.closeAccount(accountNumber);
 
-        // Then
-        verify(accountRepository, times(1)).findById(accountNumber);
-        verify(accountRepository, times(1)).deleteById(accountNumber);
+        // Then - archived before it is deleted
+        InOrder inOrder = inOrder(accountRepository);
+        inOrder.verify(accountRepository).findByIdForUpdate(accountNumber);
+        inOrder.verify(accountRepository).archiveAccounts(List.of(accountNumber));
+        inOrder.verify(accountRepository).deleteAccount(accountNumber);
+        verify(accountRepository, never()).findById(anyLong());
+        verify(eventPublisher).publishEvent(new AccountEvent(AccountEvent.Type.CLOSED, 1L, "John Doe", null, 5000.0));
+    }
+
+    @Test
+    @DisplayName("Should not publish a close when the archive copies no row")
+    void shouldNotPublishACloseWhenTheArchiveCopiesNoRow() {
+        // Given
+        Long accountNumber = 1L;
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.archiveAccounts(List.of(accountNumber))).thenReturn(0);
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> accountService.closeAccount(accountNumber));
+
+        assertEquals("Account not found", exception.getMessage());
+        verify(accountRepository, never()).deleteAccount(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -246,7 +282,7 @@ public class AccountServiceImplTest {
     void shouldThrowRuntimeExceptionWhenClosingNonExistentAccount() {
         // Given
         Long accountNumber = 999L;
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.empty());
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.empty());
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -254,8 +290,78 @@ public class AccountServiceImplTest {
         });
 
         assertEquals("Account not found", exception.getMessage());
-        verify(accountRepository, times(1)).findById(accountNumber);
-        verify(accountRepository, never()).deleteById(anyLong());
+        verify(accountRepository, never()).archiveAccounts(any());
+        verify(accountRepository, never()).deleteAccount(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should look up accounts in chunks and keep the requested order")
+    void shouldLookUpAccountsInChunksAndKeepTheRequestedOrder() {
+        // Given
+        ReflectionTestUtils.setField(accountService, "batchGetChunkSize", 2);
+        Account first = new Account("John Doe", 10.0);
+        first.setAccountNumber(1L);
+        Account third = new Account("Jane Smith", 30.0);
+        third.setAccountNumber(3L);
+        when(accountRepository.findAllById(List.of(3L, 2L))).thenReturn(List.of(third));
+        when(accountRepository.findAllById(List.of(1L))).thenReturn(List.of(first));
+
+        // When
+        AccountBatchResult result = accountService.getAccountsByAccountNumbers(Arrays.asList(3L, 2L, null, 3L, 1L));
+
+        // Then
+        assertEquals(List.of(third, first), result.accounts());
+        assertEquals(List.of(2L), result.notFound());
+        verify(accountRepository, times(2)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Should reject multi-gets over the size limit")
+    void shouldRejectMultiGetsOverTheSizeLimit() {
+        // Given
+        ReflectionTestUtils.setField(accountService, "batchGetMaxIds", 2);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> accountService.getAccountsByAccountNumbers(List.of(1L, 2L, 3L)));
+        verify(accountRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Should close existing accounts in bulk and report missing ones")
+    void shouldCloseExistingAccountsInBulkAndReportMissingOnes() {
+        // Given
+        Account third = new Account("Jane Smith", 250.0);
+        third.setAccountNumber(3L);
+        when(accountRepository.lockAccounts(List.of(1L, 2L, 3L))).thenReturn(List.of(testAccount, third));
+        when(accountRepository.deleteAccounts(Set.of(1L, 3L))).thenReturn(2);
+
+        // When
+        BulkCloseResult result = accountService.closeAccounts(Arrays.asList(1L, 2L, 1L, null, 3L));
+
+        // Then
+        assertEquals(new BulkCloseResult(3, 2, List.of(2L)), result);
+        verify(accountRepository, times(1)).archiveAccounts(Set.of(1L, 3L));
+        verify(accountRepository, times(1)).deleteAccounts(Set.of(1L, 3L));
+        verify(eventPublisher).publishEvent(new AccountEvent(AccountEvent.Type.CLOSED, 1L, "John Doe", null, 5000.0));
+        verify(eventPublisher).publishEvent(new AccountEvent(AccountEvent.Type.CLOSED, 3L, "Jane Smith", null, 250.0));
+        verify(eventPublisher, times(2)).publishEvent(any(AccountEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should skip the delete when no account in a bulk close exists")
+    void shouldSkipTheDeleteWhenNoAccountInABulkCloseExists() {
+        // Given
+        when(accountRepository.lockAccounts(List.of(998L, 999L))).thenReturn(List.of());
+
+        // When
+        BulkCloseResult result = accountService.closeAccounts(List.of(998L, 999L));
+
+        // Then
+        assertEquals(new BulkCloseResult(2, 0, List.of(998L, 999L)), result);
+        verify(accountRepository, never()).archiveAccounts(any());
+        verify(accountRepository, never()).deleteAccounts(any());
     }
 
     @Test
@@ -266,7 +372,7 @@ public class AccountServiceImplTest {
         Double depositAmount = 0.0;
         Double expectedBalance = 5000.0; // Should remain the same
         
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When
@@ -275,7 +381,7 @@ public class AccountServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals(expectedBalance, result.getAccountBalance());
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(1)).save(testAccount);
     }
 
@@ -287,7 +393,7 @@ public class AccountServiceImplTest {
         Double withdrawAmount = 0.0;
         Double expectedBalance = 5000.0; // Should remain the same
         
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When
@@ -296,7 +402,7 @@ public class AccountServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals(expectedBalance, result.getAccountBalance());
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(1)).save(testAccount);
     }
 
@@ -308,7 +414,7 @@ public class AccountServiceImplTest {
         Double depositAmount = -1000.0; // Negative deposit (should reduce balance)
         Double expectedBalance = 4000.0;
         
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When
@@ -317,7 +423,61 @@ public class AccountServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals(expectedBalance, result.getAccountBalance());
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(1)).save(testAccount);
     }
+
+    @Test
+    @DisplayName("Should reject withdrawal over the limit without touching the repository")
+    void shouldRejectWithdrawalOverTheLimitWithoutTouchingTheRepository() {
+        // Given
+        doThrow(new WithdrawalLimitExceededException("Daily withdrawal limit exceeded"))
+                .when(withdrawalLimiter).reserve(1L, 50000.0);
+
+        // When & Then
+        assertThrows(WithdrawalLimitExceededException.class, () -> accountService.withdrawAmount(1L, 50000.0));
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    @DisplayName("Should record successful withdrawal and release failed one")
+    void shouldRecordSuccessfulWithdrawalAndReleaseFailedOne() {
+        // Given
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
+        when(accountRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
+        when(withdrawalLimiter.reserve(anyLong(), anyDouble())).thenReturn(42L);
+
+        // When
+        accountService.withdrawAmount(1L, 100.0);
+        assertThrows(RuntimeException.class, () -> accountService.withdrawAmount(999L, 100.0));
+
+        // Then
+        verify(withdrawalLimiter).record(1L, 100.0);
+        verify(withdrawalLimiter, never()).release(eq(1L), eq(100.0), anyLong());
+        verify(withdrawalLimiter).release(999L, 100.0, 42L);
+        verify(withdrawalLimiter, never()).record(999L, 100.0);
+    }
+
+    @Test
+    @DisplayName("Should publish an event for each successful mutation")
+    void shouldPublishAnEventForEachSuccessfulMutation() {
+        // Given
+        when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.archiveAccounts(List.of(1L))).thenReturn(1);
+        when(accountRepository.deleteAccount(1L)).thenReturn(1);
+
+        // When
+        accountService.createAccount(new Account("John Doe", 5000.0));
+        accountService.depositAmount(1L, 100.0);
+        accountService.withdrawAmount(1L, 40.0);
+        accountService.closeAccount(1L);
+
+        // Then
+        verify(eventPublisher).publishEvent(new AccountEvent(AccountEvent.Type.CREATED, 1L, "John Doe", null, 5000.0));
+        verify(eventPublisher).publishEvent(new AccountEvent(AccountEvent.Type.DEPOSITED, 1L, "John Doe", 100.0, 5100.0));
+        verify(eventPublisher).publishEvent(new AccountEvent(AccountEvent.Type.WITHDRAWN, 1L, "John Doe", 40.0, 5060.0));
+        verify(eventPublisher).publishEvent(new AccountEvent(AccountEvent.Type.CLOSED, 1L, "John Doe", null, 5060.0));
+    }
 }
@@ -1,5 +1,6 @@
 package bank.app.BankManagementApp.service;
 
+import bank.app.BankManagementApp.config.ReadYourWritesTracker;
 import bank.app.BankManagementApp.entity.Account;
 import bank.app.BankManagementApp.repository.AccountRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -24,6 +26,15 @@ public class AccountServiceValidationTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private WithdrawalLimiter withdrawalLimiter;
+
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AccountServiceImpl accountService;
 
@@ -89,7 +100,7 @@ public class AccountServiceValidationTest {
         // Given
         Long accountNumber = 1L;
         Double largeAmount = Double.MAX_VALUE;
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When
@@ -97,7 +108,7 @@ public class AccountServiceValidationTest {
 
         // Then
         assertNotNull(result);
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(1)).save(testAccount);
     }
 
@@ -107,7 +118,7 @@ public class AccountServiceValidationTest {
         // Given
         Long accountNumber = 1L;
         Double largeAmount = Double.MAX_VALUE;
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When
@@ -115,7 +126,7 @@ public class AccountServiceValidationTest {
 
         // Then
         assertNotNull(result);
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(1)).save(testAccount);
     }
 
@@ -125,7 +136,7 @@ public class AccountServiceValidationTest {
         // Given
         Long accountNumber = 1L;
         Double preciseAmount = 0.01;
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When
@@ -133,7 +144,7 @@ public class AccountServiceValidationTest {
 
         // Then
         assertNotNull(result);
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(1)).save(testAccount);
     }
 
@@ -143,7 +154,7 @@ public class AccountServiceValidationTest {
         // Given
         Long accountNumber = 1L;
         Double smallAmount = Double.MIN_VALUE;
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When
@@ -151,7 +162,7 @@ public class AccountServiceValidationTest {
 
         // Then
         assertNotNull(result);
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(1)).save(testAccount);
     }
 
@@ -211,7 +222,7 @@ public class AccountServiceValidationTest {
     void shouldHandleMultipleOperationsOnSameAccount() {
         // Given
         Long accountNumber = 1L;
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When - Perform multiple operations
@@ -221,7 +232,7 @@ public class AccountServiceValidationTest {
         accountService.withdrawAmount(accountNumber, 25.0);
 
         // Then
-        verify(accountRepository, times(4)).findById(accountNumber);
+        verify(accountRepository, times(4)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(4)).save(testAccount);
     }
 
@@ -231,7 +242,7 @@ public class AccountServiceValidationTest {
         // Given
         Long accountNumber = 1L;
         Double nanAmount = Double.NaN;
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When
@@ -239,7 +250,7 @@ public class AccountServiceValidationTest {
 
         // Then
         assertNotNull(result);
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(1)).save(testAccount);
     }
 
@@ -249,7 +260,7 @@ public class AccountServiceValidationTest {
         // Given
         Long accountNumber = 1L;
         Double infinityAmount = Double.POSITIVE_INFINITY;
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When
@@ -257,7 +268,7 @@ public class AccountServiceValidationTest {
 
         // Then
         assertNotNull(result);
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(1)).save(testAccount);
     }
 
@@ -267,7 +278,7 @@ public class AccountServiceValidationTest {
         // Given
         Long accountNumber = 1L;
         Double negativeInfinityAmount = Double.NEGATIVE_INFINITY;
-        when(accountRepository.findById(accountNumber)).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIdForUpdate(accountNumber)).thenReturn(Optional.of(testAccount));
         when(accountRepository.save(any(Account.class))).thenReturn(testAccount);
 
         // When
@@ -275,7 +286,7 @@ public class AccountServiceValidationTest {
 
         // Then
         assertNotNull(result);
-        verify(accountRepository, times(1)).findById(accountNumber);
+        verify(accountRepository, times(1)).findByIdForUpdate(accountNumber);
         verify(accountRepository, times(1)).save(testAccount);
     }
 }
@@ -0,0 +1,150 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statsdb;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "bank.stats.reconcile-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@DisplayName("AccountStatistics Tests")
+public class AccountStatisticsTest {
+
+    @Autowired
+    private AccountStatistics statistics;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.deleteAllInBatch();
+        statistics.reconcile();
+    }
+
+    private List<Long> histogram() {
+        return statistics.getStats().balanceHistogram().stream().map(AccountStats.Bucket::count).toList();
+    }
+
+    @Test
+    @DisplayName("Should place balances in the fixed buckets")
+    void shouldPlaceBalancesInTheFixedBuckets() {
+        assertEquals(0, AccountStatistics.bucketOf(-0.01));
+        assertEquals(1, AccountStatistics.bucketOf(0));
+        assertEquals(1, AccountStatistics.bucketOf(99.99));
+        assertEquals(2, AccountStatistics.bucketOf(100));
+        assertEquals(6, AccountStatistics.bucketOf(1_000_000));
+    }
+
+    @Test
+    @DisplayName("Should track creates, deposits and withdrawals without querying")
+    void shouldTrackCreatesDepositsAndWithdrawalsWithoutQuerying() {
+        Long first = accountService.createAccount(new Account("John Doe", 50.0)).getAccountNumber();
+        accountService.createAccount(new Account("Jane Smith", 5_000.0));
+
+        accountService.depositAmount(first, 60.0);
+        accountService.withdrawAmount(first, 10.5);
+
+        AccountStats stats = statistics.getStats();
+        assertEquals(2, stats.accountCount());
+        assertEquals(5_099.5, stats.totalBalance());
+        assertEquals(List.of(0L, 1L, 0L, 1L, 0L, 0L, 0L), histogram());
+        assertNull(stats.balanceHistogram().get(0).lowerBound());
+        assertEquals(0.0, stats.balanceHistogram().get(0).upperBound());
+        assertNull(stats.balanceHistogram().get(6).upperBound());
+    }
+
+    @Test
+    @DisplayName("Should subtract closed accounts without querying")
+    void shouldSubtractClosedAccountsWithoutQuerying() {
+        Long closed = accountService.createAccount(new Account("John Doe", 250.0)).getAccountNumber();
+        Long bulkClosed = accountService.createAccount(new Account("Jim Beam", 20_000.0)).getAccountNumber();
+        accountService.createAccount(new Account("Jane Smith", 10.0));
+
+        accountService.closeAccount(closed);
+        accountService.closeAccounts(List.of(bulkClosed));
+
+        assertEquals(10.0, statistics.getStats().totalBalance());
+        assertEquals(List.of(0L, 1L, 0L, 0L, 0L, 0L, 0L), histogram());
+        assertEquals(1, statistics.getStats().accountCount());
+    }
+
+    @Test
+    @DisplayName("Should correct drift from changes made outside the service")
+    void shouldCorrectDriftFromChangesMadeOutsideTheService() {
+        accountService.createAccount(new Account("John Doe", 100.0));
+        jdbcTemplate.update("insert into account (account_number, account_holder_name, account_balance) values (?, ?, ?)",
+                AccountNumberGenerator.withCheckDigit(999_999), "Imported", -20.0);
+        assertEquals(1, statistics.getStats().accountCount());
+
+        statistics.reconcile();
+
+        AccountStats stats = statistics.getStats();
+        assertEquals(2, stats.accountCount());
+        assertEquals(80.0, stats.totalBalance());
+        assertEquals(List.of(1L, 0L, 1L, 0L, 0L, 0L, 0L), histogram());
+        assertNotNull(stats.lastReconciledAt());
+    }
+
+    @Test
+    @DisplayName("Should not count a change twice when it is committed while a reconcile runs")
+    void shouldNotCountAChangeTwiceWhenItIsCommittedWhileAReconcileRuns() {
+        // Given - the aggregate already sees the new row, but its event has not been applied yet
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            accountService.createAccount(new Account("John Doe", 100.0));
+            accountRepository.flush();
+
+            // When
+            statistics.reconcile();
+        });
+
+        // Then
+        AccountStats stats = statistics.getStats();
+        assertEquals(1, stats.accountCount());
+        assertEquals(100.0, stats.totalBalance());
+    }
+
+    @Test
+    @DisplayName("Should still correct drift while changes keep arriving")
+    void shouldStillCorrectDriftWhileChangesKeepArriving() {
+        // Given - a row no event reported, and a change still in flight during every reconcile attempt
+        jdbcTemplate.update("insert into account (account_number, account_holder_name, account_balance) values (?, ?, ?)",
+                AccountNumberGenerator.withCheckDigit(999_998), "Imported", 500.0);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            accountService.createAccount(new Account("John Doe", 100.0));
+
+            // When
+            statistics.reconcile();
+        });
+
+        // Then
+        AccountStats stats = statistics.getStats();
+        assertEquals(2, stats.accountCount());
+        assertEquals(600.0, stats.totalBalance());
+        assertEquals(List.of(0L, 0L, 2L, 0L, 0L, 0L, 0L), histogram());
+    }
+}
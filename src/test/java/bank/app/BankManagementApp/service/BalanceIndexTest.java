@@ -0,0 +1,100 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.entity.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BalanceIndex Tests")
+public class BalanceIndexTest {
+
+    private BalanceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BalanceIndex();
+        index.put(1L, "John Doe", 500.0);
+        index.put(2L, "Jane Smith", 50.0);
+        index.put(3L, "Bob Brown", 5_000.0);
+        index.put(4L, "Ann Lee", 500.0);
+        index.put(5L, "Tom Hill", -20.0);
+    }
+
+    private List<Long> accountNumbers(List<Account> accounts) {
+        return accounts.stream().map(Account::getAccountNumber).toList();
+    }
+
+    @Test
+    @DisplayName("Should return an inclusive range in balance order")
+    void shouldReturnAnInclusiveRangeInBalanceOrder() {
+        assertEquals(List.of(2L, 1L, 4L), accountNumbers(index.findByBalanceRange(50, 500, 0, 10)));
+        assertEquals(List.of(5L), accountNumbers(index.findByBalanceRange(-100, 0, 0, 10)));
+        assertTrue(index.findByBalanceRange(10_000, 20_000, 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should page through a range")
+    void shouldPageThroughARange() {
+        assertEquals(List.of(5L, 2L), accountNumbers(index.findByBalanceRange(-100, 10_000, 0, 2)));
+        assertEquals(List.of(1L, 4L), accountNumbers(index.findByBalanceRange(-100, 10_000, 2, 2)));
+        assertEquals(List.of(3L), accountNumbers(index.findByBalanceRange(-100, 10_000, 4, 2)));
+    }
+
+    @Test
+    @DisplayName("Should page through a range with a cursor")
+    void shouldPageThroughARangeWithACursor() {
+        assertEquals(List.of(2L, 1L), accountNumbers(index.findByBalanceRangeAfter(0, 10_000, -20.0, 5L, 2)));
+        assertEquals(List.of(4L, 3L), accountNumbers(index.findByBalanceRangeAfter(0, 10_000, 500.0, 1L, 2)));
+        // A cursor below the range starts at its lower bound, one at or above it ends the range
+        assertEquals(List.of(2L), accountNumbers(index.findByBalanceRangeAfter(0, 100, -1_000.0, 0L, 10)));
+        assertTrue(index.findByBalanceRangeAfter(0, 100, 50.0, 2L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should take the lowest account numbers of a tie at the cut-off")
+    void shouldTakeTheLowestAccountNumbersOfATieAtTheCutOff() {
+        for (long accountNumber = 100; accountNumber < 110; accountNumber++) {
+            index.put(accountNumber, "Holder " + accountNumber, 500.0);
+        }
+
+        assertEquals(List.of(3L, 1L, 4L, 100L), accountNumbers(index.findTopBalances(4)));
+        assertEquals(List.of(3L), accountNumbers(index.findTopBalances(1)));
+    }
+
+    @Test
+    @DisplayName("Should return the highest balances first")
+    void shouldReturnTheHighestBalancesFirst() {
+        List<Account> top = index.findTopBalances(3);
+
+        assertEquals(List.of(3L, 1L, 4L), accountNumbers(top));
+        assertEquals("Bob Brown", top.get(0).getAccountHolderName());
+        assertEquals(5_000.0, top.get(0).getAccountBalance());
+    }
+
+    @Test
+    @DisplayName("Should move an account when its balance changes")
+    void shouldMoveAnAccountWhenItsBalanceChanges() {
+        // When
+        index.onAccountEvent(new AccountEvent(AccountEvent.Type.DEPOSITED, 2L, "Jane Smith", 9_950.0, 10_000.0));
+
+        // Then
+        assertEquals(List.of(2L, 3L), accountNumbers(index.findTopBalances(2)));
+        assertTrue(accountNumbers(index.findByBalanceRange(0, 1_000, 0, 10)).stream().noneMatch(n -> n == 2L));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    @DisplayName("Should drop closed accounts")
+    void shouldDropClosedAccounts() {
+        // When
+        index.onAccountEvent(new AccountEvent(AccountEvent.Type.CLOSED, 3L, null, null, null));
+
+        // Then
+        assertEquals(List.of(1L, 4L), accountNumbers(index.findTopBalances(2)));
+        assertEquals(4, index.size());
+    }
+}
@@ -0,0 +1,111 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.entity.Account;
+import bank.app.BankManagementApp.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:balancedb;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+@ActiveProfiles("test")
+@DisplayName("BalanceQueryService Tests")
+public class BalanceQueryServiceTest {
+
+    @Autowired
+    private BalanceQueryService balanceQueryService;
+
+    @Autowired
+    private BalanceIndex balanceIndex;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.deleteAllInBatch();
+        balanceIndex.rebuild();
+    }
+
+    private List<Long> accountNumbers(List<Account> accounts) {
+        return accounts.stream().map(Account::getAccountNumber).toList();
+    }
+
+    @Test
+    @DisplayName("Should answer from the index exactly as the database would")
+    void shouldAnswerFromTheIndexExactlyAsTheDatabaseWould() {
+        // Given
+        for (int i = 0; i < 200; i++) {
+            accountService.createAccount(new Account("Holder " + i, (double) ((i * 37) % 1_000)));
+        }
+        Long moved = accountService.createAccount(new Account("Mover", 10.0)).getAccountNumber();
+        accountService.depositAmount(moved, 5_000.0);
+        Long closed = accountService.createAccount(new Account("Closer", 9_000.0)).getAccountNumber();
+        accountService.closeAccount(closed);
+
+        // When
+        List<Account> range = balanceQueryService.findByBalanceRange(100, 300, 1, 20);
+        List<Account> top = balanceQueryService.findTopBalances(10);
+
+        // Then
+        assertEquals(accountNumbers(accountRepository.findByAccountBalanceBetweenOrderByAccountBalanceAscAccountNumberAsc(
+                100.0, 300.0, PageRequest.of(1, 20))), accountNumbers(range));
+        assertEquals(accountNumbers(accountRepository.findByAccountBalanceNotNullOrderByAccountBalanceDescAccountNumberAsc(
+                PageRequest.of(0, 10))), accountNumbers(top));
+        assertEquals(moved, top.get(0).getAccountNumber());
+        assertEquals(5_010.0, top.get(0).getAccountBalance());
+    }
+
+    @Test
+    @DisplayName("Should page with a cursor from the index and the database alike")
+    void shouldPageWithACursorFromTheIndexAndTheDatabaseAlike() {
+        // Given
+        for (int i = 0; i < 60; i++) {
+            accountService.createAccount(new Account("Holder " + i, (double) (i % 7)));
+        }
+        List<Account> firstPage = balanceQueryService.findByBalanceRange(1, 5, 0, 20);
+        Account last = firstPage.get(firstPage.size() - 1);
+
+        // When
+        List<Account> fromIndex = balanceQueryService.findByBalanceRangeAfter(1, 5, last.getAccountBalance(),
+                last.getAccountNumber(), 20);
+        List<Account> fromDatabase = accountRepository.findBalanceRangeAfter(1.0, 5.0, last.getAccountBalance(),
+                last.getAccountNumber(), PageRequest.of(0, 20));
+
+        // Then
+        assertEquals(accountNumbers(balanceQueryService.findByBalanceRange(1, 5, 1, 20)), accountNumbers(fromIndex));
+        assertEquals(accountNumbers(fromIndex), accountNumbers(fromDatabase));
+    }
+
+    @Test
+    @DisplayName("Should reject a page deeper than the maximum offset")
+    void shouldRejectAPageDeeperThanTheMaximumOffset() {
+        assertThrows(IllegalArgumentException.class, () -> balanceQueryService.findByBalanceRange(0, 10, 101, 100));
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted range")
+    void shouldRejectAnInvertedRange() {
+        assertThrows(IllegalArgumentException.class, () -> balanceQueryService.findByBalanceRange(10, 5, 0, 10));
+    }
+
+    @Test
+    @DisplayName("Should reject a page beyond the addressable range")
+    void shouldRejectAPageBeyondTheAddressableRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> balanceQueryService.findByBalanceRange(0, 10, Integer.MAX_VALUE / 10, 100));
+    }
+}
@@ -0,0 +1,114 @@
+package bank.app.BankManagementApp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HolderNameIndex Tests")
+public class HolderNameIndexTest {
+
+    private HolderNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new HolderNameIndex();
+        ReflectionTestUtils.setField(index, "minSimilarity", 0.3);
+        index.add(1L, "John Smith");
+        index.add(2L, "Jane Smithson");
+        index.add(3L, "José Álvarez");
+        index.add(4L, "Johnny Smith");
+        index.add(5L, "Mary Brown");
+    }
+
+    private List<Long> accountNumbers(List<HolderNameIndex.Match> matches) {
+        return matches.stream().map(HolderNameIndex.Match::accountNumber).toList();
+    }
+
+    @Test
+    @DisplayName("Should normalize case, accents and punctuation")
+    void shouldNormalizeCaseAccentsAndPunctuation() {
+        assertEquals("jose alvarez", HolderNameIndex.normalize("  José  ÁLVAREZ "));
+        assertEquals("o brien j", HolderNameIndex.normalize("O'Brien, J."));
+    }
+
+    @Test
+    @DisplayName("Should rank the closest name first despite typos")
+    void shouldRankTheClosestNameFirstDespiteTypos() {
+        // When
+        List<HolderNameIndex.Match> matches = index.search("jon smith", 0, 10);
+
+        // Then
+        assertEquals(1L, matches.get(0).accountNumber());
+        assertTrue(accountNumbers(matches).contains(4L));
+        assertFalse(accountNumbers(matches).contains(5L));
+        for (int i = 1; i < matches.size(); i++) {
+            assertTrue(matches.get(i - 1).score() >= matches.get(i).score());
+        }
+    }
+
+    @Test
+    @DisplayName("Should match accented names from unaccented queries")
+    void shouldMatchAccentedNamesFromUnaccentedQueries() {
+        List<HolderNameIndex.Match> matches = index.search("jose alvares", 0, 10);
+
+        assertEquals(3L, matches.get(0).accountNumber());
+        assertEquals("José Álvarez", matches.get(0).accountHolderName());
+    }
+
+    @Test
+    @DisplayName("Should page through ranked matches")
+    void shouldPageThroughRankedMatches() {
+        // Given
+        List<Long> all = accountNumbers(index.search("smith", 0, 10));
+
+        // When
+        List<Long> first = accountNumbers(index.search("smith", 0, 2));
+        List<Long> second = accountNumbers(index.search("smith", 2, 2));
+
+        // Then
+        assertEquals(3, all.size());
+        assertEquals(all.subList(0, 2), first);
+        assertEquals(all.subList(2, 3), second);
+        assertTrue(index.search("smith", 10, 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stop returning removed accounts")
+    void shouldStopReturningRemovedAccounts() {
+        // When
+        index.remove(1L);
+
+        // Then
+        assertFalse(accountNumbers(index.search("john smith", 0, 10)).contains(1L));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    @DisplayName("Should count every candidate when many names share common trigrams")
+    void shouldCountEveryCandidateWhenManyNamesShareCommonTrigrams() {
+        // Given - more candidates than the counting table starts with
+        for (long accountNumber = 1_000; accountNumber < 71_000; accountNumber++) {
+            index.add(accountNumber, "Smith " + accountNumber);
+        }
+
+        // When
+        List<HolderNameIndex.Match> matches = index.search("smith 1000", 0, 100_000);
+
+        // Then
+        assertEquals(1_000L, matches.get(0).accountNumber());
+        assertEquals(1.0, matches.get(0).score());
+        assertTrue(matches.stream().allMatch(match -> match.score() >= 0.3));
+        assertTrue(matches.size() > 65_536);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for blank queries")
+    void shouldReturnNothingForBlankQueries() {
+        assertTrue(index.search(" ,. ", 0, 10).isEmpty());
+    }
+}
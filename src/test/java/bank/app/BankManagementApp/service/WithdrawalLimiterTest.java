@@ -0,0 +1,250 @@
+package bank.app.BankManagementApp.service;
+
+import bank.app.BankManagementApp.entity.WithdrawalRecord;
+import bank.app.BankManagementApp.repository.WithdrawalRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("WithdrawalLimiter Tests")
+public class WithdrawalLimiterTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private WithdrawalRecordRepository repository;
+    private WithdrawalLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(WithdrawalRecordRepository.class);
+        limiter = new WithdrawalLimiter(1000.0, 3000.0, now::get);
+        ReflectionTestUtils.setField(limiter, "withdrawalRecordRepository", repository);
+    }
+
+    @Test
+    @DisplayName("Should reject withdrawals over the per-minute limit until the minute slides")
+    void shouldRejectWithdrawalsOverThePerMinuteLimitUntilTheMinuteSlides() {
+        limiter.reserve(1L, 600.0);
+        limiter.reserve(1L, 400.0);
+
+        WithdrawalLimitExceededException exception = assertThrows(WithdrawalLimitExceededException.class,
+                () -> limiter.reserve(1L, 0.01));
+        assertEquals("Per-minute withdrawal limit exceeded", exception.getMessage());
+
+        // Other accounts are unaffected
+        limiter.reserve(2L, 1000.0);
+
+        now.addAndGet(MINUTE + 1);
+        limiter.reserve(1L, 1000.0);
+    }
+
+    @Test
+    @DisplayName("Should reject an amount too large for the windows without counting it")
+    void shouldRejectAnAmountTooLargeForTheWindowsWithoutCountingIt() {
+        // Given - only a daily limit, so the per-minute window would take any amount
+        WithdrawalLimiter dailyOnly = new WithdrawalLimiter(0, 3000.0, now::get);
+
+        // When & Then - 2^40 cents would wrap a bucket negative and pass the check
+        assertThrows(WithdrawalLimitExceededException.class, () -> dailyOnly.reserve(1L, 11_000_000_000.0));
+        assertThrows(WithdrawalLimitExceededException.class, () -> dailyOnly.reserve(1L, Double.MAX_VALUE));
+        dailyOnly.reserve(1L, 3000.0);
+        assertThrows(WithdrawalLimitExceededException.class, () -> dailyOnly.reserve(1L, 0.01));
+    }
+
+    @Test
+    @DisplayName("Should refuse limits the windows cannot represent")
+    void shouldRefuseLimitsTheWindowsCannotRepresent() {
+        assertThrows(IllegalArgumentException.class, () -> new WithdrawalLimiter(0, 5e9, now::get));
+    }
+
+    @Test
+    @DisplayName("Should enforce the rolling daily limit across minutes")
+    void shouldEnforceTheRollingDailyLimitAcrossMinutes() {
+        for (int i = 0; i < 3; i++) {
+            limiter.reserve(1L, 1000.0);
+            now.addAndGet(HOUR);
+        }
+
+        WithdrawalLimitExceededException exception = assertThrows(WithdrawalLimitExceededException.class,
+                () -> limiter.reserve(1L, 1.0));
+        assertEquals("Daily withdrawal limit exceeded", exception.getMessage());
+
+        // First withdrawal leaves the 24 hour window
+        now.addAndGet(21 * HOUR + 1);
+        limiter.reserve(1L, 1000.0);
+    }
+
+    @Test
+    @DisplayName("Should not count rejected or released withdrawals")
+    void shouldNotCountRejectedOrReleasedWithdrawals() {
+        assertThrows(WithdrawalLimitExceededException.class, () -> limiter.reserve(1L, 1500.0));
+        long reservedAt = limiter.reserve(1L, 800.0);
+        limiter.release(1L, 800.0, reservedAt);
+
+        limiter.reserve(1L, 1000.0);
+    }
+
+    @Test
+    @DisplayName("Should release a reservation from the bucket it was made in")
+    void shouldReleaseFromTheReservationBucket() {
+        // Given - a reservation at the end of one 5 second bucket, released after the next one starts
+        now.set(now.get() / 5_000 * 5_000 + 4_999);
+        limiter.reserve(1L, 300.0);
+        long reservedAt = limiter.reserve(1L, 700.0);
+        now.addAndGet(2);
+
+        // When
+        limiter.release(1L, 700.0, reservedAt);
+
+        // Then - 700 is available again, but the 300 still counts
+        limiter.reserve(1L, 700.0);
+        assertThrows(WithdrawalLimitExceededException.class, () -> limiter.reserve(1L, 0.01));
+    }
+
+    @Test
+    @DisplayName("Should ignore zero and negative amounts")
+    void shouldIgnoreZeroAndNegativeAmounts() {
+        limiter.reserve(1L, 0.0);
+        limiter.reserve(1L, -5000.0);
+        limiter.record(1L, -5000.0);
+
+        limiter.reserve(1L, 1000.0);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should be a no-op when both limits are disabled")
+    void shouldBeANoOpWhenBothLimitsAreDisabled() {
+        WithdrawalLimiter disabled = new WithdrawalLimiter(0, 0, now::get);
+        ReflectionTestUtils.setField(disabled, "withdrawalRecordRepository", repository);
+
+        disabled.reserve(1L, 1_000_000.0);
+        disabled.record(1L, 1_000_000.0);
+        disabled.rebuildFromHistory();
+
+        assertEquals(0, disabled.trackedAccounts());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should persist accepted withdrawals with the current time")
+    void shouldPersistAcceptedWithdrawalsWithTheCurrentTime() {
+        List<WithdrawalRecord> saved = new ArrayList<>();
+        when(repository.save(any(WithdrawalRecord.class))).thenAnswer(i -> {
+            saved.add(i.getArgument(0));
+            return i.getArgument(0);
+        });
+
+        limiter.record(7L, 250.0);
+
+        assertEquals(1, saved.size());
+        assertEquals(7L, saved.get(0).getAccountNumber());
+        assertEquals(250.0, saved.get(0).getAmount());
+        assertEquals(Instant.ofEpochMilli(now.get()), saved.get(0).getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Should rebuild windows from history on startup")
+    void shouldRebuildWindowsFromHistoryOnStartup() {
+        Instant current = Instant.ofEpochMilli(now.get());
+        when(repository.streamByCreatedAtAfter(current.minusMillis(TimeUnit.DAYS.toMillis(1)))).thenReturn(Stream.of(
+                new WithdrawalRecord(1L, 2000.0, current.minusMillis(5 * HOUR)),
+                new WithdrawalRecord(1L, 900.0, current.minusMillis(10_000)),
+                new WithdrawalRecord(2L, 100.0, current.minusMillis(10_000))));
+
+        limiter.rebuildFromHistory();
+
+        assertThrows(WithdrawalLimitExceededException.class, () -> limiter.reserve(1L, 200.0));
+        limiter.reserve(1L, 100.0);
+        limiter.reserve(2L, 900.0);
+        assertEquals(2, limiter.trackedAccounts());
+    }
+
+    @Test
+    @DisplayName("Should evict accounts idle for a full day")
+    void shouldEvictAccountsIdleForAFullDay() {
+        limiter.reserve(1L, 100.0);
+        now.addAndGet(12 * HOUR);
+        limiter.reserve(2L, 100.0);
+        now.addAndGet(12 * HOUR + 1);
+
+        limiter.evictIdle();
+
+        assertEquals(1, limiter.trackedAccounts());
+    }
+
+    @Test
+    @DisplayName("Should never admit more than the limit under concurrent withdrawals")
+    void shouldNeverAdmitMoreThanTheLimitUnderConcurrentWithdrawals() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 500; i++) {
+                        try {
+                            limiter.reserve(1L, 1.0);
+                            admitted.incrementAndGet();
+                        } catch (WithdrawalLimitExceededException ignored) {
+                            // expected once the limit is reached
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        }
+
+        assertTrue(admitted.get() <= 1000, "Admitted " + admitted.get());
+        assertTrue(admitted.get() > 0);
+    }
+
+    @Test
+    @DisplayName("Should sum only buckets inside the sliding window")
+    void shouldSumOnlyBucketsInsideTheSlidingWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(60_000, 12);
+        counter.add(0, 100);
+        counter.add(30_000, 200);
+        counter.add(59_999, 300);
+
+        assertEquals(600, counter.sum(59_999));
+        assertEquals(500, counter.sum(60_000));
+        assertEquals(0, counter.sum(200_000));
+        assertTrue(counter.isIdle(200_000));
+
+        // A late add for an expired bucket must not overwrite a newer one
+        counter.add(200_000, 50);
+        counter.add(140_000, 999);
+        assertEquals(50, counter.sum(200_000));
+
+        // The first add to an unused slot counts even when its bucket tag is in the upper half
+        SlidingWindowCounter fresh = new SlidingWindowCounter(60_000, 12);
+        long upperHalf = 5_000L * ((1 << 23) + 5);
+        fresh.add(upperHalf, 100);
+        assertEquals(100, fresh.sum(upperHalf));
+    }
+}
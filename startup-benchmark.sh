@@ -0,0 +1,87 @@
+#!/bin/bash
+
+# Startup Benchmark Script
+# Measures time from JVM launch to the first successful GET /account/{id}.
+#
+# Usage: ./startup-benchmark.sh [jar|cds|native] [runs]
+#   jar    - plain fat jar            (mvn package)
+#   cds    - AOT + AppCDS archive     (mvn -Pfast-startup package)
+#   native - GraalVM native image     (mvn -Pnative native:compile)
+#
+# Environment: PORT (default 8085), BUDGET_MS (default 1000)
+
+MODE=${1:-cds}
+RUNS=${2:-5}
+PORT=${PORT:-8085}
+BUDGET_MS=${BUDGET_MS:-1000}
+TARGET=target
+BASE_URL="http://localhost:$PORT/account"
+
+case "$MODE" in
+    jar)
+        # The fast-startup profile keeps the thin jar and moves the fat jar to the -exec classifier
+        JAR=$TARGET/bank-management-app-0.0.1-SNAPSHOT-exec.jar
+        [ -f "$JAR" ] || JAR=$TARGET/bank-management-app-0.0.1-SNAPSHOT.jar
+        CMD="java -jar $JAR"
+        ;;
+    cds)
+        if [ ! -f "$TARGET/cds/app.jsa" ]; then
+            echo "❌ Error: $TARGET/cds/app.jsa not found, run: mvn -Pfast-startup package"
+            exit 1
+        fi
+        CMD="java -XX:SharedArchiveFile=$TARGET/cds/app.jsa -Xlog:cds=error -Dspring.aot.enabled=true \
+            -cp $TARGET/bank-management-app-0.0.1-SNAPSHOT.jar:$TARGET/cds/lib/* \
+            bank.app.BankManagementApp.BankManagementAppApplication"
+        ;;
+    native)
+        CMD="$TARGET/bank-management-app"
+        ;;
+    *)
+        echo "❌ Error: unknown mode '$MODE' (expected jar, cds or native)"
+        exit 1
+        ;;
+esac
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+TOTAL=0
+WORST=0
+for RUN in $(seq 1 "$RUNS"); do
+    START=$(now_ms)
+    $CMD --server.port=$PORT --spring.jpa.show-sql=false --logging.level.root=WARN >/dev/null 2>&1 &
+    APP_PID=$!
+
+    # Seed one account as soon as the server accepts requests, then time the first lookup
+    ID=""
+    while [ -z "$ID" ]; do
+        if ! kill -0 $APP_PID 2>/dev/null; then
+            echo "❌ Error: application exited during startup"
+            exit 1
+        fi
+        ID=$(curl -s -X POST "$BASE_URL/create" -H 'Content-Type: application/json' \
+            -d '{"accountHolderName":"Startup Probe","accountBalance":0.0}' \
+            | sed -n 's/.*"accountNumber":\([0-9]*\).*/\1/p')
+        [ -z "$ID" ] && sleep 0.01
+    done
+    until curl -sf "$BASE_URL/$ID" >/dev/null; do
+        sleep 0.01
+    done
+    ELAPSED=$(( $(now_ms) - START ))
+
+    kill $APP_PID
+    wait $APP_PID 2>/dev/null
+
+    echo "Run $RUN: ${ELAPSED} ms to first successful GET /account/$ID"
+    TOTAL=$(( TOTAL + ELAPSED ))
+    [ $ELAPSED -gt $WORST ] && WORST=$ELAPSED
+done
+
+echo "=================================="
+echo "Mode: $MODE, runs: $RUNS, average: $(( TOTAL / RUNS )) ms, worst: $WORST ms, budget: $BUDGET_MS ms"
+if [ $WORST -gt $BUDGET_MS ]; then
+    echo "⚠️  Startup budget exceeded"
+    exit 2
+fi
+echo "✅ Within startup budget"